@@ -0,0 +1,14 @@
+#!/bin/bash
+# CRaC checkpoint 이미지 생성
+# 사용법: scripts/crac-checkpoint.sh k8s-vga-worker1:5000/group1-team2-account-app
+set -euo pipefail
+
+IMAGE=${1:?image name required}
+CONTAINER=accounts-crac-checkpoint
+
+docker rm -f "$CONTAINER" >/dev/null 2>&1 || true
+# checkpoint 생성 시에는 외부 의존성(eureka, config server, rabbitmq) 연결 전 단계(onRefresh)에서 프로세스가 종료된다.
+docker run --name "$CONTAINER" --privileged "$IMAGE:crac-base" || true
+docker commit --change 'ENTRYPOINT ["sh", "entrypoint.sh"]' "$CONTAINER" "$IMAGE:crac"
+docker rm "$CONTAINER" >/dev/null
+echo "Created $IMAGE:crac"
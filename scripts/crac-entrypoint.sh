@@ -0,0 +1,10 @@
+#!/bin/sh
+# checkpoint 가 있으면 restore, 없으면 context refresh 직후(외부 연결 시작 전) checkpoint 생성
+CHECKPOINT_DIR=/application/checkpoint
+
+if [ -d "$CHECKPOINT_DIR" ] && [ -n "$(ls -A "$CHECKPOINT_DIR")" ]; then
+    exec java -XX:CRaCRestoreFrom="$CHECKPOINT_DIR" $JAVA_OPTS
+fi
+
+mkdir -p "$CHECKPOINT_DIR"
+exec java -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" -Dspring.context.checkpoint=onRefresh $JAVA_OPTS -jar app.jar
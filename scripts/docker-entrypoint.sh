@@ -0,0 +1,24 @@
+#!/bin/sh
+# 컨테이너 메모리/CPU limit 기준 JVM 옵션을 profile 별로 선택하여 실행
+# - heap 은 고정 값(-Xmx) 대신 컨테이너 memory limit 대비 비율(MaxRAMPercentage)로 지정
+# - JVM_PROFILE 이 없으면 SPRING_PROFILES_ACTIVE, 그것도 없으면 application.yml 기본 profile(qa) 기준
+# - JAVA_OPTS 로 추가/재정의 가능 (뒤에 오는 옵션이 우선)
+JVM_PROFILE=${JVM_PROFILE:-${SPRING_PROFILES_ACTIVE:-qa}}
+
+COMMON_OPTS="-XX:+UseContainerSupport -XX:+ExitOnOutOfMemoryError -XX:+HeapDumpOnOutOfMemoryError -XX:HeapDumpPath=/tmp -Djava.security.egd=file:/dev/./urandom"
+
+case "$JVM_PROFILE" in
+    *prod*)
+        # 운영: 처리량/지연 균형의 G1, limit 의 75% 를 heap 으로 사용 (나머지는 metaspace, thread stack, direct buffer)
+        PROFILE_OPTS="-XX:+UseG1GC -XX:MaxGCPauseMillis=100 -XX:InitialRAMPercentage=50 -XX:MaxRAMPercentage=75"
+        ;;
+    *qa*)
+        PROFILE_OPTS="-XX:+UseG1GC -XX:InitialRAMPercentage=40 -XX:MaxRAMPercentage=70"
+        ;;
+    *)
+        # local, 그 외: 작은 컨테이너(1~2 CPU)에서 메모리 overhead 가 가장 작은 SerialGC
+        PROFILE_OPTS="-XX:+UseSerialGC -XX:InitialRAMPercentage=25 -XX:MaxRAMPercentage=60 -XX:TieredStopAtLevel=1"
+        ;;
+esac
+
+exec java $COMMON_OPTS $PROFILE_OPTS $JAVA_OPTS org.springframework.boot.loader.launch.JarLauncher "$@"
@@ -0,0 +1,79 @@
+#!/bin/bash
+# 컨테이너 이미지 비교: 기존 fat jar + JDK 이미지 vs layered jar + JRE 이미지
+# - image size
+# - 코드만 변경했을 때 다시 만들어지는(push/pull 해야 하는) layer 크기
+# - pull time (REGISTRY 지정 시)
+# - steady-state RSS (요청 부하 후 docker stats 메모리 사용량)
+#
+# 준비: ./gradlew bootJar
+# 사용법: scripts/image-benchmark.sh            (REGISTRY=k8s-vga-worker1:5000 지정 시 push/pull 시간 측정)
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+cd "$ROOT"
+PORT=${PORT:-18803}
+REQUESTS=${REQUESTS:-2000}
+BASELINE=accounts-benchmark:fatjar
+LAYERED=accounts-benchmark:layered
+# 두 이미지에 같은 JVM 옵션을 준다. (기본값은 scripts/docker-entrypoint.sh 의 prod 옵션)
+# layered 이미지는 JAVA_OPTS(profile 옵션보다 뒤에 적용), entrypoint script 가 없는 baseline 이미지는 JAVA_TOOL_OPTIONS 로 전달
+JVM_OPTS=${JVM_OPTS:--XX:+UseG1GC -XX:MaxGCPauseMillis=100 -XX:InitialRAMPercentage=50 -XX:MaxRAMPercentage=75}
+# spring 설정은 실행 인자 대신 환경 변수로 전달 (두 이미지의 entrypoint 형식과 관계없이 적용됨)
+SPRING_JSON='{"spring":{"cloud":{"config":{"enabled":false}}},"eureka":{"client":{"enabled":false}}}'
+
+# 기존 Dockerfile 과 동일한 baseline 이미지 (CMD 는 docker run 인자로 대체되므로 ENTRYPOINT 사용)
+docker build -q -t "$BASELINE" -f - . >/dev/null <<'DOCKERFILE'
+FROM openjdk:21-jdk-slim
+WORKDIR /tmp
+COPY build/libs/accounts-0.0.1-SNAPSHOT.jar app.jar
+ENTRYPOINT ["java", "-jar", "app.jar"]
+DOCKERFILE
+docker build -q -t "$LAYERED" . >/dev/null
+
+image_size_mb() {
+    echo $(( $(docker image inspect --format '{{.Size}}' "$1") / 1024 / 1024 ))
+}
+
+# 마지막(가장 위) layer 중 애플리케이션 jar/class 를 담은 layer 크기 = 코드 변경 시 다시 전송되는 크기
+app_layer_mb() {
+    docker history --no-trunc --format '{{.Size}}\t{{.CreatedBy}}' "$1" \
+        | grep -m1 -E 'COPY .*(app.jar|extracted/application)' | cut -f1
+}
+
+pull_seconds() {
+    local image=$1
+    [ -z "${REGISTRY:-}" ] && { echo "-"; return; }
+    local remote=$REGISTRY/${image/:/-benchmark:}
+    docker tag "$image" "$remote" && docker push -q "$remote" >/dev/null
+    docker rmi "$remote" >/dev/null
+    local start end
+    start=$(date +%s%3N)
+    docker pull -q "$remote" >/dev/null
+    end=$(date +%s%3N)
+    echo "$(( (end - start) / 1000 )).$(( (end - start) % 1000 / 100 ))"
+}
+
+steady_rss() {
+    local image=$1
+    local container
+    local jvm_env=(-e JVM_PROFILE=prod -e "JAVA_OPTS=$JVM_OPTS")
+    [ "$image" = "$BASELINE" ] && jvm_env=(-e "JAVA_TOOL_OPTIONS=$JVM_OPTS")
+    container=$(docker run -d -p "$PORT:8801" -m 1g "${jvm_env[@]}" -e "SPRING_APPLICATION_JSON=$SPRING_JSON" "$image")
+    for _ in $(seq 1 600); do
+        curl -sf "http://localhost:$PORT/actuator/health/readiness" >/dev/null 2>&1 && break
+        sleep 0.2
+    done
+    for _ in $(seq 1 "$REQUESTS"); do
+        curl -s -o /dev/null "http://localhost:$PORT/api/contact-info"
+        curl -s -o /dev/null "http://localhost:$PORT/api/fetch?mobileNumber=9999999999"
+    done
+    sleep 5
+    docker stats --no-stream --format '{{.MemUsage}}' "$container" | cut -d/ -f1
+    docker rm -f "$container" >/dev/null
+}
+
+printf "%-28s %10s %16s %10s %16s\n" "image" "size(MB)" "app layer" "pull(s)" "steady RSS"
+for image in "$BASELINE" "$LAYERED"; do
+    printf "%-28s %10s %16s %10s %16s\n" "$image" "$(image_size_mb "$image")" "$(app_layer_mb "$image")" \
+        "$(pull_seconds "$image")" "$(steady_rss "$image")"
+done
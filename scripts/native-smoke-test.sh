@@ -0,0 +1,68 @@
+#!/bin/bash
+# native binary smoke test: 주요 REST API 를 한번씩 호출하여 reflection/proxy hint 누락을 확인
+#
+# 준비: ./gradlew nativeCompile -Pnative
+# 사용법: scripts/native-smoke-test.sh [실행 명령(기본: build/native/nativeCompile/accounts)]
+#   JVM 빌드와 비교: scripts/native-smoke-test.sh "java -jar build/libs/accounts-0.0.1-SNAPSHOT.jar"
+set -uo pipefail
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+PORT=${PORT:-18802}
+COMMAND=${1:-$ROOT/build/native/nativeCompile/accounts}
+BASE=http://localhost:$PORT
+MOBILE=4354437687
+LOG=/tmp/native-smoke-test.log
+
+$COMMAND --server.port=$PORT --spring.cloud.config.enabled=false --eureka.client.enabled=false >"$LOG" 2>&1 &
+PID=$!
+trap 'kill $PID 2>/dev/null; wait $PID 2>/dev/null' EXIT
+
+for _ in $(seq 1 600); do
+    curl -sf "$BASE/actuator/health/readiness" >/dev/null 2>&1 && break
+    kill -0 $PID 2>/dev/null || { echo "application exited, see $LOG"; exit 1; }
+    sleep 0.1
+done
+
+FAILED=0
+# check <이름> <기대 status> <기대 body 문자열(생략 가능)> -- curl 인자
+check() {
+    local name=$1 expected=$2 contains=$3
+    shift 4
+    local body status
+    body=$(curl -s -w '\n%{http_code}' "$@")
+    status=${body##*$'\n'}
+    body=${body%$'\n'*}
+    if [ "$status" != "$expected" ] || { [ -n "$contains" ] && [[ "$body" != *"$contains"* ]]; }; then
+        echo "FAIL $name: status $status (expected $expected) body: ${body:0:200}"
+        FAILED=$((FAILED + 1))
+    else
+        echo "OK   $name"
+    fi
+}
+
+JSON='Content-Type: application/json'
+check "create account"      201 "201" -- -X POST "$BASE/api/create" -H "$JSON" \
+    -d "{\"name\":\"Smoke Test\",\"email\":\"smoke@eazybank.com\",\"mobileNumber\":\"$MOBILE\"}"
+check "duplicate account"   400 "already registered" -- -X POST "$BASE/api/create" -H "$JSON" \
+    -d "{\"name\":\"Smoke Test\",\"email\":\"smoke@eazybank.com\",\"mobileNumber\":\"$MOBILE\"}"
+check "validation error"    400 "mobileNumber" -- -X POST "$BASE/api/create" -H "$JSON" \
+    -d '{"name":"Smoke Test","email":"smoke@eazybank.com","mobileNumber":"123"}'
+check "fetch account"       200 "Smoke Test" -- "$BASE/api/fetch?mobileNumber=$MOBILE"
+check "fetch unknown"       404 "not found" -- "$BASE/api/fetch?mobileNumber=9999999999"
+
+ACCOUNT_NUMBER=$(curl -s "$BASE/api/fetch?mobileNumber=$MOBILE" | sed -n 's/.*"accountNumber":\([0-9]*\).*/\1/p')
+check "update account"      200 "200" -- -X PUT "$BASE/api/update" -H "$JSON" \
+    -d "{\"name\":\"Smoke Test2\",\"email\":\"smoke@eazybank.com\",\"mobileNumber\":\"$MOBILE\",\"accountsDto\":{\"accountNumber\":$ACCOUNT_NUMBER,\"accountType\":\"Savings\",\"branchAddress\":\"123 NewYork\"}}"
+check "search customers"    200 "Smoke Test2" -- "$BASE/api/customers/search?namePrefix=Smoke"
+check "export ndjson"       200 "$MOBILE" -- "$BASE/api/accounts/export"
+check "export csv"          200 "customerId,name" -- "$BASE/api/accounts/export?format=csv"
+check "contact info"        200 "onCallSupport" -- "$BASE/api/contact-info"
+check "build info"          200 "::" -- "$BASE/api/check/build-info"
+check "circuit breaker"     200 "OK" -- "$BASE/api/circuit/circuit?isError=false"
+check "sql statistics"      200 "count" -- "$BASE/actuator/sqlstats"
+check "delete account"      200 "200" -- -X DELETE "$BASE/api/delete?mobileNumber=$MOBILE"
+check "fetch deleted"       404 "" -- "$BASE/api/fetch?mobileNumber=$MOBILE"
+# cards/loans 및 rabbitmq(updateCommunication)는 외부 의존성이 필요하여 제외
+
+echo "RSS: $(( $(ps -o rss= -p $PID | tr -d ' ') / 1024 ))MB"
+[ "$FAILED" -eq 0 ] && echo "All smoke tests passed" || { echo "$FAILED smoke test(s) failed, see $LOG"; exit 1; }
@@ -0,0 +1,98 @@
+#!/bin/bash
+# startup 벤치마크: 변형(variant)별 time-to-ready 와 ready 시점 RSS 측정
+#
+# 준비: ./gradlew cdsArchive            (AOT 변형까지 측정하려면 ./gradlew cdsArchive -Paot 후 AOT=1)
+# 사용법: scripts/startup-benchmark.sh [반복 횟수(기본 5)]
+#   AOT=1                      : aot-cds 변형 포함 (-Paot 로 빌드한 경우)
+#   CRAC_CHECKPOINT=<dir>      : crac 변형 포함 (CRaC 지원 JDK 와 checkpoint 디렉터리 필요)
+#   native 변형은 build/native/nativeCompile/accounts 가 있으면 포함 (./gradlew nativeCompile -Pnative)
+#
+# time-to-ready: 프로세스 시작 ~ /actuator/health/readiness 가 200 을 반환한 시점
+set -uo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18801}
+JAVA=${JAVA:-java}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR_NAME=accounts-0.0.1-SNAPSHOT.jar
+# 외부 의존성(config server, eureka) 없이 측정
+APP_ARGS="--server.port=$PORT --spring.cloud.config.enabled=false --eureka.client.enabled=false"
+
+declare -A COMMANDS
+COMMANDS[jar]="$JAVA -jar $ROOT/build/libs/$JAR_NAME $APP_ARGS"
+COMMANDS[extracted]="$JAVA -jar $JAR_NAME $APP_ARGS"
+COMMANDS[cds]="$JAVA -XX:SharedArchiveFile=application.jsa -Xlog:cds=off -jar $JAR_NAME $APP_ARGS"
+VARIANTS="jar extracted cds"
+if [ "${AOT:-0}" = "1" ]; then
+    COMMANDS[aot-cds]="$JAVA -XX:SharedArchiveFile=application.jsa -Xlog:cds=off -Dspring.aot.enabled=true -Dspring.cloud.refresh.enabled=false -jar $JAR_NAME $APP_ARGS"
+    VARIANTS="$VARIANTS aot-cds"
+fi
+if [ -x "$ROOT/build/native/nativeCompile/accounts" ]; then
+    COMMANDS[native]="$ROOT/build/native/nativeCompile/accounts $APP_ARGS"
+    VARIANTS="$VARIANTS native"
+fi
+if [ -n "${CRAC_CHECKPOINT:-}" ]; then
+    COMMANDS[crac]="$JAVA -XX:CRaCRestoreFrom=$CRAC_CHECKPOINT"
+    VARIANTS="$VARIANTS crac"
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+run_once() {
+    local variant=$1
+    local workdir=$ROOT/build/extracted
+    [ "$variant" = "jar" ] || [ "$variant" = "native" ] && workdir=$ROOT
+
+    local start
+    start=$(now_ms)
+    (cd "$workdir" && exec ${COMMANDS[$variant]} >/tmp/startup-benchmark-$variant.log 2>&1) &
+    local pid=$!
+
+    local ready=""
+    for _ in $(seq 1 1200); do
+        if curl -sf "http://localhost:$PORT/actuator/health/readiness" >/dev/null 2>&1; then
+            ready=$(( $(now_ms) - start ))
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.05
+    done
+
+    local rss_kb
+    rss_kb=$(ps -o rss= -p "$pid" 2>/dev/null | tr -d ' ')
+    kill "$pid" 2>/dev/null
+    wait "$pid" 2>/dev/null
+
+    if [ -z "$ready" ]; then
+        echo "FAIL"
+    else
+        echo "$ready ${rss_kb:-0}"
+    fi
+}
+
+printf "%-10s %6s %16s %16s\n" "variant" "runs" "ready avg(ms)" "RSS avg(MB)"
+for variant in $VARIANTS; do
+    total_ms=0
+    total_rss=0
+    ok=0
+    for _ in $(seq 1 "$RUNS"); do
+        result=$(run_once "$variant")
+        if [ "$result" = "FAIL" ]; then
+            echo "[$variant] did not become ready, see /tmp/startup-benchmark-$variant.log" >&2
+            continue
+        fi
+        read -r ms rss <<<"$result"
+        total_ms=$((total_ms + ms))
+        total_rss=$((total_rss + rss))
+        ok=$((ok + 1))
+    done
+    if [ "$ok" -gt 0 ]; then
+        printf "%-10s %6d %16d %16d\n" "$variant" "$ok" $((total_ms / ok)) $((total_rss / ok / 1024))
+    else
+        printf "%-10s %6d %16s %16s\n" "$variant" 0 "-" "-"
+    fi
+done
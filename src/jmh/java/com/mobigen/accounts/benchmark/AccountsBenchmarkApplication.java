@@ -0,0 +1,25 @@
+package com.mobigen.accounts.benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mobigen.accounts.AccountsApplication;
+
+/**
+ * in-process benchmark 용 애플리케이션 기동 (random port, config server / eureka 없이 H2 로 기동)
+ */
+public class AccountsBenchmarkApplication {
+
+    public static ConfigurableApplicationContext start() {
+        return SpringApplication.run(AccountsApplication.class,
+                "--server.port=0",
+                "--accounts.grpc.port=0",
+                "--spring.cloud.config.enabled=false",
+                "--eureka.client.enabled=false",
+                "--logging.level.com.mobigen=WARN");
+    }
+
+    public static int httpPort(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+}
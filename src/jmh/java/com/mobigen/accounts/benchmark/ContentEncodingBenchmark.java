@@ -0,0 +1,84 @@
+package com.mobigen.accounts.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mobigen.accounts.dto.AccountsDto;
+import com.mobigen.accounts.dto.CardsDto;
+import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.LoansDto;
+
+/**
+ * 서비스 간 응답 DTO 의 encoding 별 payload 크기와 직렬화 / 역직렬화 비용
+ * 실행: ./gradlew jmh -Pjmh.includes=ContentEncodingBenchmark
+ * payload 크기는 Trial 시작 시 표준 출력으로 출력된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContentEncodingBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String encoding;
+
+    private ObjectMapper objectMapper;
+    private CustomerDto customerDto;
+    private CustomerDetailsDto customerDetailsDto;
+    private byte[] customerBytes;
+    private byte[] customerDetailsBytes;
+
+    @Setup
+    public void setup() throws Exception {
+        // ContentNegotiationConfig 와 같은 방식으로 ObjectMapper 생성
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (encoding) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        AccountsDto accountsDto = new AccountsDto(1234567890L, "Savings", "123 Main Street, New York");
+        customerDto = new CustomerDto("Eazy Bytes", "tutor@eazybytes.com", "9345432123", accountsDto);
+        CardsDto cardsDto = new CardsDto("9345432123", "100646930341", "Credit Card", 100000, 1000, 99000);
+        LoansDto loansDto = new LoansDto("9345432123", "548732457654", "Home Loan", 100000, 1000, 99000);
+        customerDetailsDto = CustomerDetailsDto.of(customerDto, loansDto, cardsDto);
+
+        customerBytes = objectMapper.writeValueAsBytes(customerDto);
+        customerDetailsBytes = objectMapper.writeValueAsBytes(customerDetailsDto);
+        System.out.printf("%n[payload] %-5s CustomerDto: %d bytes, CustomerDetailsDto: %d bytes%n",
+                encoding, customerBytes.length, customerDetailsBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer() throws Exception {
+        return objectMapper.writeValueAsBytes(customerDto);
+    }
+
+    @Benchmark
+    public CustomerDto deserializeCustomer() throws Exception {
+        return objectMapper.readValue(customerBytes, CustomerDto.class);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomerDetails() throws Exception {
+        return objectMapper.writeValueAsBytes(customerDetailsDto);
+    }
+
+    @Benchmark
+    public CustomerDetailsDto deserializeCustomerDetails() throws Exception {
+        return objectMapper.readValue(customerDetailsBytes, CustomerDetailsDto.class);
+    }
+}
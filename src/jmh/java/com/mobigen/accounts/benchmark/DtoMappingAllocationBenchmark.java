@@ -0,0 +1,139 @@
+package com.mobigen.accounts.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mobigen.accounts.dto.CardsDto;
+import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDetailsViewDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.LoansDto;
+import com.mobigen.accounts.entity.Accounts;
+import com.mobigen.accounts.entity.Customer;
+import com.mobigen.accounts.mapper.CustomerMapper;
+
+/**
+ * endpoint 별 DTO mapping + 직렬화 구간의 요청당 할당량 (DB / 네트워크 제외)
+ * 실행: ./gradlew jmh -Pjmh.includes=DtoMappingAllocationBenchmark -Pjmh.profilers=gc
+ * 결과의 gc.alloc.rate.norm (B/op) 이 요청 하나가 할당하는 byte 수이다.
+ * - fetch: /api/fetch (entity → CustomerDto → 응답)
+ * - detailsViewHit*: /api/fetchCustomerDetails read model hit (mapped: JSON → DTO → 응답 + ETag, direct: JSON 그대로 응답 + ETag)
+ * - detailsComposed*: /api/fetchCustomerDetails read model miss (cards / loans 응답으로 조합 → read model 기록 → 응답 + ETag)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingAllocationBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String encoding;
+
+    // read model 기록 및 ETag hash 는 응답 encoding 과 관계없이 JSON
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+    private ObjectMapper objectMapper;
+    private Customer customer;
+    private Accounts accounts;
+    private CardsDto cardsDto;
+    private LoansDto loansDto;
+    private String customerJson;
+    private String cardsJson;
+    private String loansJson;
+
+    @Setup
+    public void setup() throws Exception {
+        // ContentNegotiationConfig 와 같은 방식으로 ObjectMapper 생성
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (encoding) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        customer = new Customer(1L, "Eazy Bytes", "tutor@eazybytes.com", "9345432123");
+        accounts = new Accounts(1234567890L, "Savings", "123 Main Street, New York", 1L);
+        cardsDto = new CardsDto("9345432123", "100646930341", "Credit Card", 100000, 1000, 99000);
+        loansDto = new LoansDto("9345432123", "548732457654", "Home Loan", 100000, 1000, 99000);
+
+        customerJson = jsonMapper.writeValueAsString(CustomerMapper.mapToCustomerDto(customer, accounts));
+        cardsJson = jsonMapper.writeValueAsString(cardsDto);
+        loansJson = jsonMapper.writeValueAsString(loansDto);
+
+        // 두 경로의 응답이 같은지 확인
+        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, accounts, loansDto,
+                cardsDto);
+        CustomerDetailsDto mapped = objectMapper.readValue(objectMapper.writeValueAsBytes(customerDetailsDto),
+                CustomerDetailsDto.class);
+        CustomerDetailsDto direct = objectMapper.readValue(objectMapper.writeValueAsBytes(
+                new CustomerDetailsViewDto(customerJson, loansJson, cardsJson)), CustomerDetailsDto.class);
+        if (!mapped.equals(direct)) {
+            throw new IllegalStateException("Direct serialization differs: " + direct + " != " + mapped);
+        }
+    }
+
+    @Benchmark
+    public byte[] fetch() throws Exception {
+        return objectMapper.writeValueAsBytes(CustomerMapper.mapToCustomerDto(customer, accounts));
+    }
+
+    @Benchmark
+    public void detailsViewHitMapped(Blackhole blackhole) throws Exception {
+        CustomerDetailsDto customerDetailsDto = CustomerDetailsDto.of(
+                jsonMapper.readValue(customerJson, CustomerDto.class),
+                jsonMapper.readValue(loansJson, LoansDto.class),
+                jsonMapper.readValue(cardsJson, CardsDto.class));
+        blackhole.consume(DigestUtils.md5DigestAsHex(jsonMapper.writeValueAsBytes(customerDetailsDto.cardsDto()))
+                + DigestUtils.md5DigestAsHex(jsonMapper.writeValueAsBytes(customerDetailsDto.loansDto())));
+        blackhole.consume(objectMapper.writeValueAsBytes(customerDetailsDto));
+    }
+
+    @Benchmark
+    public void detailsViewHitDirect(Blackhole blackhole) throws Exception {
+        CustomerDetailsViewDto view = new CustomerDetailsViewDto(customerJson, loansJson, cardsJson);
+        blackhole.consume(hash(view.cards()) + hash(view.loans()));
+        blackhole.consume(objectMapper.writeValueAsBytes(view));
+    }
+
+    @Benchmark
+    public void detailsComposedMapped(Blackhole blackhole) throws Exception {
+        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, accounts, loansDto,
+                cardsDto);
+        blackhole.consume(jsonMapper.writeValueAsString(customerDetailsDto.customer()));
+        blackhole.consume(jsonMapper.writeValueAsString(customerDetailsDto.cardsDto()));
+        blackhole.consume(jsonMapper.writeValueAsString(customerDetailsDto.loansDto()));
+        blackhole.consume(DigestUtils.md5DigestAsHex(jsonMapper.writeValueAsBytes(customerDetailsDto.cardsDto()))
+                + DigestUtils.md5DigestAsHex(jsonMapper.writeValueAsBytes(customerDetailsDto.loansDto())));
+        blackhole.consume(objectMapper.writeValueAsBytes(customerDetailsDto));
+    }
+
+    @Benchmark
+    public void detailsComposedDirect(Blackhole blackhole) throws Exception {
+        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, accounts, loansDto,
+                cardsDto);
+        // CustomerDetailsViewServiceImpl.fill 이 기록한 JSON 으로 응답
+        CustomerDetailsViewDto view = new CustomerDetailsViewDto(
+                jsonMapper.writeValueAsString(customerDetailsDto.customer()),
+                jsonMapper.writeValueAsString(customerDetailsDto.loansDto()),
+                jsonMapper.writeValueAsString(customerDetailsDto.cardsDto()));
+        blackhole.consume(hash(view.cards()) + hash(view.loans()));
+        blackhole.consume(objectMapper.writeValueAsBytes(view));
+    }
+
+    private static String hash(String json) {
+        return DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.mobigen.accounts.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mobigen.accounts.exception.ResourceNotFoundException;
+
+/**
+ * 404 경로 비용
+ * - 예외 생성: stackless(ResourceNotFoundException) vs stack trace 를 채우는 RuntimeException (호출 깊이별)
+ * - in-process HTTP: 없는 mobileNumber 의 /api/fetch, /api/fetchCustomerDetails (도메인 404, 고정 ErrorResponseDto),
+ *   없는 경로 (고정 problem detail 404)
+ * 실행: ./gradlew jmh -Pjmh.includes=ErrorPathBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ErrorPathBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Depth {
+        // 실제 요청 처리 시 Tomcat → filter → DispatcherServlet → controller → service 의 stack 깊이는 100 frame 이상
+        @Param({ "10", "150" })
+        int stackDepth;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        ConfigurableApplicationContext context;
+        HttpClient httpClient;
+        URI unknownMobileNumberUri;
+        URI unknownCustomerDetailsUri;
+        URI unknownPathUri;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            context = AccountsBenchmarkApplication.start();
+            String baseUrl = "http://localhost:" + AccountsBenchmarkApplication.httpPort(context);
+            unknownMobileNumberUri = URI.create(baseUrl + "/api/fetch?mobileNumber=0123456789");
+            unknownCustomerDetailsUri = URI.create(baseUrl + "/api/fetchCustomerDetails?mobileNumber=0123456789");
+            unknownPathUri = URI.create(baseUrl + "/wp-login.php");
+            httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public RuntimeException createStacklessException(Depth depth) {
+        return atDepth(depth.stackDepth, true);
+    }
+
+    @Benchmark
+    public RuntimeException createStackTraceException(Depth depth) {
+        return atDepth(depth.stackDepth, false);
+    }
+
+    @Benchmark
+    public int restUnknownMobileNumber(Application application) throws Exception {
+        return application.httpClient.send(HttpRequest.newBuilder(application.unknownMobileNumberUri).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int restUnknownCustomerDetails(Application application) throws Exception {
+        return application.httpClient.send(HttpRequest.newBuilder(application.unknownCustomerDetailsUri)
+                .header("msa-correlation-id", "benchmark").GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int restUnknownPath(Application application) throws Exception {
+        return application.httpClient.send(HttpRequest.newBuilder(application.unknownPathUri).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static RuntimeException atDepth(int depth, boolean stackless) {
+        if (depth > 0) {
+            return atDepth(depth - 1, stackless);
+        }
+        return stackless
+                ? new ResourceNotFoundException("Customer", "mobileNumber", "0123456789")
+                : new RuntimeException("Customer not found with the given input data mobileNumber : '0123456789'");
+    }
+}
@@ -0,0 +1,119 @@
+package com.mobigen.accounts.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.grpc.GrpcServerLifecycle;
+import com.mobigen.accounts.grpc.proto.AccountEntry;
+import com.mobigen.accounts.grpc.proto.AccountsServiceGrpc;
+import com.mobigen.accounts.grpc.proto.Customer;
+import com.mobigen.accounts.grpc.proto.FetchAccountRequest;
+import com.mobigen.accounts.grpc.proto.FetchAccountsRequest;
+import com.mobigen.accounts.service.IAccountsService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+
+/**
+ * 같은 JVM 에서 애플리케이션을 기동하여 REST(HTTP/1.1 keep-alive, JSON) 와 gRPC(HTTP/2 channel 하나, protobuf) 로
+ * 같은 service layer 를 호출할 때의 처리량 비교 (단건 조회, 100 건 bulk 조회)
+ * 실행: ./gradlew jmh -Pjmh.includes=GrpcVsRestBenchmark
+ * config server, eureka 없이 기동하며 H2 에 BATCH_SIZE 명의 고객을 생성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class GrpcVsRestBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ManagedChannel channel;
+    private AccountsServiceGrpc.AccountsServiceBlockingStub stub;
+    private String baseUrl;
+    private List<String> mobileNumbers;
+    private String batchRequestBody;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = AccountsBenchmarkApplication.start();
+        int httpPort = AccountsBenchmarkApplication.httpPort(context);
+        int grpcPort = context.getBean(GrpcServerLifecycle.class).getPort();
+
+        IAccountsService iAccountsService = context.getBean(IAccountsService.class);
+        mobileNumbers = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String mobileNumber = String.format("9%09d", i);
+            iAccountsService.createAccount(new CustomerDto("Benchmark " + i, "benchmark" + i + "@eazybytes.com",
+                    mobileNumber, null));
+            mobileNumbers.add(mobileNumber);
+        }
+        batchRequestBody = "{\"mobileNumbers\":[\"" + String.join("\",\"", mobileNumbers) + "\"]}";
+
+        baseUrl = "http://localhost:" + httpPort + "/api";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcPort).usePlaintext().build();
+        stub = AccountsServiceGrpc.newBlockingStub(channel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    @Benchmark
+    public String restFetchAccount() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/fetch?mobileNumber=" + mobileNumbers.get(0)))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    public Customer grpcFetchAccount() {
+        return stub.fetchAccount(FetchAccountRequest.newBuilder().setMobileNumber(mobileNumbers.get(0)).build());
+    }
+
+    @Benchmark
+    public String restFetchAccountsBatch() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/fetch/batch"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(batchRequestBody))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    public void grpcFetchAccountsStream(Blackhole blackhole) {
+        Iterator<AccountEntry> entries = stub.fetchAccounts(
+                FetchAccountsRequest.newBuilder().addAllMobileNumbers(mobileNumbers).build());
+        while (entries.hasNext()) {
+            blackhole.consume(entries.next());
+        }
+    }
+}
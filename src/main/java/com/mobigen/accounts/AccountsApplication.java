@@ -8,9 +8,16 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.mobigen.accounts.config.AccountsRuntimeHints;
+import com.mobigen.accounts.config.DataSourceRoutingProperties;
+import com.mobigen.accounts.config.ShardingProperties;
 import com.mobigen.accounts.dto.AccountsContactInfoDto;
+import com.mobigen.accounts.ratelimit.RateLimitProperties;
+import com.mobigen.accounts.resilience.RetryProperties;
 
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
@@ -23,8 +30,11 @@ import lombok.extern.slf4j.Slf4j;
 @EnableFeignClients
 @EnableDiscoveryClient
 @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
+@EnableScheduling
 @SpringBootApplication
-@EnableConfigurationProperties(value = {AccountsContactInfoDto.class})
+@EnableConfigurationProperties(value = {AccountsContactInfoDto.class, DataSourceRoutingProperties.class,
+		ShardingProperties.class, RateLimitProperties.class, RetryProperties.class})
+@ImportRuntimeHints(AccountsRuntimeHints.class)
 @OpenAPIDefinition(
 	info = @Info(
 		title = "Accounts microservice REST API Documentation",
@@ -0,0 +1,22 @@
+package com.mobigen.accounts.audit;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * entity 변경 이력 한 건 (audit_event table 의 한 row)
+ *
+ * @param entityType - Entity class name (Customer, Accounts)
+ * @param entityId - Entity primary key
+ * @param action - INSERT, UPDATE, DELETE
+ * @param changes - property -> [before, after] (INSERT 는 before 가, DELETE 는 after 가 null)
+ * @param changedBy - Auditor (AuditAwareImpl)
+ * @param changedAt - Time of the flush
+ */
+public record AuditEvent(String entityType, String entityId, String action, Map<String, Object[]> changes,
+        String changedBy, LocalDateTime changedAt) {
+
+    public static final String ACTION_INSERT = "INSERT";
+    public static final String ACTION_UPDATE = "UPDATE";
+    public static final String ACTION_DELETE = "DELETE";
+}
@@ -0,0 +1,134 @@
+package com.mobigen.accounts.audit;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.entity.Accounts;
+import com.mobigen.accounts.entity.Customer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Customer / Accounts 의 변경 내용(before / after)을 flush 시점에 Hibernate 가 만든 event 에서 읽어 AuditEventWriter 로 넘긴다.
+ * POST_COMMIT_* event 이므로 commit 된 변경만 전달되고, rollback 된 변경은 기록하지 않는다.
+ * BaseEntity 의 created/updated 컬럼은 row 에 그대로 남으므로 이력에서는 제외한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "accounts.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AuditEventListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> AUDITED_TYPES = Set.of(Customer.class, Accounts.class);
+    private static final Set<String> EXCLUDED_PROPERTIES = Set.of("createdAt", "createdBy", "updatedAt", "updatedBy");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditEventWriter auditEventWriter;
+    private final AuditorAware<String> auditorAware;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!AUDITED_TYPES.contains(event.getEntity().getClass())) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        Object[] state = event.getState();
+        Map<String, Object[]> changes = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (!EXCLUDED_PROPERTIES.contains(names[i])) {
+                changes.put(names[i], new Object[] { null, state[i] });
+            }
+        }
+        publish(event.getEntity(), event.getId(), AuditEvent.ACTION_INSERT, changes);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!AUDITED_TYPES.contains(event.getEntity().getClass())) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        Object[] state = event.getState();
+        Object[] oldState = event.getOldState();
+        Map<String, Object[]> changes = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            Object before = oldState == null ? null : oldState[i];
+            if (!EXCLUDED_PROPERTIES.contains(names[i]) && !Objects.equals(before, state[i])) {
+                changes.put(names[i], new Object[] { before, state[i] });
+            }
+        }
+        publish(event.getEntity(), event.getId(), AuditEvent.ACTION_UPDATE, changes);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (!AUDITED_TYPES.contains(event.getEntity().getClass())) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        Object[] deletedState = event.getDeletedState();
+        Map<String, Object[]> changes = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (!EXCLUDED_PROPERTIES.contains(names[i])) {
+                changes.put(names[i], new Object[] { deletedState == null ? null : deletedState[i], null });
+            }
+        }
+        publish(event.getEntity(), event.getId(), AuditEvent.ACTION_DELETE, changes);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // commit 되지 않은 변경은 기록하지 않는다.
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // commit 되지 않은 변경은 기록하지 않는다.
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // commit 되지 않은 변경은 기록하지 않는다.
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return AUDITED_TYPES.contains(persister.getMappedClass());
+    }
+
+    private void publish(Object entity, Object id, String action, Map<String, Object[]> changes) {
+        String changedBy = auditorAware.getCurrentAuditor().orElse(null);
+        auditEventWriter.publish(new AuditEvent(entity.getClass().getSimpleName(), String.valueOf(id), action,
+                changes, changedBy, LocalDateTime.now()));
+    }
+}
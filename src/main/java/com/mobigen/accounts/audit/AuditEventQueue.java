@@ -0,0 +1,59 @@
+package com.mobigen.accounts.audit;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크기 제한이 있는 lock-free queue (여러 요청 thread 가 넣고 AuditEventWriter thread 하나가 꺼낸다)
+ * ConcurrentLinkedQueue 는 크기 제한이 없으므로 CAS 로 자리를 먼저 확보한 뒤에 넣는다.
+ */
+public class AuditEventQueue {
+
+    private final ConcurrentLinkedQueue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+
+    public AuditEventQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return false 이면 queue 가 가득 참
+     */
+    public boolean offer(AuditEvent event) {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        queue.offer(event);
+        return true;
+    }
+
+    /**
+     * @param batch - List to add the events to
+     * @param maxEvents - Maximum number of events to remove
+     * @return number of events removed
+     */
+    public int drainTo(List<AuditEvent> batch, int maxEvents) {
+        int drained = 0;
+        AuditEvent event;
+        while (drained < maxEvents && (event = queue.poll()) != null) {
+            batch.add(event);
+            drained++;
+        }
+        size.addAndGet(-drained);
+        return drained;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,262 @@
+package com.mobigen.accounts.audit;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.config.ShardContext;
+import com.mobigen.accounts.config.ShardRoutingDataSource;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AuditEventQueue 의 변경 이력을 background thread 에서 batch insert 로 audit_event table 에 기록
+ * - 요청 thread 는 queue 에 넣기만 한다. (DB write 없음)
+ * - queue 가 가득 차면 accounts.audit.offer-timeout-ms (실행 중 변경 가능) 동안 writer 를 기다리고, 그래도 자리가 없으면 요청 thread 에서 직접 기록한다. (backpressure, 유실 없음)
+ * - 종료 시 web server / gRPC server 가 멈춘 뒤에 멈추고, 진행 중인 publish 가 끝나기를 기다린 뒤 queue 에 남은 이력을 모두 기록한다.
+ * - 직렬화할 수 없는 이력은 건너뛰고 (log, failed counter) 나머지는 계속 기록한다. (writer thread 가 멈추지 않음)
+ * - sharding 사용 시 어느 thread 에서 기록하든 audit_event 는 항상 shard 0 (ShardRoutingDataSource.DEFAULT_SHARD) 에 기록한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "accounts.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditEventWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_event "
+            + "(entity_type, entity_id, action, changes, changed_by, changed_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AuditEventQueue queue;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final TuningRegistry tuningRegistry;
+    private final long shutdownTimeoutMs;
+
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter callerWrittenCounter;
+
+    // running 을 확인하고 queue 에 넣는 중인 publish 수 (stop 은 0 이 된 뒤 마지막 flush)
+    private final AtomicInteger publishing = new AtomicInteger();
+
+    private volatile Thread writerThread;
+    private volatile boolean running;
+
+    public AuditEventWriter(DataSource dataSource, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            TuningRegistry tuningRegistry,
+            @Value("${accounts.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${accounts.audit.batch-size:200}") int batchSize,
+            @Value("${accounts.audit.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${accounts.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.queue = new AuditEventQueue(queueCapacity);
+        // 요청 thread 에서 직접 기록할 때(commit 후 호출됨) 끝난 transaction 의 connection 에 참여하지 않도록
+        // 감싼 DataSource 를 사용하여 항상 별도 connection(auto commit)으로 기록한다.
+        this.jdbcTemplate = new JdbcTemplate(new DelegatingDataSource(dataSource));
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.tuningRegistry = tuningRegistry;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        Gauge.builder("accounts.audit.queue.size", queue, AuditEventQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = events(meterRegistry, "written");
+        this.failedCounter = events(meterRegistry, "failed");
+        this.callerWrittenCounter = events(meterRegistry, "caller_written");
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("accounts.audit.events")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * commit 된 변경 이력을 queue 에 넣는다. (AuditEventListener 에서 호출)
+     */
+    public void publish(AuditEvent event) {
+        // publishing 을 먼저 올리고 running 을 확인한다. stop 은 running 을 내린 뒤 publishing 이 0 이 될 때까지 기다리므로
+        // running 을 true 로 본 publish 의 offer 는 모두 마지막 flush 전에 끝난다.
+        publishing.incrementAndGet();
+        try {
+            if (offer(event)) {
+                return;
+            }
+        } finally {
+            publishing.decrementAndGet();
+        }
+        // 그래도 자리가 없거나 writer 가 멈춘 경우 요청 thread 에서 직접 기록
+        write(List.of(event));
+        callerWrittenCounter.increment();
+    }
+
+    private boolean offer(AuditEvent event) {
+        if (running && queue.offer(event)) {
+            if (queue.size() >= batchSize) {
+                LockSupport.unpark(writerThread);
+            }
+            return true;
+        }
+        // queue 가 가득 참: writer 를 깨우고 자리가 날 때까지 잠시 기다린다.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tuningRegistry.current().auditOfferTimeoutMs());
+        while (running && System.nanoTime() < deadline) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            if (queue.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "audit-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+        log.info("Audit writer started. queue capacity: {}, batch size: {}", queue.capacity(), batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        LockSupport.unpark(thread);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+        try {
+            thread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // running 을 true 로 보고 queue 에 넣는 중인 publish 가 끝나기를 기다린다. (이후의 publish 는 직접 기록)
+        while (publishing.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        // writer thread 가 끝내지 못한 이력은 종료 thread 에서 기록
+        int remaining = flush();
+        log.info("Audit writer stopped. flushed on shutdown: {}", remaining);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * web server(요청 처리) 와 gRPC server 가 멈춘 뒤, DataSource 가 닫히기 전에 멈춘다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (queue.drainTo(batch, batchSize) == 0) {
+                    LockSupport.parkNanos(flushIntervalNanos);
+                    continue;
+                }
+                write(batch);
+            } catch (RuntimeException e) {
+                // 예상하지 못한 오류로 writer thread 가 끝나면 이후 이력이 queue 에만 쌓이므로 log 만 남기고 계속한다.
+                failedCounter.increment(batch.size());
+                log.error("Failed to write {} audit events", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    private int flush() {
+        int flushed = 0;
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            flushed += batch.size();
+            batch.clear();
+        }
+        return flushed;
+    }
+
+    private void write(List<AuditEvent> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (AuditEvent event : batch) {
+            try {
+                rows.add(new Object[] { event.entityType(), event.entityId(), event.action(), toJson(event),
+                        event.changedBy(), Timestamp.valueOf(event.changedAt()) });
+            } catch (RuntimeException e) {
+                // 이 이력만 건너뛰고 나머지는 기록한다.
+                failedCounter.increment();
+                log.error("Skipping audit event that cannot be written: {} {} {}", event.entityType(), event.entityId(),
+                        event.action(), e);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            // 요청 thread 에서 직접 기록하는 경우 요청의 shard 가 설정되어 있으므로 기록하는 동안만 shard 0 으로 바꾼다.
+            Integer previousShard = ShardContext.set(ShardRoutingDataSource.DEFAULT_SHARD);
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                writtenCounter.increment(rows.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    failedCounter.increment(rows.size());
+                    // 기록하지 못한 이력은 log 로라도 남긴다.
+                    for (Object[] row : rows) {
+                        log.error("Failed to write audit event: {} {} {} {}", row[0], row[1], row[2], row[3]);
+                    }
+                    log.error("Failed to write {} audit events", rows.size(), e);
+                    return;
+                }
+                log.warn("Failed to write {} audit events (attempt {}): {}", rows.size(), attempt, e.getMessage());
+            } finally {
+                ShardContext.set(previousShard);
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100L * attempt));
+        }
+    }
+
+    private String toJson(AuditEvent event) {
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<>();
+        event.changes().forEach((property, values) -> {
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("before", values[0]);
+            change.put("after", values[1]);
+            changes.put(property, change);
+        });
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize audit event of " + event.entityType(), e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.mobigen.accounts.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.mobigen.accounts.jfr.AccountsEvent;
+import com.mobigen.accounts.jfr.CacheLookupEvent;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * /api/fetchCustomerDetails 응답의 ETag 계산용 cache
+ * ETag = md5(customer/accounts version + cards hash + loans hash)
+ * - customer/accounts 는 version 조회(AccountsVersionDto)로 매 요청 확인한다.
+ * - cards/loans 는 마지막으로 받은 응답의 hash 를 ttl 동안만 신뢰한다.
+ *   ttl 이 지나면 If-None-Match 가 있어도 cards/loans 를 다시 호출한다.
+ *   cards-changed / loans-changed event 를 받으면 ttl 전이라도 지운다. (invalidate)
+ *   event 는 group 으로 한 instance 만 받으므로 customer-details-etag 로 모든 instance 에 전달하여 각자 지운다.
+ */
+@Slf4j
+@Component
+public class CustomerDetailsETagCache {
+
+    public static final String INVALIDATION_BINDING = "customerDetailsETag-out-0";
+
+    private final TuningRegistry tuningRegistry;
+    private final StreamBridge streamBridge;
+    private final int maxEntries;
+
+    private final Map<String, DownstreamHash> downstreamHashes = new ConcurrentHashMap<>();
+
+    public CustomerDetailsETagCache(TuningRegistry tuningRegistry, StreamBridge streamBridge,
+            @Value("${accounts.etag.max-entries:10000}") int maxEntries) {
+        this.tuningRegistry = tuningRegistry;
+        this.streamBridge = streamBridge;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param mobileNumber - Input Mobile Number
+     * @param versionETag - ETag from the customer/accounts versions
+     * @return ETag of the aggregate, or null if the cards/loans hashes are unknown or expired
+     */
+    public String currentETag(String mobileNumber, String versionETag) {
+        CacheLookupEvent event = new CacheLookupEvent(CacheLookupEvent.ETAG);
+        event.begin();
+        DownstreamHash downstream = downstreamHashes.get(mobileNumber);
+        if (downstream == null || downstream.expiresAt() < System.currentTimeMillis()) {
+            event.finish(AccountsEvent.MISS);
+            return null;
+        }
+        event.finish(AccountsEvent.HIT);
+        return combine(versionETag, downstream.hash());
+    }
+
+    /**
+     * @param mobileNumber - Input Mobile Number
+     * @param versionETag - ETag from the customer/accounts versions (read before the details)
+     * @param cardsJson - JSON of the cards details written in the response
+     * @param loansJson - JSON of the loans details written in the response
+     * @return ETag of the aggregate, or null if a downstream response is missing (fallback)
+     */
+    public String update(String mobileNumber, String versionETag, String cardsJson, String loansJson) {
+        // fallback 응답(body 없음)은 일시적인 값이므로 ETag 를 만들지 않는다.
+        if (cardsJson == null || loansJson == null) {
+            downstreamHashes.remove(mobileNumber);
+            return null;
+        }
+        String hash = hash(cardsJson) + hash(loansJson);
+        if (downstreamHashes.size() >= maxEntries) {
+            evict();
+        }
+        downstreamHashes.put(mobileNumber, new DownstreamHash(hash, System.currentTimeMillis()
+                + tuningRegistry.current().etagDownstreamTtlMs()));
+        return combine(versionETag, hash);
+    }
+
+    /**
+     * cards/loans 가 변경되어 저장된 hash 가 더 이상 응답과 같지 않은 경우 (모든 instance 에서 지움)
+     * 전달에 실패하면 다른 instance 는 ttl 이 지날 때까지 이전 hash 를 사용한다.
+     *
+     * @param mobileNumber - Input Mobile Number
+     */
+    public void invalidate(String mobileNumber) {
+        remove(mobileNumber);
+        try {
+            if (!streamBridge.send(INVALIDATION_BINDING, mobileNumber)) {
+                log.warn("Failed to publish ETag invalidation, other instances keep it until the ttl expires");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish ETag invalidation, other instances keep it until the ttl expires: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 이 instance 의 hash 만 지운다. (customer-details-etag consumer)
+     *
+     * @param mobileNumber - Input Mobile Number
+     */
+    public void remove(String mobileNumber) {
+        downstreamHashes.remove(mobileNumber);
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        downstreamHashes.values().removeIf(downstream -> downstream.expiresAt() < now);
+        // 만료된 항목을 지워도 가득 차 있으면 전부 비운다. (다음 요청부터 다시 채워짐)
+        if (downstreamHashes.size() >= maxEntries) {
+            log.debug("ETag cache is full ({} entries), clearing", downstreamHashes.size());
+            downstreamHashes.clear();
+        }
+    }
+
+    // 응답에 쓰는 JSON 그대로 hash 한다. (DTO 를 다시 직렬화하지 않음)
+    private static String hash(String json) {
+        return DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String combine(String versionETag, String downstreamHash) {
+        return "\"" + DigestUtils.md5DigestAsHex((versionETag + downstreamHash).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private record DownstreamHash(String hash, long expiresAt) {
+    }
+}
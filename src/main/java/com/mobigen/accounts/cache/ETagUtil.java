@@ -0,0 +1,26 @@
+package com.mobigen.accounts.cache;
+
+/**
+ * If-None-Match 헤더와 strong ETag 비교 (RFC 9110: If-None-Match 는 weak comparison 사용, "*" 는 모든 ETag 와 일치)
+ */
+public class ETagUtil {
+
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty() || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
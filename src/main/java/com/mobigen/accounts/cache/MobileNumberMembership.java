@@ -0,0 +1,395 @@
+package com.mobigen.accounts.cache;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.exception.ResourceNotFoundException;
+import com.mobigen.accounts.jfr.AccountsEvent;
+import com.mobigen.accounts.jfr.CacheLookupEvent;
+import com.mobigen.accounts.repository.AccountsExportRepository;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 등록된 mobileNumber 의 membership filter
+ * - 기동 시(readiness 전환 전) customer 테이블 전체를 streaming 으로 읽어 Bloom filter 생성
+ * - Bloom filter 에 없는 mobileNumber 는 DB 조회 없이 404 (확실히 없는 값)
+ * - Bloom filter 를 통과했지만 DB 에 없던 mobileNumber(false positive, 삭제된 번호)는 짧은 ttl 의 negative cache 로 처리
+ * - 등록(createAccount, mobileNumber 변경)은 commit 전에 filter 에 추가하고 다른 instance 에도 전달 (customer-membership)
+ *   filter 에 없는 번호가 DB 에 존재하는 경우(false negative)가 생기지 않도록 항상 DB 반영보다 먼저 추가한다.
+ *   전송에 실패한 번호는 보관하였다가 전송될 때까지 다시 보낸다.
+ * - 다른 instance 의 등록은 비동기로 전달되므로 아래 구간에서는 filter 에 없는 번호도 404 대신 DB 를 조회한다.
+ *   · filter 교체 또는 등록(로컬, 다른 instance) 후 consistency-window-ms 동안 (A 에서 생성 직후 B 에서 조회)
+ *   · customer-membership consumer 가 실패(재연결 중)한 후 다시 만든 filter 로 교체될 때까지
+ *     (anonymous queue 는 재연결 시 새로 만들어지므로 그 사이의 메시지는 유실됨)
+ * - 삭제는 Bloom filter 에서 지울 수 없으므로 주기적으로 다시 만든다. (예상 크기를 넘은 경우에도 다시 만듦)
+ */
+@Slf4j
+@Component
+public class MobileNumberMembership implements ApplicationRunner {
+
+    public static final String MEMBERSHIP_BINDING = "customerMembership-out-0";
+    public static final String MEMBERSHIP_DESTINATION = "customer-membership";
+
+    private final AccountsExportRepository accountsExportRepository;
+    private final StreamBridge streamBridge;
+    private final boolean enabled;
+    private final double fpp;
+    private final double capacityFactor;
+    private final long minCapacity;
+    private final int fetchSize;
+    private final long rebuildIntervalMs;
+    private final TuningRegistry tuningRegistry;
+    private final int negativeCacheMaxEntries;
+    private final long consistencyWindowMs;
+
+    // 재생성 중 scan 이 아직 commit 되지 않은 등록을 놓치지 않도록, 최근 등록된 번호를 교체 직후 새 filter 에 다시 추가
+    private static final long REPLAY_WINDOW_MS = 300_000;
+
+    private volatile BloomFilter filter;
+    private volatile long builtAt;
+    private final Map<String, Long> recentRegistrations = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Map<String, Long> negativeCache = new ConcurrentHashMap<>();
+    // 다른 instance 에 전달하지 못한 번호 (retryUnpublished 에서 다시 전송)
+    private final Set<String> unpublished = ConcurrentHashMap.newKeySet();
+
+    // 이 시각 전까지는 filter 에 없는 번호도 DB 조회
+    private volatile long verifyUntil;
+    // consumer 실패 횟수와, 마지막으로 교체된 filter 의 scan 시작 시점까지의 실패 횟수
+    private final AtomicLong consumerFailures = new AtomicLong();
+    private volatile long consumerFailuresCovered;
+
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder negativeCacheHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder verifiedMisses = new LongAdder();
+    private final Counter definiteMissCounter;
+    private final Counter negativeCacheHitCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter verifiedMissCounter;
+
+    public MobileNumberMembership(AccountsExportRepository accountsExportRepository, StreamBridge streamBridge,
+            MeterRegistry meterRegistry, TuningRegistry tuningRegistry,
+            @Value("${accounts.membership.enabled:true}") boolean enabled,
+            @Value("${accounts.membership.fpp:0.01}") double fpp,
+            @Value("${accounts.membership.capacity-factor:2.0}") double capacityFactor,
+            @Value("${accounts.membership.min-capacity:100000}") long minCapacity,
+            @Value("${accounts.membership.fetch-size:1000}") int fetchSize,
+            @Value("${accounts.membership.rebuild-interval-ms:21600000}") long rebuildIntervalMs,
+            @Value("${accounts.membership.negative-cache-max-entries:100000}") int negativeCacheMaxEntries,
+            @Value("${accounts.membership.consistency-window-ms:10000}") long consistencyWindowMs) {
+        this.accountsExportRepository = accountsExportRepository;
+        this.streamBridge = streamBridge;
+        this.enabled = enabled;
+        this.fpp = fpp;
+        this.capacityFactor = capacityFactor;
+        this.minCapacity = minCapacity;
+        this.fetchSize = fetchSize;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+        this.tuningRegistry = tuningRegistry;
+        this.negativeCacheMaxEntries = negativeCacheMaxEntries;
+        this.consistencyWindowMs = consistencyWindowMs;
+
+        this.definiteMissCounter = Counter.builder("accounts.membership.lookups").tag("result", "definite_miss")
+                .description("Lookups answered as not found by the Bloom filter").register(meterRegistry);
+        this.negativeCacheHitCounter = Counter.builder("accounts.membership.lookups").tag("result", "negative_cache_hit")
+                .description("Lookups answered as not found by the negative cache").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("accounts.membership.lookups").tag("result", "false_positive")
+                .description("Lookups passed by the Bloom filter but not found in the database").register(meterRegistry);
+        this.verifiedMissCounter = Counter.builder("accounts.membership.lookups").tag("result", "verified_miss")
+                .description("Lookups not in the Bloom filter checked against the database while membership may lag")
+                .register(meterRegistry);
+        Gauge.builder("accounts.membership.filter.memory", this, m -> m.filter == null ? 0 : m.filter.memoryBytes())
+                .baseUnit("bytes").description("Memory used by the Bloom filter bits").register(meterRegistry);
+        Gauge.builder("accounts.membership.filter.expected.fpp", this, m -> m.filter == null ? 0 : m.filter.expectedFpp())
+                .description("False positive probability computed from the bits set").register(meterRegistry);
+        Gauge.builder("accounts.membership.filter.elements", this, m -> m.filter == null ? 0 : m.filter.approximateElementCount())
+                .description("Approximate number of mobile numbers in the Bloom filter").register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    /**
+     * 주기적으로 다시 만든다. (삭제된 번호 정리, 예상 크기 초과 시 false positive 확률 유지)
+     */
+    @Scheduled(fixedDelayString = "${accounts.membership.check-interval-ms:60000}",
+            initialDelayString = "${accounts.membership.check-interval-ms:60000}")
+    public void rebuildIfNeeded() {
+        pruneRecentRegistrations();
+        BloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        boolean expired = System.currentTimeMillis() - builtAt >= rebuildIntervalMs;
+        boolean overCapacity = current.approximateElementCount() > current.expectedInsertions();
+        // consumer 가 실패한 동안 받지 못한 등록은 scan 으로만 다시 채울 수 있다.
+        boolean consumerFailed = consumerFailures.get() > consumerFailuresCovered;
+        if (expired || overCapacity || consumerFailed) {
+            log.info("Rebuilding mobile number filter. expired: {}, over capacity: {}, consumer failed: {}",
+                    expired, overCapacity, consumerFailed);
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            long failuresAtStart = consumerFailures.get();
+            long count = accountsExportRepository.countCustomers();
+            BloomFilter next = new BloomFilter(Math.max(minCapacity, (long) (count * capacityFactor)), fpp);
+            long rows = accountsExportRepository.streamMobileNumbers(fetchSize, mobileNumber -> {
+                if (mobileNumber != null) {
+                    next.put(mobileNumber);
+                }
+            });
+            pruneRecentRegistrations();
+            recentRegistrations.keySet().forEach(next::put);
+            filter = next;
+            // 위에서 추가한 후 교체 전까지 이전 filter 에만 추가된 번호
+            recentRegistrations.keySet().forEach(next::put);
+            builtAt = System.currentTimeMillis();
+            // scan 시작 이후의 consumer 실패는 이 filter 에 반영되지 않았을 수 있다.
+            consumerFailuresCovered = failuresAtStart;
+            openVerifyWindow(builtAt);
+            negativeCache.clear();
+            log.info("Mobile number filter built in {}ms. numbers: {}, capacity: {}, memory: {} bytes, hash functions: {}, expected fpp: {}",
+                    builtAt - start, rows, next.expectedInsertions(), next.memoryBytes(), next.hashCount(),
+                    String.format("%.6f", next.expectedFpp()));
+        } catch (RuntimeException e) {
+            // filter 를 만들지 못하면 이전 filter(없으면 filter 미사용) 그대로 DB 조회
+            log.error("Failed to build mobile number filter", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * @param mobileNumber - Input Mobile Number
+     * @throws ResourceNotFoundException 확실히 등록되지 않은 번호이거나 최근 DB 조회에서 없었던 번호
+     */
+    public void requireMightExist(String mobileNumber) {
+        if (!mightExist(mobileNumber)) {
+            throw customerNotFound(mobileNumber);
+        }
+    }
+
+    /**
+     * @param mobileNumber - Input Mobile Number
+     * @return false 이면 등록되지 않은 번호 (DB 조회 불필요), filter 를 만들기 전에는 항상 true
+     */
+    public boolean mightExist(String mobileNumber) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return true;
+        }
+        CacheLookupEvent event = new CacheLookupEvent(CacheLookupEvent.MEMBERSHIP);
+        event.begin();
+        boolean mightExist = lookup(current, mobileNumber);
+        // hit: 등록되지 않은 번호로 판별되어 DB 조회를 건너뜀
+        event.finish(mightExist ? AccountsEvent.MISS : AccountsEvent.HIT);
+        return mightExist;
+    }
+
+    private boolean lookup(BloomFilter current, String mobileNumber) {
+        if (!current.mightContain(mobileNumber)) {
+            if (mayLag()) {
+                // 아직 전달되지 않은 등록일 수 있으므로 DB 조회
+                verifiedMisses.increment();
+                verifiedMissCounter.increment();
+                return true;
+            }
+            definiteMisses.increment();
+            definiteMissCounter.increment();
+            return false;
+        }
+        Long expiresAt = negativeCache.get(mobileNumber);
+        if (expiresAt != null) {
+            if (expiresAt >= System.currentTimeMillis()) {
+                negativeCacheHits.increment();
+                negativeCacheHitCounter.increment();
+                return false;
+            }
+            negativeCache.remove(mobileNumber, expiresAt);
+        }
+        passed.increment();
+        return true;
+    }
+
+    /**
+     * filter 를 통과했지만 DB 에 없던 번호를 negative cache 에 기록
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @return 응답할 ResourceNotFoundException
+     */
+    public ResourceNotFoundException notFound(String mobileNumber) {
+        BloomFilter current = filter;
+        if (current != null) {
+            // filter 에 없어 DB 로 확인한 번호는 false positive 가 아님
+            if (current.mightContain(mobileNumber)) {
+                falsePositives.increment();
+                falsePositiveCounter.increment();
+            }
+            if (negativeCache.size() >= negativeCacheMaxEntries) {
+                long now = System.currentTimeMillis();
+                negativeCache.values().removeIf(expiresAt -> expiresAt < now);
+                if (negativeCache.size() >= negativeCacheMaxEntries) {
+                    negativeCache.clear();
+                }
+            }
+            negativeCache.put(mobileNumber, System.currentTimeMillis() + tuningRegistry.current().membershipNegativeCacheTtlMs());
+        }
+        return customerNotFound(mobileNumber);
+    }
+
+    /**
+     * 새로 등록되는 번호를 DB 반영 전에 filter 에 추가하고 다른 instance 에 전달
+     *
+     * @param mobileNumber - Mobile Number being registered
+     */
+    public void register(String mobileNumber) {
+        add(mobileNumber);
+        if (enabled && !publish(mobileNumber)) {
+            // 전달될 때까지 retryUnpublished 에서 다시 보낸다.
+            unpublished.add(mobileNumber);
+        }
+    }
+
+    /**
+     * 전송에 실패한 등록을 다시 전달
+     */
+    @Scheduled(fixedDelayString = "${accounts.membership.publish-retry-interval-ms:5000}")
+    public void retryUnpublished() {
+        for (String mobileNumber : unpublished) {
+            if (!publish(mobileNumber)) {
+                // broker 가 복구되지 않았으면 다음 주기에 다시 시도
+                return;
+            }
+            unpublished.remove(mobileNumber);
+        }
+    }
+
+    /**
+     * customer-membership consumer 가 실패하면(broker 연결 끊김 등) 다시 만든 filter 로 교체될 때까지 DB 로 확인
+     */
+    @EventListener
+    public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+        if (event.getSource() instanceof AbstractMessageListenerContainer container
+                && Arrays.stream(container.getQueueNames()).anyMatch(queue -> queue.startsWith(MEMBERSHIP_DESTINATION + "."))) {
+            consumerFailures.incrementAndGet();
+            log.warn("Membership consumer failed, checking filter misses against the database until the next rebuild: {}",
+                    event.getReason());
+        }
+    }
+
+    /**
+     * @param mobileNumber - Mobile Number registered (on this or another instance)
+     */
+    public void add(String mobileNumber) {
+        if (!enabled) {
+            return;
+        }
+        // filter 보다 먼저 기록해야 재생성 중인 filter 로 교체된 직후에도 빠지지 않는다.
+        long now = System.currentTimeMillis();
+        recentRegistrations.put(mobileNumber, now);
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(mobileNumber);
+        }
+        negativeCache.remove(mobileNumber);
+        // 등록이 진행 중이면 다른 instance 의 등록도 아직 전달 중일 수 있다.
+        openVerifyWindow(now);
+    }
+
+    /**
+     * @return filter 상태 및 조회 통계 (/actuator/membership)
+     */
+    public Map<String, Object> statistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        BloomFilter current = filter;
+        statistics.put("enabled", enabled);
+        statistics.put("ready", current != null);
+        if (current != null) {
+            statistics.put("builtAt", builtAt);
+            statistics.put("capacity", current.expectedInsertions());
+            statistics.put("approximateElements", current.approximateElementCount());
+            statistics.put("memoryBytes", current.memoryBytes());
+            statistics.put("bitSize", current.bitSize());
+            statistics.put("hashFunctions", current.hashCount());
+            statistics.put("targetFpp", fpp);
+            statistics.put("expectedFpp", current.expectedFpp());
+        }
+        long misses = definiteMisses.sum();
+        long fp = falsePositives.sum();
+        statistics.put("definiteMisses", misses);
+        statistics.put("negativeCacheHits", negativeCacheHits.sum());
+        statistics.put("negativeCacheSize", negativeCache.size());
+        statistics.put("passed", passed.sum());
+        statistics.put("falsePositives", fp);
+        statistics.put("verifiedMisses", verifiedMisses.sum());
+        statistics.put("verifying", mayLag());
+        statistics.put("unpublished", unpublished.size());
+        // 없는 번호 조회 중 filter 를 통과한 비율 (삭제된 번호 포함)
+        statistics.put("observedFpp", misses + fp == 0 ? 0.0 : (double) fp / (misses + fp));
+        return statistics;
+    }
+
+    private boolean publish(String mobileNumber) {
+        try {
+            if (streamBridge.send(MEMBERSHIP_BINDING, mobileNumber)) {
+                return true;
+            }
+            log.warn("Failed to publish membership of a new mobile number, will retry");
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish membership of a new mobile number, will retry: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    private boolean mayLag() {
+        return System.currentTimeMillis() < verifyUntil || consumerFailures.get() > consumerFailuresCovered;
+    }
+
+    private void openVerifyWindow(long now) {
+        long until = now + consistencyWindowMs;
+        if (until > verifyUntil) {
+            verifyUntil = until;
+        }
+    }
+
+    private void pruneRecentRegistrations() {
+        long cutoff = System.currentTimeMillis() - REPLAY_WINDOW_MS;
+        recentRegistrations.values().removeIf(registeredAt -> registeredAt < cutoff);
+    }
+
+    private static ResourceNotFoundException customerNotFound(String mobileNumber) {
+        return new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber);
+    }
+}
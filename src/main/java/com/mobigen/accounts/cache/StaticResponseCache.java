@@ -0,0 +1,108 @@
+package com.mobigen.accounts.cache;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.dto.AccountsContactInfoDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gateway / monitoring 이 계속 호출하는 설정성 API(/api/contact-info, /api/check/build-info, /api/check/health)의
+ * 응답을 미리 직렬화한 byte[] 와 strong ETag 로 보관한다.
+ * - hostname 조회(DNS lookup 가능), JSON 직렬화를 요청마다 하지 않는다.
+ * - 설정이 바뀌는 시점(/actuator/refresh, bus refresh 후 RefreshScopeRefreshedEvent)에만 다시 만든다.
+ */
+@Slf4j
+@Component
+public class StaticResponseCache {
+
+    private final AccountsContactInfoDto accountsContactInfoDto;
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+
+    private volatile CachedResponse contactInfo;
+    private volatile CachedResponse buildInfo;
+    private volatile CachedResponse health;
+
+    public StaticResponseCache(AccountsContactInfoDto accountsContactInfoDto, Environment environment,
+            ObjectMapper objectMapper) {
+        this.accountsContactInfoDto = accountsContactInfoDto;
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        rebuild();
+    }
+
+    /**
+     * RefreshScopeRefreshedEvent 는 Environment 갱신과 @ConfigurationProperties 재바인딩이 끝난 후 발행된다.
+     * (bus 로 전달된 refresh 도 동일)
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void onRefresh() {
+        rebuild();
+        log.info("Static responses rebuilt after refresh. build-info: {}", new String(buildInfo.body(), StandardCharsets.UTF_8));
+    }
+
+    private void rebuild() {
+        String hostname = resolveHostname();
+        try {
+            contactInfo = CachedResponse.of(objectMapper.writeValueAsBytes(accountsContactInfoDto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize contact info", e);
+        }
+        buildInfo = CachedResponse.of((environment.getProperty("build.version") + "::" + hostname).getBytes(StandardCharsets.UTF_8));
+        health = CachedResponse.of(("HostName: " + hostname).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String resolveHostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return "null";
+        }
+    }
+
+    public ResponseEntity<byte[]> contactInfo(String ifNoneMatch) {
+        return contactInfo.toResponse(ifNoneMatch);
+    }
+
+    public ResponseEntity<byte[]> buildInfo(String ifNoneMatch) {
+        return buildInfo.toResponse(ifNoneMatch);
+    }
+
+    public ResponseEntity<byte[]> health(String ifNoneMatch) {
+        return health.toResponse(ifNoneMatch);
+    }
+
+    public record CachedResponse(byte[] body, String etag) {
+
+        static CachedResponse of(byte[] body) {
+            return new CachedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+
+        ResponseEntity<byte[]> toResponse(String ifNoneMatch) {
+            if (ETagUtil.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+            }
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+    }
+}
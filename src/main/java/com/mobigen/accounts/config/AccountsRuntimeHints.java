@@ -0,0 +1,90 @@
+package com.mobigen.accounts.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.mobigen.accounts.controller.Resilience4jController;
+import com.mobigen.accounts.dto.AccountsBatchRequestDto;
+import com.mobigen.accounts.dto.AccountsContactInfoDto;
+import com.mobigen.accounts.dto.AccountsDto;
+import com.mobigen.accounts.dto.AccountsExportDto;
+import com.mobigen.accounts.dto.AccountsMsgDto;
+import com.mobigen.accounts.dto.AccountsVersionDto;
+import com.mobigen.accounts.dto.BatchEntryDto;
+import com.mobigen.accounts.dto.CardsChangedEventDto;
+import com.mobigen.accounts.dto.CardsDto;
+import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDetailsViewDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.CustomerSearchDto;
+import com.mobigen.accounts.dto.ErrorResponseDto;
+import com.mobigen.accounts.dto.LoansChangedEventDto;
+import com.mobigen.accounts.dto.LoansDto;
+import com.mobigen.accounts.dto.ResponseDto;
+import com.mobigen.accounts.entity.Accounts;
+import com.mobigen.accounts.entity.BaseEntity;
+import com.mobigen.accounts.entity.Customer;
+import com.mobigen.accounts.functions.AccountsFunctions;
+import com.mobigen.accounts.service.client.CardsFallback;
+import com.mobigen.accounts.service.client.CardsFeignClient;
+import com.mobigen.accounts.service.client.LoansFallback;
+import com.mobigen.accounts.service.client.LoansFeignClient;
+
+/**
+ * GraalVM native image 용 reachability metadata (reflection, proxy, resource)
+ * Spring AOT 가 bean 정의로부터 자동으로 만들지 못하는 부분만 등록한다.
+ * - Lombok DTO / record: Jackson 직렬화(getter/setter, record component) 및 Bean Validation
+ * - Hibernate entity: field 접근 및 기본 생성자 (BaseEntity 의 auditing field 포함)
+ * - Feign client: 인터페이스 JDK proxy 및 Spring MVC annotation 기반 contract 해석
+ * - Resilience4j annotation: aspect 가 메서드의 annotation 과 fallback 메서드를 reflection 으로 조회
+ * - Stream function: Spring Cloud Function 이 Consumer<Long> 의 generic type 을 bean factory 메서드에서 조회
+ */
+public class AccountsRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final MemberCategory[] BEAN_CATEGORIES = {
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_DECLARED_METHODS,
+            MemberCategory.DECLARED_FIELDS
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : new Class<?>[] { CustomerDto.class, CustomerDetailsDto.class, AccountsDto.class,
+                CardsDto.class, LoansDto.class, ResponseDto.class, ErrorResponseDto.class, AccountsMsgDto.class,
+                AccountsContactInfoDto.class, AccountsExportDto.class, CustomerSearchDto.class, AccountsVersionDto.class,
+                AccountsBatchRequestDto.class, BatchEntryDto.class, CardsChangedEventDto.class, LoansChangedEventDto.class,
+                CustomerDetailsViewDto.class, CustomerDetailsViewDto.Serializer.class,
+                SqlStatistics.StatementSnapshot.class }) {
+            hints.reflection().registerType(type, BEAN_CATEGORIES);
+        }
+
+        for (Class<?> type : new Class<?>[] { Customer.class, Accounts.class, BaseEntity.class }) {
+            hints.reflection().registerType(type, BEAN_CATEGORIES);
+        }
+
+        hints.proxies().registerJdkProxy(CardsFeignClient.class);
+        hints.proxies().registerJdkProxy(LoansFeignClient.class);
+        for (Class<?> type : new Class<?>[] { CardsFeignClient.class, LoansFeignClient.class,
+                CardsFallback.class, LoansFallback.class }) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+
+        hints.reflection().registerType(Resilience4jController.class, MemberCategory.INVOKE_DECLARED_METHODS);
+        for (String annotation : new String[] {
+                "io.github.resilience4j.bulkhead.annotation.Bulkhead",
+                "io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker",
+                "io.github.resilience4j.ratelimiter.annotation.RateLimiter",
+                "io.github.resilience4j.retry.annotation.Retry",
+                "io.github.resilience4j.timelimiter.annotation.TimeLimiter" }) {
+            hints.reflection().registerType(TypeReference.of(annotation), MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.reflection().registerType(AccountsFunctions.class, MemberCategory.INVOKE_DECLARED_METHODS);
+
+        hints.resources().registerPattern("db/*/*.sql");
+        hints.resources().registerPattern("redis/*.lua");
+    }
+}
@@ -0,0 +1,57 @@
+package com.mobigen.accounts.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.mobigen.accounts.tuning.TuningChangedEvent;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+/**
+ * batch 조회(/api/fetchCustomerDetails/batch) 에서 cards / loans 를 mobileNumber 별로 병렬 호출할 thread pool
+ * cards / loans 서비스에 batch API 가 없으므로 동시 호출 수를 pool 크기로 제한한다. (downstream 보호)
+ * pool 크기(accounts.batch.fan-out-concurrency)는 실행 중 변경되면 executor 를 다시 만들지 않고 조정한다.
+ */
+@Configuration
+public class BatchFanOutConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor batchFanOutExecutor(TuningRegistry tuningRegistry,
+            @Value("${accounts.batch.fan-out-queue-capacity:256}") int queueCapacity) {
+        int concurrency = tuningRegistry.current().batchFanOutConcurrency();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("batch-fan-out-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        // queue 가 가득 차면 요청 thread 에서 직접 실행 (작업을 버리지 않고 요청 속도를 늦춘다)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean
+    public ApplicationListener<TuningChangedEvent> batchFanOutResizer(
+            @Qualifier("batchFanOutExecutor") ThreadPoolTaskExecutor batchFanOutExecutor) {
+        return event -> {
+            int concurrency = event.getCurrent().batchFanOutConcurrency();
+            if (concurrency == event.getPrevious().batchFanOutConcurrency()) {
+                return;
+            }
+            // core <= max 를 항상 만족하도록 늘릴 때는 max 부터, 줄일 때는 core 부터 변경
+            if (concurrency > batchFanOutExecutor.getMaxPoolSize()) {
+                batchFanOutExecutor.setMaxPoolSize(concurrency);
+                batchFanOutExecutor.setCorePoolSize(concurrency);
+            } else {
+                batchFanOutExecutor.setCorePoolSize(concurrency);
+                batchFanOutExecutor.setMaxPoolSize(concurrency);
+            }
+        };
+    }
+}
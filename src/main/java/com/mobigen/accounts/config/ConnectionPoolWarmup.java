@@ -0,0 +1,93 @@
+package com.mobigen.accounts.config;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.repository.AccountsRepository;
+import com.mobigen.accounts.repository.CustomerRepository;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시(readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전) connection pool 을 minimum-idle 만큼 미리 채우고
+ * 자주 사용하는 조회 쿼리를 한번씩 실행하여, rollout 직후 첫 요청들이 connection 생성/쿼리 준비 비용을 부담하지 않도록 한다.
+ * ApplicationRunner 는 readiness 전환 이전에 실행된다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "accounts.datasource.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionPoolWarmup implements ApplicationRunner {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final String WARMUP_MOBILE_NUMBER = "0000000000";
+
+    private final ObjectProvider<DataSource> dataSources;
+    private final CustomerRepository customerRepository;
+    private final AccountsRepository accountsRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        // DataSource bean 이 SqlTimingDataSource, routing proxy 등으로 감싸져 있을 수 있으므로 unwrap 하여 pool 을 찾는다.
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class))
+                .filter(pool -> pool != null && pools.add(pool))
+                .forEach(this::fillPool);
+        try {
+            // Hibernate query plan, prepared statement 및 JIT warm-up (결과는 사용하지 않음)
+            customerRepository.findByMobileNumber(WARMUP_MOBILE_NUMBER);
+            accountsRepository.findByCustomerId(-1L);
+        } catch (Exception e) {
+            log.warn("Query warm-up failed: {}", e.getMessage());
+        }
+        log.info("Connection pool warm-up finished in {}ms", System.currentTimeMillis() - start);
+    }
+
+    private void fillPool(HikariDataSource dataSource) {
+        int target = Math.min(Math.max(dataSource.getMinimumIdle(), 1), dataSource.getMaximumPoolSize());
+        List<Connection> connections = new ArrayList<>(target);
+        int valid = 0;
+        try {
+            // 동시에 빌려야 pool 이 target 개의 물리 connection 을 만든다.
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    valid++;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Connection pool [{}] warm-up stopped: {}", dataSource.getPoolName(), e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (Exception e) {
+                    log.debug("Failed to return warm-up connection: {}", e.getMessage());
+                }
+            }
+        }
+        log.info("Connection pool [{}] warmed up: {}/{} valid connections", dataSource.getPoolName(), valid, target);
+    }
+}
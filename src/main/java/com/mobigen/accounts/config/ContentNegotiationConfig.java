@@ -0,0 +1,58 @@
+package com.mobigen.accounts.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mobigen.accounts.constants.AccountsConstants;
+
+import feign.RequestInterceptor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서비스 간(accounts ↔ cards, loans) 호출용 binary encoding (CBOR, Smile)
+ * - server: Accept 헤더가 application/cbor, application/x-jackson-smile 인 요청은 binary 로 응답 (그 외는 기존과 같이 JSON)
+ * - Feign client: Accept 헤더에 binary 를 우선으로, JSON 을 낮은 q 값으로 넣어 binary 미지원 서비스와도 호환
+ * DTO 는 그대로 Jackson 으로 직렬화하므로 별도 schema(.proto 등) 가 필요 없다.
+ */
+@Slf4j
+@Configuration
+public class ContentNegotiationConfig {
+
+    // Spring Boot 의 Jackson2ObjectMapperBuilder(spring.jackson.* 설정, module) 를 그대로 사용
+    // HttpMessageConverters 에 등록되어 MVC 와 Feign(SpringDecoder / SpringEncoder) 모두에서 사용된다.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * @param binaryEncoding - cbor, smile, none (none: JSON 만 요청)
+     */
+    @Bean
+    public RequestInterceptor binaryAcceptRequestInterceptor(@Value("${accounts.feign.binary-encoding:cbor}") String binaryEncoding) {
+        String accept = switch (binaryEncoding.toLowerCase()) {
+            case "cbor" -> MediaType.APPLICATION_CBOR_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.5";
+            case "smile" -> AccountsConstants.MEDIA_TYPE_SMILE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.5";
+            default -> MediaType.APPLICATION_JSON_VALUE;
+        };
+        log.info("Feign clients request Accept: {}", accept);
+        return template -> {
+            if (!template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, accept);
+            }
+        };
+    }
+}
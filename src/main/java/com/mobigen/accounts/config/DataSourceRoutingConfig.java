@@ -0,0 +1,89 @@
+package com.mobigen.accounts.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * accounts.datasource.routing.enabled=true 인 경우 primary(spring.datasource) + replica(accounts.datasource.routing.replicas) 로
+ * 구성된 routing DataSource 를 사용한다. (설정하지 않으면 Spring Boot 기본 DataSource 하나만 사용)
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "accounts.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        List<ReplicaStatus> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + replica.getName());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            if (replica.getDriverClassName() != null) {
+                dataSource.setDriverClassName(replica.getDriverClassName());
+            }
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setMinimumIdle(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(replica.getConnectionTimeoutMs());
+            dataSource.setLeakDetectionThreshold(replica.getLeakDetectionThresholdMs());
+            // replica pool 은 bean 이 아니므로 hikaricp.connections.* metric 을 직접 등록
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            dataSource.setReadOnly(true);
+            // replica 가 기동 시점에 내려가 있어도 애플리케이션은 기동되도록 pool 초기화 실패를 허용
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaStatus(replica.getName(), dataSource, replica.getLagQuery()));
+        }
+        log.info("Read replica routing enabled with {} replica(s)", replicas.size());
+        return new ReplicaHealthChecker(replicas, properties.getMaxLagMs(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaHealthChecker replicaHealthChecker) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+        replicaHealthChecker.getReplicas().forEach(replica -> targetDataSources.put(replica.getName(), replica.getDataSource()));
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaHealthChecker.getReplicas());
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        // 트랜잭션의 readOnly 여부가 정해진 뒤(첫 쿼리 실행 시점)에 실제 connection 을 가져오도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaStickinessFilter replicaStickinessFilter(DataSourceRoutingProperties properties) {
+        return new ReplicaStickinessFilter(properties.getMaxLagMs());
+    }
+}
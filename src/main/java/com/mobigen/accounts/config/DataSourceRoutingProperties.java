@@ -0,0 +1,48 @@
+package com.mobigen.accounts.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * read replica routing 설정 (accounts.datasource.routing.*)
+ * primary 는 기존 spring.datasource.* 설정을 그대로 사용하고, replica 만 이곳에 정의한다.
+ */
+@ConfigurationProperties(prefix = "accounts.datasource.routing")
+@Getter
+@Setter
+public class DataSourceRoutingProperties {
+
+    // false 이면 기존과 동일하게 spring.datasource 하나만 사용
+    private boolean enabled = false;
+
+    // replica 상태 점검 주기 (ms)
+    private long healthCheckIntervalMs = 5000;
+
+    // 허용 가능한 최대 replication lag (ms). 초과하면 해당 replica 로 read 를 보내지 않는다.
+    // write 한 client 의 다음 요청도 이 시간 동안은 primary 로 read 한다. (ReplicaStickinessFilter)
+    private long maxLagMs = 5000;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 3000;
+        // 0 이면 leak detection 미사용
+        private long leakDetectionThresholdMs = 0;
+        // replication lag(초)을 반환하는 쿼리 (ex. postgresql: SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()))
+        // 비어있으면 lag 은 0 으로 간주하고 연결 가능 여부만 점검
+        private String lagQuery;
+    }
+}
@@ -0,0 +1,87 @@
+package com.mobigen.accounts.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * replica 의 연결 가능 여부와 replication lag 을 주기적으로 점검하고 metric 으로 노출한다.
+ * - accounts.datasource.replica.up{replica}  : 1 = read 대상, 0 = 제외
+ * - accounts.datasource.replica.lag{replica} : 마지막으로 측정된 lag
+ */
+@Slf4j
+public class ReplicaHealthChecker implements DisposableBean {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<ReplicaStatus> replicas;
+    private final long maxLagMillis;
+
+    public ReplicaHealthChecker(List<ReplicaStatus> replicas, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLagMillis = maxLagMillis;
+        for (ReplicaStatus replica : replicas) {
+            Gauge.builder("accounts.datasource.replica.up", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .description("Whether the replica currently receives read-only transactions")
+                    .register(meterRegistry);
+            TimeGauge.builder("accounts.datasource.replica.lag", replica, TimeUnit.MILLISECONDS, ReplicaStatus::getLagMillis)
+                    .tag("replica", replica.getName())
+                    .description("Last measured replication lag of the replica")
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<ReplicaStatus> getReplicas() {
+        return replicas;
+    }
+
+    @Scheduled(fixedDelayString = "${accounts.datasource.routing.health-check-interval-ms:5000}")
+    public void check() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(ReplicaStatus replica) {
+        boolean healthy;
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            if (healthy && replica.getLagQuery() != null && !replica.getLagQuery().isBlank()) {
+                try (Statement statement = connection.createStatement();
+                        ResultSet rs = statement.executeQuery(replica.getLagQuery())) {
+                    // 쿼리 결과가 null 이면(replay 이력 없음 등) lag 0 으로 간주
+                    long lagMillis = rs.next() ? Math.round(rs.getDouble(1) * 1000) : 0;
+                    replica.setLagMillis(Math.max(0, lagMillis));
+                }
+                healthy = replica.getLagMillis() <= maxLagMillis;
+            }
+        } catch (Exception e) {
+            log.debug("Replica [{}] health check failed: {}", replica.getName(), e.getMessage());
+            healthy = false;
+        }
+        if (healthy != replica.isHealthy()) {
+            log.warn("Replica [{}] is now {} (lag: {}ms)", replica.getName(), healthy ? "UP" : "DOWN", replica.getLagMillis());
+        }
+        replica.setHealthy(healthy);
+    }
+
+    @Override
+    public void destroy() {
+        for (ReplicaStatus replica : replicas) {
+            if (replica.getDataSource() instanceof HikariDataSource hikariDataSource) {
+                hikariDataSource.close();
+            }
+        }
+    }
+}
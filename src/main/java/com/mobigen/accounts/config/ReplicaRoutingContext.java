@@ -0,0 +1,79 @@
+package com.mobigen.accounts.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * read-your-writes 를 위한 요청(thread) 단위 상태
+ * 요청 처리 중 write 트랜잭션이 한번이라도 실행되면 이후 같은 요청의 read 는 replica lag 과 상관없이 primary 로 보낸다.
+ * - HTTP 요청: ReplicaStickinessFilter 가 beginRequest / clear 로 요청 범위를 정한다.
+ *   같은 client 의 다음 요청도 primary 로 보내도록 write 시 filter 에 알리고 (onWrite), filter 가 client 에 write 시각을 전달한다.
+ * - 그 외(stream consumer, gRPC, scheduler 등 요청 범위가 없는 thread): write 트랜잭션이 끝나면(afterCompletion) 초기화하여
+ *   thread pool 의 다음 작업에 남지 않도록 한다.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Runnable> WRITE_LISTENER = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+        // restrict instantiation
+    }
+
+    /**
+     * 요청 범위 시작, 이후 write 여부는 clear() 까지 유지된다.
+     */
+    public static void beginRequest() {
+        REQUEST.set(Boolean.TRUE);
+    }
+
+    /**
+     * @param writtenRecently - 이전 요청에서 replica lag 이내에 write 한 client 이면 처음부터 primary 로 보낸다
+     * @param onWrite - 이 요청에서 처음 write 할 때 한번 실행 (client 에 write 시각 전달)
+     */
+    public static void beginRequest(boolean writtenRecently, Runnable onWrite) {
+        REQUEST.set(Boolean.TRUE);
+        WRITE_LISTENER.set(onWrite);
+        if (writtenRecently) {
+            WRITTEN.set(Boolean.TRUE);
+        }
+    }
+
+    public static void markWritten() {
+        if (REQUEST.get() != null) {
+            Runnable listener = WRITE_LISTENER.get();
+            if (listener != null) {
+                WRITE_LISTENER.remove();
+                listener.run();
+            }
+            WRITTEN.set(Boolean.TRUE);
+            return;
+        }
+        if (WRITTEN.get() != null) {
+            return;
+        }
+        // 요청 범위 밖에서는 현재 트랜잭션 동안만 유지 (synchronization 이 없으면 정리할 수 없으므로 기록하지 않음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            WRITTEN.set(Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (REQUEST.get() == null) {
+                        WRITTEN.remove();
+                    }
+                }
+            });
+        }
+    }
+
+    public static boolean isWritten() {
+        return WRITTEN.get() != null;
+    }
+
+    public static void clear() {
+        WRITTEN.remove();
+        REQUEST.remove();
+        WRITE_LISTENER.remove();
+    }
+}
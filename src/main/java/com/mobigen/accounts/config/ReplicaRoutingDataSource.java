@@ -0,0 +1,46 @@
+package com.mobigen.accounts.config;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @Transactional(readOnly = true) 트랜잭션은 정상 상태의 replica 로, 그 외(write, 트랜잭션 없음)는 primary 로 보낸다.
+ * 트랜잭션 속성이 결정된 후 connection 을 가져와야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<ReplicaStatus> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(List<ReplicaStatus> replicas) {
+        this.replicas = replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReplicaRoutingContext.markWritten();
+            }
+            return PRIMARY;
+        }
+        if (ReplicaRoutingContext.isWritten()) {
+            return PRIMARY;
+        }
+        // round-robin 으로 정상(healthy) replica 선택, 모두 비정상이면 primary
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size == 0 ? 1 : size);
+        for (int i = 0; i < size; i++) {
+            ReplicaStatus replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+}
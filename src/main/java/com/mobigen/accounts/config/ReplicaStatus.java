@@ -0,0 +1,25 @@
+package com.mobigen.accounts.config;
+
+import javax.sql.DataSource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * replica 하나의 DataSource 와 최근 점검 결과 (health checker 가 갱신하고 routing 시 읽기만 한다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReplicaStatus {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final String lagQuery;
+
+    @Setter
+    private volatile boolean healthy = true;
+
+    @Setter
+    private volatile long lagMillis = 0;
+}
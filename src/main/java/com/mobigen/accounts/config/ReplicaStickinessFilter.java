@@ -0,0 +1,77 @@
+package com.mobigen.accounts.config;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 동안 read-your-writes 상태를 유지하고, 요청이 끝나면 초기화하여 thread pool 의 다음 요청에 영향을 주지 않도록 한다.
+ * 요청 간 read-your-writes: write 한 요청의 응답에 write 시각(cookie 와 header, accounts-written-at)을 넣고,
+ * 그 값을 보낸 다음 요청은 stickyMillis(accounts.datasource.routing.max-lag-ms) 동안 read 도 primary 로 보낸다.
+ * (그보다 lag 이 큰 replica 는 ReplicaHealthChecker 가 read 대상에서 제외하므로 이후에는 replica 에도 write 가 반영되어 있음)
+ * 시각은 instance 의 clock 으로 비교하므로 instance 간 clock 차이만큼 window 가 짧아지거나 길어질 수 있다.
+ */
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    public static final String WRITTEN_AT = "accounts-written-at";
+
+    private final long stickyMillis;
+
+    public ReplicaStickinessFilter(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long writtenAt = writtenAt(request);
+        boolean writtenRecently = writtenAt > 0 && System.currentTimeMillis() - writtenAt < stickyMillis;
+        ReplicaRoutingContext.beginRequest(writtenRecently, () -> markWritten(response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    // write 는 응답 body 를 쓰기 전(controller 처리 중)에 일어나므로 이 시점에는 header 를 추가할 수 있다.
+    private void markWritten(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        String now = String.valueOf(System.currentTimeMillis());
+        Cookie cookie = new Cookie(WRITTEN_AT, now);
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (stickyMillis + 999) / 1000));
+        response.addCookie(cookie);
+        response.setHeader(WRITTEN_AT, now);
+    }
+
+    // cookie 를 유지하지 않는 서비스 간 호출은 받은 header 를 그대로 보내면 된다.
+    private static long writtenAt(HttpServletRequest request) {
+        String value = request.getHeader(WRITTEN_AT);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (WRITTEN_AT.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                    break;
+                }
+            }
+        }
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.mobigen.accounts.config;
+
+/**
+ * 현재 thread 가 사용할 shard 번호 (ShardRoutingDataSource 의 lookup key)
+ * 트랜잭션의 첫 쿼리 시점에 connection 이 정해지므로 트랜잭션을 시작하기 전에 설정해야 한다. (ShardKeyAspect, ShardRouter)
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+        // restrict instantiation
+    }
+
+    /**
+     * @return 현재 shard, 설정되지 않았으면 null
+     */
+    public static Integer current() {
+        return SHARD.get();
+    }
+
+    /**
+     * @return 이전 shard (복원용), 없으면 null
+     */
+    public static Integer set(Integer shard) {
+        Integer previous = SHARD.get();
+        if (shard == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(shard);
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mobigen.accounts.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * service 메서드의 mobileNumber (String, CustomerDto 또는 CustomerDetailsDto) 인자에 붙이면 ShardKeyAspect 가
+ * 트랜잭션 시작 전에 해당 mobileNumber 의 shard 를 ShardContext 에 설정한다.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
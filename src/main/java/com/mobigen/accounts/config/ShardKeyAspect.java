@@ -0,0 +1,76 @@
+package com.mobigen.accounts.config;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @ShardKey 인자가 있는 service 메서드를 해당 mobileNumber 의 shard 에서 실행
+ * @Transactional 보다 바깥에서 동작해야 하므로 가장 높은 우선순위로 둔다. (트랜잭션 시작 전에 ShardContext 설정)
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ShardKeyAspect {
+
+    private static final int NO_SHARD_KEY = -1;
+
+    private final ShardRouter shardRouter;
+    private final Map<Method, Integer> shardKeyIndexes = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.mobigen.accounts.service.impl.*.*(..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        int index = shardKeyIndexes.computeIfAbsent(
+                AopUtils.getMostSpecificMethod(method, joinPoint.getTarget().getClass()), ShardKeyAspect::shardKeyIndex);
+        if (index == NO_SHARD_KEY) {
+            return joinPoint.proceed();
+        }
+        String mobileNumber = mobileNumber(joinPoint.getArgs()[index]);
+        if (mobileNumber == null) {
+            return joinPoint.proceed();
+        }
+        Integer previous = ShardContext.set(shardRouter.shardOf(mobileNumber));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    private static int shardKeyIndex(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardKey) {
+                    return i;
+                }
+            }
+        }
+        return NO_SHARD_KEY;
+    }
+
+    private static String mobileNumber(Object arg) {
+        if (arg instanceof CustomerDto customerDto) {
+            return customerDto.mobileNumber();
+        }
+        if (arg instanceof CustomerDetailsDto customerDetailsDto) {
+            return customerDetailsDto.mobileNumber();
+        }
+        return arg instanceof String mobileNumber ? mobileNumber : null;
+    }
+}
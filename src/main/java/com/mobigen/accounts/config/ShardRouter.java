@@ -0,0 +1,135 @@
+package com.mobigen.accounts.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * mobileNumber → shard 계산과 shard 지정 실행
+ * - shard = CRC32(mobileNumber) mod shardCount (JVM / 버전에 관계없이 같은 값)
+ * - 같은 mobileNumber 는 항상 같은 shard 에 있으므로 shard 별 unique index 로 전체 shard 에서 unique 가 보장된다.
+ * - account number 는 (accountNumber - 1000000000) mod shardCount 가 생성 시점의 shard 가 되도록 만든다.
+ * sharding 을 사용하지 않으면 shard 는 0 하나이다.
+ * 트랜잭션(및 EntityManager)은 shard 마다 따로 열어야 하므로 spring.jpa.open-in-view 는 false 로 둔다.
+ * inTransaction / readOnly 는 요청 처리용으로 accounts.transaction.request-timeout-seconds 를 적용하고,
+ * 전체 scan(export, filter / read model 재생성)은 timeout 없는 scan 으로 실행한다.
+ */
+@Component
+public class ShardRouter {
+
+    private static final long ACCOUNT_NUMBER_BASE = 1000000000L;
+    private static final int ACCOUNT_NUMBER_RANGE = 900000000;
+
+    /**
+     * 요청 처리 트랜잭션의 timeout(초), @Transactional(timeoutString = ...) 에도 사용
+     */
+    public static final String REQUEST_TIMEOUT_SECONDS = "${accounts.transaction.request-timeout-seconds:5}";
+
+    private final int shardCount;
+    private final TransactionTemplate writeTx;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate scanTx;
+
+    @Autowired
+    public ShardRouter(ShardingProperties properties, PlatformTransactionManager transactionManager,
+            @Value(REQUEST_TIMEOUT_SECONDS) int requestTimeoutSeconds) {
+        this(properties.isEnabled() ? properties.getShards().size() : 1, transactionManager, requestTimeoutSeconds);
+    }
+
+    public ShardRouter(int shardCount, PlatformTransactionManager transactionManager) {
+        this(shardCount, transactionManager, TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+
+    public ShardRouter(int shardCount, PlatformTransactionManager transactionManager, int requestTimeoutSeconds) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shardCount = shardCount;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.writeTx.setTimeout(requestTimeoutSeconds);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setTimeout(requestTimeoutSeconds);
+        this.scanTx = new TransactionTemplate(transactionManager);
+        this.scanTx.setReadOnly(true);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(String mobileNumber) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(mobileNumber.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc32.getValue() % shardCount);
+    }
+
+    /**
+     * @return account number 를 만든 shard (이후 mobileNumber 변경으로 다른 shard 로 옮겨졌을 수 있음)
+     */
+    public int shardOfAccount(long accountNumber) {
+        return (int) Math.floorMod(accountNumber - ACCOUNT_NUMBER_BASE, (long) shardCount);
+    }
+
+    /**
+     * @return 10 자리 account number (shardOfAccount 로 shard 를 알 수 있음)
+     */
+    public long newAccountNumber(int shard) {
+        int slot = ThreadLocalRandom.current().nextInt(ACCOUNT_NUMBER_RANGE / shardCount);
+        return ACCOUNT_NUMBER_BASE + (long) slot * shardCount + shard;
+    }
+
+    /**
+     * 트랜잭션 없이 (또는 호출하는 쪽이 시작하는 트랜잭션으로) shard 에서 실행
+     */
+    public <T> T on(int shard, Supplier<T> action) {
+        Integer previous = ShardContext.set(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    /**
+     * shard 에서 새 write 트랜잭션으로 실행 (이미 트랜잭션 안이면 참여하므로 다른 shard 의 트랜잭션 안에서 호출하지 않는다)
+     */
+    public <T> T inTransaction(int shard, Supplier<T> action) {
+        return on(shard, () -> writeTx.execute(status -> action.get()));
+    }
+
+    /**
+     * shard 에서 readOnly 트랜잭션으로 실행 (shard 를 사용하지 않으면 replica routing 대상)
+     */
+    public <T> T readOnly(int shard, Supplier<T> action) {
+        return on(shard, () -> readOnlyTx.execute(status -> action.get()));
+    }
+
+    /**
+     * shard 에서 timeout 없는 readOnly 트랜잭션으로 실행 (streaming scan 용, 요청 처리에는 readOnly 사용)
+     */
+    public <T> T scan(int shard, Supplier<T> action) {
+        return on(shard, () -> scanTx.execute(status -> action.get()));
+    }
+
+    /**
+     * 모든 shard 에 대해 순서대로 실행 (scatter)
+     */
+    public void forEachShard(IntConsumer action) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            action.accept(shard);
+        }
+    }
+}
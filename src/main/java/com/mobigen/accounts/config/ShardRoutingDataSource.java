@@ -0,0 +1,18 @@
+package com.mobigen.accounts.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardContext 의 shard 로 connection 을 가져온다. 설정되지 않은 경우(audit writer, 기동 시 schema 초기화 등)는 shard 0.
+ * ReplicaRoutingDataSource 와 같이 트랜잭션이 시작된 뒤 첫 쿼리에서 connection 을 가져오도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final int DEFAULT_SHARD = 0;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard == null ? DEFAULT_SHARD : shard;
+    }
+}
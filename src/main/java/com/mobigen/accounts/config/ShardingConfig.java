@@ -0,0 +1,81 @@
+package com.mobigen.accounts.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * accounts.datasource.sharding.enabled=true 인 경우 accounts.datasource.sharding.shards 로 구성된 shard routing DataSource 를 사용한다.
+ * 모든 shard 는 같은 schema 를 가지며 (spring.sql.init.schema-locations 를 shard 마다 실행),
+ * customer / accounts / customer_details_view 는 mobileNumber 의 shard 에 저장된다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "accounts.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardingProperties properties, MeterRegistry meterRegistry, ResourceLoader resourceLoader,
+            @Value("${spring.sql.init.schema-locations:}") List<String> schemaLocations) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("accounts.datasource.sharding.shards must not be empty");
+        }
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int shard = 0; shard < properties.getShards().size(); shard++) {
+            HikariDataSource dataSource = shardDataSource(properties.getShards().get(shard), shard, meterRegistry);
+            if (!schemaLocations.isEmpty()) {
+                ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+                schemaLocations.forEach(location -> populator.addScript(resourceLoader.getResource(location)));
+                DatabasePopulatorUtils.execute(populator, dataSource);
+            }
+            targetDataSources.put(shard, dataSource);
+        }
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(targetDataSources.get(ShardRoutingDataSource.DEFAULT_SHARD));
+        routingDataSource.afterPropertiesSet();
+        log.info("Shard routing enabled with {} shard(s)", targetDataSources.size());
+        // 트랜잭션이 시작된 뒤 첫 쿼리 시점의 ShardContext 로 connection 을 가져오도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ShardKeyAspect shardKeyAspect(ShardRouter shardRouter) {
+        return new ShardKeyAspect(shardRouter);
+    }
+
+    private static HikariDataSource shardDataSource(ShardingProperties.Shard shard, int index, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + (shard.getName() == null ? index : shard.getName()));
+        dataSource.setJdbcUrl(shard.getUrl());
+        dataSource.setUsername(shard.getUsername());
+        dataSource.setPassword(shard.getPassword());
+        if (shard.getDriverClassName() != null) {
+            dataSource.setDriverClassName(shard.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(shard.getConnectionTimeoutMs());
+        // shard pool 은 bean 이 아니므로 hikaricp.connections.* metric 을 직접 등록
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
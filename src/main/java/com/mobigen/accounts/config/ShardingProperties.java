@@ -0,0 +1,38 @@
+package com.mobigen.accounts.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * customer / accounts hash sharding 설정 (accounts.datasource.sharding.*)
+ * mobileNumber 의 hash 로 shard 를 정하므로 shard 의 수와 순서는 데이터가 들어간 뒤에 바꿀 수 없다. (바꾸려면 재분배 필요)
+ * read replica routing(accounts.datasource.routing) 과 함께 사용할 수 없다.
+ */
+@ConfigurationProperties(prefix = "accounts.datasource.sharding")
+@Getter
+@Setter
+public class ShardingProperties {
+
+    // false 이면 기존과 동일하게 spring.datasource 하나만 사용 (shard 1개)
+    private boolean enabled = false;
+
+    // 순서가 shard 번호 (0, 1, 2 ...). shard 0 은 audit_event 등 shard key 가 없는 table 도 저장한다.
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 3000;
+    }
+}
@@ -0,0 +1,97 @@
+package com.mobigen.accounts.config;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mobigen.accounts.tuning.Tuning;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+/**
+ * SQL 실행 시간 집계 및 slow / sampled query 로그
+ * - threshold 이상 걸린 query 는 항상 WARN 로 기록
+ * - 그 외에는 sample-rate 비율만큼만 INFO 로 기록 (0 이면 기록하지 않음)
+ * - threshold, sample-rate 는 TuningRegistry 에서 읽으므로 실행 중 변경된다.
+ * - statement(SQL 문자열) 별 count / total / max 를 lock 없이 집계 (종류가 max-statements 를 넘으면 OTHER 로 합산)
+ */
+public class SqlStatistics {
+
+    public static final String OTHER_STATEMENTS = "<other>";
+
+    // query 로그는 별도 logger 로 분리하여 log4j2.xml 에서 level 조정 가능
+    private static final Logger SQL_LOG = LoggerFactory.getLogger("com.mobigen.accounts.sql");
+
+    private final ConcurrentHashMap<String, StatementStats> statistics = new ConcurrentHashMap<>();
+    private final TuningRegistry tuningRegistry;
+    private final int maxStatements;
+
+    public SqlStatistics(TuningRegistry tuningRegistry, int maxStatements) {
+        this.tuningRegistry = tuningRegistry;
+        this.maxStatements = maxStatements;
+    }
+
+    public void record(String sql, long elapsedNanos, boolean failed) {
+        String key = sql == null ? OTHER_STATEMENTS : sql;
+        StatementStats stats = statistics.get(key);
+        if (stats == null) {
+            key = statistics.size() < maxStatements ? key : OTHER_STATEMENTS;
+            stats = statistics.computeIfAbsent(key, k -> new StatementStats());
+        }
+        stats.record(elapsedNanos, failed);
+
+        Tuning tuning = tuningRegistry.current();
+        double sampleRate = tuning.sqlSampleRate();
+        if (elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(tuning.sqlSlowThresholdMs())) {
+            SQL_LOG.warn("Slow SQL ({}ms{}): {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), failed ? ", failed" : "", sql);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            SQL_LOG.info("Sampled SQL ({}ms): {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql);
+        }
+    }
+
+    /**
+     * @return total time 내림차순으로 정렬된 statement 별 집계
+     */
+    public List<StatementSnapshot> snapshot() {
+        return statistics.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(Comparator.comparingDouble(StatementSnapshot::totalMs).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    private static class StatementStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        void record(long elapsedNanos, boolean failed) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        StatementSnapshot snapshot(String sql) {
+            long executions = count.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new StatementSnapshot(sql, executions, errors.sum(), totalMs,
+                    executions == 0 ? 0 : totalMs / executions, maxNanos.get() / 1_000_000.0);
+        }
+    }
+
+    public record StatementSnapshot(String sql, long count, long errors, double totalMs, double meanMs, double maxMs) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.mobigen.accounts.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mobigen.accounts.endpoint.SqlStatisticsEndpoint;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+/**
+ * spring.jpa.show-sql 대신 사용하는 query 관측 설정 (accounts.sql.*)
+ * JPA 가 사용하는 "dataSource" bean 을 SqlTimingDataSource 로 감싸 모든 SQL 의 실행 시간을 집계한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accounts.sql.timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTimingConfig {
+
+    @Bean
+    public SqlStatistics sqlStatistics(TuningRegistry tuningRegistry,
+            @Value("${accounts.sql.timing.max-statements:500}") int maxStatements) {
+        return new SqlStatistics(tuningRegistry, maxStatements);
+    }
+
+    @Bean
+    public SqlStatisticsEndpoint sqlStatisticsEndpoint(SqlStatistics sqlStatistics) {
+        return new SqlStatisticsEndpoint(sqlStatistics);
+    }
+
+    // BeanPostProcessor 는 다른 bean 보다 먼저 생성되어야 하므로 static 으로 선언
+    @Bean
+    public static BeanPostProcessor sqlTimingDataSourcePostProcessor(ObjectProvider<SqlStatistics> sqlStatistics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlTimingDataSource)) {
+                    return new SqlTimingDataSource(dataSource, sqlStatistics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
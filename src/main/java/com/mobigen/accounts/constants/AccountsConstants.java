@@ -15,6 +15,14 @@ public final class AccountsConstants {
     public static final String  STATUS_417 = "417";
     public static final String  MESSAGE_417_UPDATE= "Update operation failed. Please try again or contact Dev team";
     public static final String  MESSAGE_417_DELETE= "Delete operation failed. Please try again or contact Dev team";
+    public static final String  EXPORT_FORMAT_NDJSON = "ndjson";
+    public static final String  EXPORT_FORMAT_CSV = "csv";
+    public static final int     SEARCH_DEFAULT_LIMIT = 20;
+    public static final int     SEARCH_MAX_LIMIT = 100;
+    public static final int     BATCH_MAX_SIZE = 1000;
+    public static final String  BATCH_STATUS_FOUND = "FOUND";
+    public static final String  BATCH_STATUS_NOT_FOUND = "NOT_FOUND";
+    public static final String  MEDIA_TYPE_SMILE = "application/x-jackson-smile";
     // public static final String  STATUS_500 = "500";
     // public static final String  MESSAGE_500 = "An error occurred. Please try again or contact Dev team";
 
@@ -1,6 +1,8 @@
 package com.mobigen.accounts.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -10,15 +12,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.mobigen.accounts.cache.ETagUtil;
+import com.mobigen.accounts.cache.StaticResponseCache;
 import com.mobigen.accounts.constants.AccountsConstants;
+import com.mobigen.accounts.dto.AccountsBatchRequestDto;
 import com.mobigen.accounts.dto.AccountsContactInfoDto;
 import com.mobigen.accounts.dto.CustomerDto;
 import com.mobigen.accounts.dto.ErrorResponseDto;
 import com.mobigen.accounts.dto.ResponseDto;
+import com.mobigen.accounts.service.IAccountsBatchService;
 import com.mobigen.accounts.service.IAccountsService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,7 +42,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Tag(name = "CRUD REST APIs for Accounts in EazyBank", description = "CRUD REST APIs in EazyBank to CREATE, UPDATE, FETCH AND DELETE account details")
 @RestController
-@RequestMapping(path = "/api", produces = { MediaType.APPLICATION_JSON_VALUE })
+// JSON 을 첫번째로 두어 Accept 가 없거나 */* 인 외부 호출은 JSON, 서비스 간 호출은 Accept 에 따라 CBOR / Smile
+@RequestMapping(path = "/api", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+		AccountsConstants.MEDIA_TYPE_SMILE })
 @Validated
 public class AccountsController {
 
@@ -42,7 +52,10 @@ public class AccountsController {
 	private IAccountsService iAccountsService;
 
 	@Autowired
-	private AccountsContactInfoDto accountsContactInfoDto;
+	private IAccountsBatchService iAccountsBatchService;
+
+	@Autowired
+	private StaticResponseCache staticResponseCache;
 
 	// 현재 rest api 에 대한 설명 및 응답 객체 내용 설명
 	@Operation(summary = "Create Account REST API", description = "REST API to create new Customer &  Account inside EazyBank")
@@ -60,16 +73,38 @@ public class AccountsController {
 				.body(new ResponseDto(AccountsConstants.STATUS_201, AccountsConstants.MESSAGE_201));
 	}
 
-	@Operation(summary = "Fetch Account Details REST API", description = "REST API to fetch Customer &  Account details based on a mobile number")
+	@Operation(summary = "Fetch Account Details REST API", description = "REST API to fetch Customer &  Account details based on a mobile number."
+			+ "\nResponses carry a strong ETag, send it back as If-None-Match to get 304 when nothing changed")
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "HTTP Status OK"),
+			@ApiResponse(responseCode = "304", description = "HTTP Status Not Modified"),
 			@ApiResponse(responseCode = "500", description = "HTTP Status Internal Server Error", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
 	})
 	@GetMapping("/fetch")
 	public ResponseEntity<CustomerDto> fetchAccountDetails(
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
 			@RequestParam @Pattern(regexp = "(^$|[0-9]{10})", message = "Mobile number must be 10 digits") String mobileNumber) {
+		// version 만 먼저 조회하여 일치하면 DTO 를 만들지 않고 304
+		// (상세 조회보다 먼저 읽으므로 그 사이 수정되더라도 ETag 가 응답보다 새로운 값이 되지는 않는다)
+		String etag = iAccountsService.fetchAccountETag(mobileNumber);
+		if (ETagUtil.matches(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).build();
+		}
 		CustomerDto customerDto = iAccountsService.fetchAccount(mobileNumber);
-		return ResponseEntity.status(HttpStatus.OK).body(customerDto);
+		return ResponseEntity.status(HttpStatus.OK).eTag(etag).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(customerDto);
+	}
+
+	@Operation(summary = "Batch Fetch Account Details REST API", description = "REST API to fetch Customer &  Account details of up to 1000 mobile numbers at once."
+			+ "\nThe response is a JSON object keyed by mobile number, unknown mobile numbers are marked NOT_FOUND instead of failing the request")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "HTTP Status OK"),
+			@ApiResponse(responseCode = "400", description = "HTTP Status Bad Request", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+			@ApiResponse(responseCode = "500", description = "HTTP Status Internal Server Error", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+	})
+	@PostMapping(value = "/fetch/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> fetchAccountDetailsBatch(@Valid @RequestBody AccountsBatchRequestDto request) {
+		StreamingResponseBody body = outputStream -> iAccountsBatchService.fetchAccounts(request.mobileNumbers(), outputStream);
+		return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(body);
 	}
 
 	@Operation(summary = "Update Account Details REST API", description = "REST API to update Customer &  Account details based on a account number")
@@ -115,13 +150,14 @@ public class AccountsController {
 
 	@Operation(summary = "Get Contact Info", description = "Contact Info details that can be reached out in case of any issues")
 	@ApiResponses({
-			@ApiResponse(responseCode = "200", description = "HTTP Status OK"),
+			@ApiResponse(responseCode = "200", description = "HTTP Status OK", content = @Content(schema = @Schema(implementation = AccountsContactInfoDto.class))),
+			@ApiResponse(responseCode = "304", description = "HTTP Status Not Modified"),
 			@ApiResponse(responseCode = "500", description = "HTTP Status Internal Server Error", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
 	})
-	@GetMapping("/contact-info")
-	public ResponseEntity<AccountsContactInfoDto> getContactInfo() {
-		return ResponseEntity
-				.status(HttpStatus.OK)
-				.body(accountsContactInfoDto);
+	@GetMapping(value = "/contact-info", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<byte[]> getContactInfo(
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		// 미리 직렬화된 응답 (refresh 시점에만 다시 만든다), If-None-Match 가 일치하면 304
+		return staticResponseCache.contactInfo(ifNoneMatch);
 	}
 }
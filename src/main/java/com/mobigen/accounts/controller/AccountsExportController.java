@@ -0,0 +1,66 @@
+package com.mobigen.accounts.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.mobigen.accounts.constants.AccountsConstants;
+import com.mobigen.accounts.dto.ErrorResponseDto;
+import com.mobigen.accounts.repository.AccountsExportRepository.PageKey;
+import com.mobigen.accounts.service.IAccountsExportService;
+import com.mobigen.accounts.utils.CursorUtil;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Export REST API for Accounts in EazyBank", description = "REST APIs in EazyBank to EXPORT all customer & account details")
+@RestController
+@RequestMapping(path = "/api/accounts")
+@Validated
+@RequiredArgsConstructor
+public class AccountsExportController {
+
+	private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+	private final IAccountsExportService iAccountsExportService;
+
+	@Operation(summary = "Export Accounts REST API", description = "REST API to stream every Customer & Account as NDJSON or CSV."
+			+ "\nEach row carries a 'cursor'. Pass the cursor of the last received row as 'resumeToken' to resume an interrupted export.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "HTTP Status OK"),
+			@ApiResponse(responseCode = "400", description = "HTTP Status Bad Request", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+			@ApiResponse(responseCode = "500", description = "HTTP Status Internal Server Error", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+	})
+	@GetMapping(value = "/export", produces = { MediaType.APPLICATION_NDJSON_VALUE, "text/csv" })
+	public ResponseEntity<StreamingResponseBody> exportAccounts(
+			@RequestParam(defaultValue = "ndjson") @Pattern(regexp = "(?i)(ndjson|csv)", message = "Format must be ndjson or csv") String format,
+			@RequestParam(required = false) String resumeToken,
+			@RequestParam(required = false) @Min(value = 1, message = "fetchSize must be positive") @Max(value = 10000, message = "fetchSize must be 10000 or less") Integer fetchSize) {
+		boolean csv = AccountsConstants.EXPORT_FORMAT_CSV.equalsIgnoreCase(format);
+		// 응답이 시작(commit)되기 전에 resumeToken 을 검증하여 잘못된 token 은 400 으로 응답
+		// cursor 는 customerId|accountNumber (shard 1개) 또는 shard|customerId|accountNumber
+		long[] position = (resumeToken == null || resumeToken.isBlank()) ? new long[] { 0L, 0L } : CursorUtil.decodeLongs(resumeToken, 2, 3);
+		int fromShard = position.length == 3 ? (int) position[0] : 0;
+		PageKey after = new PageKey(position[position.length - 2], position[position.length - 1]);
+		StreamingResponseBody body = outputStream -> iAccountsExportService.export(format, fromShard, after, fetchSize, outputStream);
+		return ResponseEntity
+				.status(HttpStatus.OK)
+				.contentType(csv ? CSV : MediaType.APPLICATION_NDJSON)
+				.header("Content-Disposition", "attachment; filename=\"accounts-export." + (csv ? "csv" : "ndjson") + "\"")
+				.body(body);
+	}
+}
@@ -1,17 +1,33 @@
 package com.mobigen.accounts.controller;
 
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.mobigen.accounts.cache.CustomerDetailsETagCache;
+import com.mobigen.accounts.cache.ETagUtil;
+import com.mobigen.accounts.constants.AccountsConstants;
+import com.mobigen.accounts.dto.AccountsBatchRequestDto;
 import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDetailsViewDto;
+import com.mobigen.accounts.dto.CustomerSearchDto;
 import com.mobigen.accounts.dto.ErrorResponseDto;
+import com.mobigen.accounts.service.IAccountsBatchService;
+import com.mobigen.accounts.service.IAccountsService;
 import com.mobigen.accounts.service.ICustomersService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,34 +36,103 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@Tag(name = "REST API for Customers in EazyBank", description = "REST APIs in EazyBank to FETCH customer details")
+@Tag(name = "REST API for Customers in EazyBank", description = "REST APIs in EazyBank to FETCH and SEARCH customer details")
 @RestController
-@RequestMapping(path = "/api", produces = { MediaType.APPLICATION_JSON_VALUE })
+// JSON 을 첫번째로 두어 Accept 가 없거나 */* 인 외부 호출은 JSON, 서비스 간 호출은 Accept 에 따라 CBOR / Smile
+@RequestMapping(path = "/api", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                AccountsConstants.MEDIA_TYPE_SMILE })
 @Validated
 @RequiredArgsConstructor
 @Slf4j
 public class CustomerController {
 
         private final ICustomersService iCustomersService;
+        private final IAccountsService iAccountsService;
+        private final IAccountsBatchService iAccountsBatchService;
+        private final CustomerDetailsETagCache customerDetailsETagCache;
 
-        @Operation(summary = "Fetch Customer Details REST API", description = "REST API to fetch Customer details based on a mobile number")
+        @Operation(summary = "Fetch Customer Details REST API", description = "REST API to fetch Customer details based on a mobile number."
+                        + "\nResponses carry a strong ETag, send it back as If-None-Match to get 304 when nothing changed")
         @ApiResponses({
-                        @ApiResponse(responseCode = "200", description = "HTTP Status OK"),
+                        @ApiResponse(responseCode = "200", description = "HTTP Status OK", content = @Content(schema = @Schema(implementation = CustomerDetailsDto.class))),
+                        @ApiResponse(responseCode = "304", description = "HTTP Status Not Modified"),
                         @ApiResponse(responseCode = "500", description = "HTTP Status Internal Server Error", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
         })
         @GetMapping("/fetchCustomerDetails")
-        public ResponseEntity<CustomerDetailsDto> fetchCustomerDetails(
+        public ResponseEntity<CustomerDetailsViewDto> fetchCustomerDetails(
                         @RequestHeader("msa-correlation-id") String correlationId,
+                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                         @RequestParam @Pattern(regexp = "(^$|[0-9]{10})", message = "Mobile number must be 10 digits") String mobileNumber) {
                 log.debug("msa-correlation-id found: {} ", correlationId);
-                CustomerDetailsDto customerDetailsDto = iCustomersService.fetchCustomerDetails(mobileNumber,
+                // If-None-Match 가 있으면 customer/accounts 는 version 조회, cards/loans 는 cache 된 hash 로 ETag 를 만들어
+                // 일치하면 DB 상세 조회와 cards/loans 호출 없이 304
+                if (ifNoneMatch != null) {
+                        String etag = customerDetailsETagCache.currentETag(mobileNumber,
+                                        iAccountsService.fetchAccountETag(mobileNumber));
+                        if (etag != null && ETagUtil.matches(ifNoneMatch, etag)) {
+                                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).build();
+                        }
+                }
+                // read model 의 JSON 을 그대로 응답 (CustomerDetailsDto 와 같은 JSON)
+                // ETag 는 응답 JSON 과 함께 저장/조회한 version 으로 만든다. (version 을 다시 조회하지 않음)
+                CustomerDetailsViewDto customerDetailsViewDto = iCustomersService.fetchCustomerDetailsView(mobileNumber,
                                 correlationId);
-                return ResponseEntity.status(HttpStatus.OK).body(customerDetailsDto);
+                String etag = customerDetailsViewDto.version() == null ? null
+                                : customerDetailsETagCache.update(mobileNumber, customerDetailsViewDto.version(),
+                                                customerDetailsViewDto.cards(), customerDetailsViewDto.loans());
+                if (etag == null) {
+                        // cards/loans fallback 응답이 포함되었거나 version 을 모르는 경우 ETag 없이 응답
+                        return ResponseEntity.status(HttpStatus.OK).body(customerDetailsViewDto);
+                }
+                return ResponseEntity.status(HttpStatus.OK).eTag(etag).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(customerDetailsViewDto);
+
+        }
+
+        @Operation(summary = "Batch Fetch Customer Details REST API", description = "REST API to fetch Customer details of up to 1000 mobile numbers at once."
+                        + "\nThe response is a JSON object keyed by mobile number, unknown mobile numbers are marked NOT_FOUND instead of failing the request")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "HTTP Status OK"),
+                        @ApiResponse(responseCode = "400", description = "HTTP Status Bad Request", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+                        @ApiResponse(responseCode = "500", description = "HTTP Status Internal Server Error", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+        })
+        @PostMapping(value = "/fetchCustomerDetails/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> fetchCustomerDetailsBatch(
+                        @RequestHeader("msa-correlation-id") String correlationId,
+                        @Valid @RequestBody AccountsBatchRequestDto request) {
+                log.debug("msa-correlation-id found: {} ", correlationId);
+                StreamingResponseBody body = outputStream -> iAccountsBatchService.fetchCustomerDetails(request.mobileNumbers(),
+                                correlationId, outputStream);
+                return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(body);
+        }
 
+        @Operation(summary = "Search Customers REST API", description = "REST API to search Customers by name/email prefix and created-at range."
+                        + "\nPages are keyset based: pass 'nextCursor' of the previous page as 'cursor' with the same filters.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "HTTP Status OK"),
+                        @ApiResponse(responseCode = "400", description = "HTTP Status Bad Request", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+                        @ApiResponse(responseCode = "500", description = "HTTP Status Internal Server Error", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+        })
+        @GetMapping("/customers/search")
+        public ResponseEntity<CustomerSearchDto> searchCustomers(
+                        @RequestParam(required = false) @Size(max = 30, message = "Name prefix must be 30 characters or less") String namePrefix,
+                        @RequestParam(required = false) @Size(max = 100, message = "Email prefix must be 100 characters or less") String emailPrefix,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "" + AccountsConstants.SEARCH_DEFAULT_LIMIT)
+                        @Min(value = 1, message = "limit must be positive")
+                        @Max(value = AccountsConstants.SEARCH_MAX_LIMIT, message = "limit must be 100 or less") int limit) {
+                CustomerSearchDto customerSearchDto = iCustomersService.searchCustomers(namePrefix, emailPrefix,
+                                createdFrom, createdTo, cursor, limit);
+                return ResponseEntity.status(HttpStatus.OK).body(customerSearchDto);
         }
 
 }
@@ -1,11 +1,10 @@
 package com.mobigen.accounts.controller;
 
-import java.net.InetAddress;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,9 +15,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mobigen.accounts.cache.StaticResponseCache;
 import com.mobigen.accounts.dto.ErrorResponseDto;
 import com.mobigen.accounts.service.IAccountsService;
 import com.mobigen.accounts.service.client.CardsFeignClient;
+import com.mobigen.accounts.tuning.TuningRegistry;
 import com.mobigen.accounts.utils.RequestUtil;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,7 +32,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@RefreshScope
+// @RefreshScope 미사용: scoped proxy 는 Spring AOT(fast-startup build)에서 지원되지 않는다.
+// build-info, health 응답은 StaticResponseCache 가 refresh 시점에 다시 만들고, 실행 중 변경되는 값은 TuningRegistry 에서 읽는다.
 @Slf4j
 @Tag(name = "Env check for test", description = "Env check for test")
 @RestController
@@ -43,8 +45,10 @@ public class EnvController {
 	// @RequiredArgsConstructor + private final = @Autowired
     private final CardsFeignClient cardsFeignClient;
 
-    @Value("${build.version}")
-    private String buildVersion;
+    private final StaticResponseCache staticResponseCache;
+
+    // accounts.debug.request-headers.sample-rate (실행 중 변경 가능)
+    private final TuningRegistry tuningRegistry;
 
     @Autowired
     private Environment environment;
@@ -55,20 +59,20 @@ public class EnvController {
     @Operation(summary = "Gateway check REST API", description = "REST API to check API-Gateway")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "HTTP Status OK"),
+            @ApiResponse(responseCode = "304", description = "HTTP Status Not Modified"),
             @ApiResponse(responseCode = "500", description = "HTTP Status Internal Server Error", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @GetMapping("/health")
-    public ResponseEntity<String> checkHealth(HttpServletRequest request,
-        @RequestHeader(value = "msa-correlation-id", required = false, defaultValue = "fake-id") String customHeaderId) {
-        log.info("msa-correlation-id: " + customHeaderId);
-        log.info(RequestUtil.getRequestHeaderInfos(request));
-        String hostname = "null";
-        try {
-                hostname = InetAddress.getLocalHost().getHostName().toString();
-        } catch (Exception e) {
-                log.error(e.getMessage());
+    public ResponseEntity<byte[]> checkHealth(HttpServletRequest request,
+        @RequestHeader(value = "msa-correlation-id", required = false, defaultValue = "fake-id") String customHeaderId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 요청 header 전체 출력은 DEBUG 레벨에서 sample-rate 비율의 요청만 (기본 0: 출력하지 않음)
+        double headerDumpSampleRate = tuningRegistry.current().requestHeaderSampleRate();
+        if (log.isDebugEnabled() && headerDumpSampleRate > 0
+                && ThreadLocalRandom.current().nextDouble() < headerDumpSampleRate) {
+            log.debug("msa-correlation-id: {}{}", customHeaderId, RequestUtil.getRequestHeaderInfos(request));
         }
-        return ResponseEntity.status(HttpStatus.OK).body("HostName: " + hostname);
+        return staticResponseCache.health(ifNoneMatch);
     }
 
     @Operation(summary = "Gateway check REST API", description = "REST API to check API-Gateway")
@@ -93,6 +97,10 @@ public class EnvController {
                     responseCode = "200",
                     description = "HTTP Status OK"
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "HTTP Status Not Modified"
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "HTTP Status Internal Server Error",
@@ -103,17 +111,9 @@ public class EnvController {
     }
     )
     @GetMapping("/build-info")
-    public ResponseEntity<String> getBuildInfo() {
-        String hostname = "null";
-        try {
-			hostname = InetAddress.getLocalHost().getHostName().toString();
-        } catch (Exception e) {
-			log.error(e.getMessage());
-        }
-        log.info("Check hostname: " + hostname);
-        return ResponseEntity
-                    .status(HttpStatus.OK)
-                    .body(buildVersion + "::" + hostname);
+    public ResponseEntity<byte[]> getBuildInfo(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return staticResponseCache.buildInfo(ifNoneMatch);
     }
 
     @Operation(
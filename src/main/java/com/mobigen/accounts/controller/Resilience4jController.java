@@ -2,7 +2,6 @@ package com.mobigen.accounts.controller;
 
 import java.util.concurrent.CompletableFuture;
 
-import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,7 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@RefreshScope
+// resilience4j 설정은 registry 에서 읽으므로 @RefreshScope(scoped proxy)가 필요하지 않다. (Spring AOT 미지원)
 @Slf4j
 @Tag(name = "CircuitBreaker check for test", description = "CircuitBreaker check for test")
 @RestController
@@ -0,0 +1,21 @@
+package com.mobigen.accounts.dto;
+
+import java.util.List;
+
+import com.mobigen.accounts.constants.AccountsConstants;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+@Schema(
+        name = "AccountsBatchRequest",
+        description = "Schema to hold the mobile numbers of a batched fetch"
+)
+public record AccountsBatchRequestDto(
+    @Schema(description = "Mobile numbers to fetch (duplicates are fetched once)", example = "[\"4354437687\", \"9345432123\"]")
+    @NotEmpty(message = "Mobile numbers can not be a null or empty")
+    @Size(max = AccountsConstants.BATCH_MAX_SIZE, message = "Up to 1000 mobile numbers can be fetched at once")
+    List<@Pattern(regexp = "(^$|[0-9]{10})", message = "Mobile number must be 10 digits") String> mobileNumbers) {
+}
@@ -0,0 +1,7 @@
+package com.mobigen.accounts.dto;
+
+// export 한 행(row): customer + accounts 를 join 한 결과와 해당 행 이후부터 이어받기 위한 cursor(resume token)
+public record AccountsExportDto(
+    Long customerId, String name, String email, String mobileNumber,
+    Long accountNumber, String accountType, String branchAddress, String cursor) {
+}
@@ -0,0 +1,10 @@
+package com.mobigen.accounts.dto;
+
+// mobileNumber 에 해당하는 customer / accounts 의 @Version 값만 조회한 결과 (DTO 전체를 만들지 않고 ETag 검증)
+public record AccountsVersionDto(Long customerId, Long customerVersion, Long accountsVersion) {
+
+    // customerId 를 포함하여 삭제 후 같은 mobileNumber 로 재등록된 경우도 다른 ETag 가 되도록 한다.
+    public String etag() {
+        return "\"" + customerId + "-" + customerVersion + "-" + accountsVersion + "\"";
+    }
+}
@@ -0,0 +1,27 @@
+package com.mobigen.accounts.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mobigen.accounts.constants.AccountsConstants;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+// batch 조회 응답의 key(mobileNumber) 하나에 대한 결과. 없는 key 는 예외 대신 NOT_FOUND 로 표시
+@Schema(
+        name = "BatchEntry",
+        description = "Schema to hold the result of one key of a batched fetch"
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchEntryDto<T>(
+    @Schema(description = "FOUND or NOT_FOUND", example = "FOUND")
+    String status,
+    @Schema(description = "Fetched details, absent when NOT_FOUND")
+    T data) {
+
+    public static <T> BatchEntryDto<T> found(T data) {
+        return new BatchEntryDto<>(AccountsConstants.BATCH_STATUS_FOUND, data);
+    }
+
+    public static <T> BatchEntryDto<T> notFound() {
+        return new BatchEntryDto<>(AccountsConstants.BATCH_STATUS_NOT_FOUND, null);
+    }
+}
@@ -0,0 +1,5 @@
+package com.mobigen.accounts.dto;
+
+// cards 서비스의 카드 변경 event (cards-changed), cardsDto 가 null 이면 삭제
+public record CardsChangedEventDto(String mobileNumber, CardsDto cardsDto) {
+}
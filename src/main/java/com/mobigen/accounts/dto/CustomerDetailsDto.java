@@ -5,49 +5,55 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
-import lombok.Data;
 
-@Data
+// 필드 순서는 CustomerDetailsView 가 직접 쓰는 JSON 과 같아야 한다. (customer → loansDto → cardsDto)
 @Schema(
         name = "CustomerDetails",
         description = "Schema to hold Customer, Account, Cards and Loans information"
 )
-public class CustomerDetailsDto {
+public record CustomerDetailsDto(
 
     @Schema(
             description = "Name of the customer", example = "Eazy Bytes"
     )
     @NotEmpty(message = "Name can not be a null or empty")
     @Size(min = 5, max = 30, message = "The length of the customer name should be between 5 and 30")
-    private String name;
+    String name,
 
     @Schema(
             description = "Email address of the customer", example = "tutor@eazybytes.com"
     )
     @NotEmpty(message = "Email address can not be a null or empty")
     @Email(message = "Email address should be a valid value")
-    private String email;
+    String email,
 
     @Schema(
             description = "Mobile Number of the customer", example = "9345432123"
     )
     @Pattern(regexp = "(^$|[0-9]{10})", message = "Mobile number must be 10 digits")
-    private String mobileNumber;
+    String mobileNumber,
 
     @Schema(
             description = "Account details of the Customer"
     )
-    private AccountsDto accountsDto;
+    AccountsDto accountsDto,
 
     @Schema(
             description = "Loans details of the Customer"
     )
-    private LoansDto loansDto;
+    LoansDto loansDto,
 
     @Schema(
             description = "Cards details of the Customer"
     )
-    private CardsDto cardsDto;
+    CardsDto cardsDto) {
 
+    public static CustomerDetailsDto of(CustomerDto customerDto, LoansDto loansDto, CardsDto cardsDto) {
+        return new CustomerDetailsDto(customerDto.name(), customerDto.email(), customerDto.mobileNumber(),
+                customerDto.accountsDto(), loansDto, cardsDto);
+    }
 
+    public CustomerDto customer() {
+        return new CustomerDto(name, email, mobileNumber, accountsDto);
+    }
 }
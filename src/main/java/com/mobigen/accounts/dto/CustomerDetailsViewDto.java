@@ -0,0 +1,91 @@
+package com.mobigen.accounts.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * /api/fetchCustomerDetails 응답을 read model(customer_details_view) 에 저장된 JSON 조각으로 바로 쓴다.
+ * CustomerDetailsDto 와 같은 JSON 이 되며, 조각을 DTO 로 읽었다가 다시 직렬화하지 않는다.
+ * - JSON: 조각을 이어 붙여 raw value 로 기록
+ * - CBOR / Smile: 조각을 token 단위로 옮겨 기록 (객체를 만들지 않음)
+ *
+ * @param customer - CustomerDto (with AccountsDto) JSON
+ * @param loans - LoansDto JSON, null 이면 loans 호출 실패(fallback)
+ * @param cards - CardsDto JSON, null 이면 cards 호출 실패(fallback)
+ * @param version - customer 를 만든 customer / accounts 의 version ETag (응답 ETag 용, 응답에는 쓰지 않음), null 이면 알 수 없음
+ */
+@JsonSerialize(using = CustomerDetailsViewDto.Serializer.class)
+public record CustomerDetailsViewDto(String customer, String loans, String cards, String version) {
+
+    public CustomerDetailsViewDto(String customer, String loans, String cards) {
+        this(customer, loans, cards, null);
+    }
+
+    private static final String LOANS_FIELD = "loansDto";
+    private static final String CARDS_FIELD = "cardsDto";
+
+    /**
+     * customer 객체의 닫는 괄호 앞에 loansDto, cardsDto 를 이어 붙인 JSON
+     */
+    public String toJson() {
+        String loansJson = loans == null ? "null" : loans;
+        String cardsJson = cards == null ? "null" : cards;
+        int end = customer.lastIndexOf('}');
+        return new StringBuilder(end + loansJson.length() + cardsJson.length() + 32)
+                .append(customer, 0, end)
+                .append(",\"").append(LOANS_FIELD).append("\":").append(loansJson)
+                .append(",\"").append(CARDS_FIELD).append("\":").append(cardsJson)
+                .append('}')
+                .toString();
+    }
+
+    public static class Serializer extends StdSerializer<CustomerDetailsViewDto> {
+
+        private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+        public Serializer() {
+            super(CustomerDetailsViewDto.class);
+        }
+
+        @Override
+        public void serialize(CustomerDetailsViewDto value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (gen instanceof JsonGeneratorImpl) {
+                gen.writeRawValue(value.toJson());
+                return;
+            }
+            gen.writeStartObject();
+            try (JsonParser parser = JSON_FACTORY.createParser(value.customer())) {
+                parser.nextToken();
+                // customer 객체의 필드(이름 + 값)를 그대로 옮긴다.
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    gen.copyCurrentStructure(parser);
+                }
+            }
+            gen.writeFieldName(LOANS_FIELD);
+            copy(value.loans(), gen);
+            gen.writeFieldName(CARDS_FIELD);
+            copy(value.cards(), gen);
+            gen.writeEndObject();
+        }
+
+        private static void copy(String json, JsonGenerator gen) throws IOException {
+            if (json == null) {
+                gen.writeNull();
+                return;
+            }
+            try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+                parser.nextToken();
+                gen.copyCurrentStructure(parser);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.mobigen.accounts.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+        name = "CustomerSearch",
+        description = "Schema to hold one page of a Customer search"
+)
+public record CustomerSearchDto(
+    @Schema(description = "Customers of the page (account details are not included)")
+    List<CustomerDto> customers,
+    @Schema(description = "Cursor to pass to get the next page, null when there is no next page")
+    String nextCursor) {
+}
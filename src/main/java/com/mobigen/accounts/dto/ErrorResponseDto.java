@@ -5,34 +5,30 @@ import java.time.LocalDateTime;
 import org.springframework.http.HttpStatus;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.AllArgsConstructor;
-import lombok.Data;
 
-@Data @AllArgsConstructor
 @Schema(
         name = "ErrorResponse",
         description = "Schema to hold error response information"
 )
-public class ErrorResponseDto {
+public record ErrorResponseDto(
 
     @Schema(
             description = "API path invoked by client"
     )
-    private  String apiPath;
+    String apiPath,
 
     @Schema(
             description = "Error code representing the error happened"
     )
-    private HttpStatus errorCode;
+    HttpStatus errorCode,
 
     @Schema(
             description = "Error message representing the error happened"
     )
-    private  String errorMessage;
+    String errorMessage,
 
     @Schema(
             description = "Time representing when the error happened"
     )
-    private LocalDateTime errorTime;
-
+    LocalDateTime errorTime) {
 }
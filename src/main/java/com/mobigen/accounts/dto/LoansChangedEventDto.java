@@ -0,0 +1,5 @@
+package com.mobigen.accounts.dto;
+
+// loans 서비스의 대출 변경 event (loans-changed), loansDto 가 null 이면 삭제
+public record LoansChangedEventDto(String mobileNumber, LoansDto loansDto) {
+}
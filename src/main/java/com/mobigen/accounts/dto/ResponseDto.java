@@ -1,24 +1,20 @@
 package com.mobigen.accounts.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.AllArgsConstructor;
-import lombok.Data;
 
 @Schema(
         name = "Response",
         description = "Schema to hold successful response information"
 )
-@Data @AllArgsConstructor
-public class ResponseDto {
+public record ResponseDto(
 
     @Schema(
             description = "Status code in the response"
     )
-    private String statusCode;
+    String statusCode,
 
     @Schema(
             description = "Status message in the response"
     )
-    private String statusMsg;
-    
+    String statusMsg) {
 }
@@ -0,0 +1,37 @@
+package com.mobigen.accounts.endpoint;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.service.ICustomerDetailsViewService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/customerdetailsview
+ * GET  : read model 행 수, 조회 hit / miss 수
+ * POST : 전체 재생성 ({"resetDownstream": true} 이면 cards / loans 도 비워서 다음 조회 시 다시 채움)
+ */
+@Component
+@Endpoint(id = "customerdetailsview")
+@RequiredArgsConstructor
+public class CustomerDetailsViewEndpoint {
+
+    private final ICustomerDetailsViewService customerDetailsViewService;
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return customerDetailsViewService.statistics();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild(@Nullable Boolean resetDownstream) {
+        customerDetailsViewService.rebuild(Boolean.TRUE.equals(resetDownstream));
+        return customerDetailsViewService.statistics();
+    }
+}
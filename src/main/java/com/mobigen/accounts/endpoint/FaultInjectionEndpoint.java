@@ -0,0 +1,62 @@
+package com.mobigen.accounts.endpoint;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.fault.FaultInjector;
+import com.mobigen.accounts.fault.FaultRule;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/faults (fault-injection profile 에서만 등록)
+ * GET             : 대상별 장애 규칙
+ * POST            : 규칙 설정 ({"target": "feign:cards", "latencyMs": 500, "errorRate": 0.3, "timeoutRate": 0.1, "timeoutMs": 3000})
+ * DELETE          : 모든 규칙 삭제
+ * DELETE /{target}: 대상 규칙 삭제
+ * 대상: feign, feign:cards, feign:loans, db, stream
+ */
+@Component
+@Profile(FaultInjector.PROFILE)
+@Endpoint(id = "faults")
+@RequiredArgsConstructor
+public class FaultInjectionEndpoint {
+
+    private final FaultInjector faultInjector;
+
+    @ReadOperation
+    public Map<String, FaultRule> rules() {
+        return faultInjector.rules();
+    }
+
+    @WriteOperation
+    public Map<String, FaultRule> put(String target, @Nullable Long latencyMs, @Nullable Double errorRate,
+            @Nullable Double timeoutRate, @Nullable Long timeoutMs) {
+        faultInjector.put(target, new FaultRule(
+                latencyMs == null ? 0 : latencyMs,
+                errorRate == null ? 0 : errorRate,
+                timeoutRate == null ? 0 : timeoutRate,
+                timeoutMs == null ? 0 : timeoutMs));
+        return faultInjector.rules();
+    }
+
+    @DeleteOperation
+    public Map<String, FaultRule> clear() {
+        faultInjector.clear();
+        return faultInjector.rules();
+    }
+
+    @DeleteOperation
+    public Map<String, FaultRule> remove(@Selector String target) {
+        faultInjector.remove(target);
+        return faultInjector.rules();
+    }
+}
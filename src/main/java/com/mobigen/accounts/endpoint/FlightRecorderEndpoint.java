@@ -0,0 +1,169 @@
+package com.mobigen.accounts.endpoint;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.jfr.AccountCreateEvent;
+import com.mobigen.accounts.jfr.AccountFetchEvent;
+import com.mobigen.accounts.jfr.CacheLookupEvent;
+import com.mobigen.accounts.jfr.CustomerDetailsEvent;
+import com.mobigen.accounts.jfr.StreamMessageEvent;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * /actuator/jfr
+ * GET           : recording 목록
+ * POST          : recording 시작 ({"name": "...", "settings": "default|profile", "maxAgeSeconds": 600, "durationSeconds": 60})
+ * GET /{name}   : recording 을 .jfr 파일로 dump (recording 은 계속 진행)
+ * DELETE /{name}: recording 중지 및 삭제
+ * accounts JFR event (com.mobigen.accounts.*) 는 settings 와 관계없이 항상 기록한다.
+ * 환경 변수, system property, JVM 인자(비밀번호 등이 포함될 수 있음)를 기록하는 event 는 settings 와 관계없이 끈다.
+ * 인증 없이 노출되지 않도록 web exposure 에서 기본으로 제외한다. (management.endpoints.web.exposure.exclude)
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "default";
+    private static final long DEFAULT_MAX_AGE_SECONDS = 600;
+    private static final List<Class<? extends jdk.jfr.Event>> ACCOUNTS_EVENTS = List.of(AccountFetchEvent.class,
+            AccountCreateEvent.class, CustomerDetailsEvent.class, CacheLookupEvent.class, StreamMessageEvent.class);
+    static final List<String> SENSITIVE_EVENTS = List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty",
+            "jdk.InitialSecurityProperty", "jdk.JVMInformation", "jdk.SystemProcess");
+
+    @ReadOperation
+    public List<Map<String, Object>> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream().map(FlightRecorderEndpoint::describe).toList();
+    }
+
+    @WriteOperation
+    public Map<String, Object> start(@Nullable String name, @Nullable String settings, @Nullable Long maxAgeSeconds,
+            @Nullable Long durationSeconds) {
+        String recordingName = name == null ? "accounts-" + System.currentTimeMillis() : name;
+        if (find(recordingName) != null) {
+            throw new IllegalArgumentException("Recording already exists: " + recordingName);
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings == null ? DEFAULT_SETTINGS : settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+        Map<String, String> recordingSettings = new HashMap<>(configuration.getSettings());
+        SENSITIVE_EVENTS.forEach(event -> recordingSettings.put(event + "#enabled", "false"));
+        Recording recording = new Recording(recordingSettings);
+        recording.setName(recordingName);
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofSeconds(maxAgeSeconds == null ? DEFAULT_MAX_AGE_SECONDS : maxAgeSeconds));
+        if (durationSeconds != null) {
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+        }
+        ACCOUNTS_EVENTS.forEach(recording::enable);
+        recording.start();
+        log.info("JFR recording started. name: {}, settings: {}", recordingName, configuration.getName());
+        return describe(recording);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String name) {
+        Recording recording = find(name);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path file = Files.createTempFile(name + "-", ".jfr");
+            recording.dump(file);
+            return new WebEndpointResponse<>(new TemporaryFileSystemResource(file), WebEndpointResponse.STATUS_OK);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump recording " + name, e);
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Map<String, Object>> stop(@Selector String name) {
+        Recording recording = find(name);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Map<String, Object> description = describe(recording);
+        recording.close();
+        log.info("JFR recording closed. name: {}", name);
+        return new WebEndpointResponse<>(description, WebEndpointResponse.STATUS_OK);
+    }
+
+    private static Recording find(String name) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> name.equals(recording.getName()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", recording.getId());
+        description.put("name", recording.getName());
+        description.put("state", recording.getState());
+        description.put("startTime", recording.getStartTime());
+        description.put("duration", recording.getDuration());
+        description.put("maxAge", recording.getMaxAge());
+        description.put("size", recording.getState() == RecordingState.NEW ? 0 : recording.getSize());
+        return description;
+    }
+
+    /**
+     * 응답을 다 보낸 뒤 dump 파일을 지운다.
+     */
+    private static final class TemporaryFileSystemResource extends FileSystemResource {
+
+        private TemporaryFileSystemResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        // zero-copy(file region) 전송을 하지 않고 getInputStream 으로 읽도록 한다.
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+    }
+}
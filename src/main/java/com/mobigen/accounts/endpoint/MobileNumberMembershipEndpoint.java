@@ -0,0 +1,36 @@
+package com.mobigen.accounts.endpoint;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.cache.MobileNumberMembership;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/membership
+ * GET  : filter 크기, 메모리 사용량, 예상/관측 false positive 확률, 조회 결과 수
+ * POST : filter 재생성 (customer 전체 scan)
+ */
+@Component
+@Endpoint(id = "membership")
+@RequiredArgsConstructor
+public class MobileNumberMembershipEndpoint {
+
+    private final MobileNumberMembership mobileNumberMembership;
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return mobileNumberMembership.statistics();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        mobileNumberMembership.rebuild();
+        return mobileNumberMembership.statistics();
+    }
+}
@@ -0,0 +1,33 @@
+package com.mobigen.accounts.endpoint;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.mobigen.accounts.config.SqlStatistics;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/sqlstats
+ * GET    : statement 별 실행 횟수, 오류 수, 총/평균/최대 실행 시간(ms) (총 실행 시간 내림차순)
+ * DELETE : 집계 초기화
+ */
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatisticsEndpoint {
+
+    private final SqlStatistics sqlStatistics;
+
+    @ReadOperation
+    public List<SqlStatistics.StatementSnapshot> statistics() {
+        return sqlStatistics.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+    }
+}
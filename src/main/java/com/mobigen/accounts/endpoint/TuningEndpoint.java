@@ -0,0 +1,35 @@
+package com.mobigen.accounts.endpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/tuning
+ * GET: 현재 적용 중인 실행 중 변경 가능 설정 값(version, 적용 시각)과 최근 변경 이력
+ * 값 변경은 config server 수정 후 /actuator/refresh 또는 /actuator/busrefresh 로 한다.
+ */
+@Component
+@Endpoint(id = "tuning")
+@RequiredArgsConstructor
+public class TuningEndpoint {
+
+    private final TuningRegistry tuningRegistry;
+
+    @ReadOperation
+    public Map<String, Object> tuning() {
+        Map<String, Object> tuning = new LinkedHashMap<>();
+        tuning.put("version", tuningRegistry.version());
+        tuning.put("updatedAt", tuningRegistry.updatedAt());
+        tuning.put("values", tuningRegistry.current().toProperties());
+        tuning.put("history", tuningRegistry.history());
+        return tuning;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -39,4 +40,9 @@ public abstract class BaseEntity {
     @LastModifiedBy
     @Column(insertable = false)
     private String updatedBy;
+
+    // 변경될 때마다 Hibernate 가 1 씩 증가 (낙관적 lock 및 /api/fetch 응답 ETag 의 기준 값)
+    // updatedAt 은 date 컬럼이라 같은 날 여러 번 수정되면 구분되지 않으므로 ETag 로 사용하지 않는다.
+    @Version
+    private Long version;
 }
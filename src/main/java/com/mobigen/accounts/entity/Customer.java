@@ -5,6 +5,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,6 +14,15 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
+// keyset 검색(/api/customers/search)의 (정렬키, customer_id) 순서와 동일한 index
+@Table(indexes = {
+    @Index(name = "idx_customer_name_id", columnList = "name, customer_id"),
+    @Index(name = "idx_customer_email_id", columnList = "email, customer_id"),
+    @Index(name = "idx_customer_created_at_id", columnList = "created_at, customer_id"),
+    // mobileNumber 로 조회하는 API(/api/fetch 등)와 ETag 용 version 조회
+    // unique: shard 는 mobileNumber 로 정해지므로 shard 별 unique 가 곧 전체 unique
+    @Index(name = "idx_customer_mobile_number", columnList = "mobile_number", unique = true)
+})
 @Getter
 @Setter
 @ToString
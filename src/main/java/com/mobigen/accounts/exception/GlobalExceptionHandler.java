@@ -1,5 +1,6 @@
 package com.mobigen.accounts.exception;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Map;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
@@ -15,13 +17,27 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import com.mobigen.accounts.dto.ErrorResponseDto;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    // 예상하지 못한 예외 / dependency 장애의 메시지(SQL, 내부 주소 등)는 응답에 넣지 않고 고정 메시지로 응답 (gRPC 도 같은 메시지)
+    public static final String INTERNAL_SERVER_ERROR_MESSAGE = "Internal server error";
+    public static final String SERVICE_UNAVAILABLE_MESSAGE = "Service temporarily unavailable, please retry later";
+    // 없는 mobileNumber 조회 / 중복 생성은 자주 일어나므로 요청별 값(경로, 시각, 입력값) 없이 고정 응답으로 처리
+    public static final String RESOURCE_NOT_FOUND_MESSAGE = "Resource not found with the given input data";
+    public static final String CUSTOMER_ALREADY_EXISTS_MESSAGE = "Customer already registered with given mobileNumber";
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
@@ -36,38 +52,86 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(validationErrors, HttpStatus.BAD_REQUEST);
     }
 
+    // scanner 등이 호출하는 없는 경로의 404 는 요청과 무관한 고정 응답(problem detail)을 미리 직렬화해 두고 그대로 반환
+    // (ResponseEntityExceptionHandler 기본 처리의 MessageSource 조회, ProblemDetail 생성 / 직렬화를 하지 않는다)
+    private static final ResponseEntity<Object> NOT_FOUND_PROBLEM = problemTemplate(HttpStatus.NOT_FOUND);
+
+    // 도메인 404 / 400 도 같은 방식으로 ErrorResponseDto 형식(apiPath, errorTime 제외)을 미리 직렬화해 둔다.
+    private static final ResponseEntity<Object> RESOURCE_NOT_FOUND = errorTemplate(HttpStatus.NOT_FOUND,
+            RESOURCE_NOT_FOUND_MESSAGE);
+    private static final ResponseEntity<Object> CUSTOMER_ALREADY_EXISTS = errorTemplate(HttpStatus.BAD_REQUEST,
+            CUSTOMER_ALREADY_EXISTS_MESSAGE);
+
+    private static ResponseEntity<Object> problemTemplate(HttpStatus status) {
+        return template(status, MediaType.APPLICATION_PROBLEM_JSON,
+                "{\"type\":\"about:blank\",\"title\":\"" + status.getReasonPhrase() + "\",\"status\":" + status.value() + "}");
+    }
+
+    private static ResponseEntity<Object> errorTemplate(HttpStatus status, String message) {
+        return template(status, MediaType.APPLICATION_JSON,
+                "{\"errorCode\":\"" + status.name() + "\",\"errorMessage\":\"" + message + "\"}");
+    }
+
+    private static ResponseEntity<Object> template(HttpStatus status, MediaType contentType, String json) {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        headers.setContentLength(body.length);
+        return new ResponseEntity<>(body, HttpHeaders.readOnlyHttpHeaders(headers), status);
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleNoResourceFoundException(
+            NoResourceFoundException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+        return NOT_FOUND_PROBLEM;
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleNoHandlerFoundException(
+            NoHandlerFoundException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+        return NOT_FOUND_PROBLEM;
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleGlobalException(Exception exception,
             WebRequest webRequest) {
-        ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
-                webRequest.getDescription(false),
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                exception.getMessage(),
-                LocalDateTime.now());
-        return new ResponseEntity<>(errorResponseDTO, HttpStatus.INTERNAL_SERVER_ERROR);
+        // 예상하지 못한 예외만 stack trace 와 함께 로그 (응답에는 포함하지 않음)
+        log.error("Unhandled exception on {}", webRequest.getDescription(false), exception);
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR_MESSAGE, webRequest);
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ErrorResponseDto> handleResourceNotFoundException(ResourceNotFoundException exception,
-            WebRequest webRequest) {
-        ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
-                webRequest.getDescription(false),
-                HttpStatus.NOT_FOUND,
-                exception.getMessage(),
-                LocalDateTime.now());
-        return new ResponseEntity<>(errorResponseDTO, HttpStatus.NOT_FOUND);
+    public ResponseEntity<Object> handleResourceNotFoundException(ResourceNotFoundException exception) {
+        return RESOURCE_NOT_FOUND;
     }
 
     @ExceptionHandler(CustomerAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponseDto> handleCustomerAlreadyExistsException(
-            CustomerAlreadyExistsException exception,
+    public ResponseEntity<Object> handleCustomerAlreadyExistsException(CustomerAlreadyExistsException exception) {
+        return CUSTOMER_ALREADY_EXISTS;
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidCursorException(InvalidCursorException exception,
+            WebRequest webRequest) {
+        return errorResponse(HttpStatus.BAD_REQUEST, exception.getMessage(), webRequest);
+    }
+
+    // db circuit breaker 가 열려 있거나 bulkhead 가 가득 찬 경우 (잠시 후 다시 시도 가능)
+    @ExceptionHandler({ CallNotPermittedException.class, BulkheadFullException.class })
+    public ResponseEntity<ErrorResponseDto> handleDependencyUnavailableException(RuntimeException exception,
+            WebRequest webRequest) {
+        log.warn("Dependency unavailable on {}: {}", webRequest.getDescription(false), exception.getMessage());
+        return errorResponse(HttpStatus.SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE_MESSAGE, webRequest);
+    }
+
+    private static ResponseEntity<ErrorResponseDto> errorResponse(HttpStatus status, String message,
             WebRequest webRequest) {
         ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
                 webRequest.getDescription(false),
-                HttpStatus.BAD_REQUEST,
-                exception.getMessage(),
+                status,
+                message,
                 LocalDateTime.now());
-        return new ResponseEntity<>(errorResponseDTO, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(errorResponseDTO, status);
     }
 
 }
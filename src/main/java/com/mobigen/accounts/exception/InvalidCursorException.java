@@ -0,0 +1,13 @@
+package com.mobigen.accounts.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends StacklessException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid or expired cursor : '" + cursor + "'");
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.mobigen.accounts.exception;
+
+/**
+ * 정상적인 흐름에서 발생하는 도메인 예외(없는 mobileNumber 의 404, 중복 등록 400 등)의 기반 클래스
+ * 응답에 stack trace 를 쓰지 않으므로 fillInStackTrace(thread stack 순회) 와 suppressed 목록을 만들지 않는다.
+ * 원인 파악에 stack trace 가 필요한 예외는 이 클래스를 상속하지 않는다.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.mobigen.accounts.fault;
+
+/**
+ * FaultInjector 가 정한 호출 결과 (지연은 이미 적용된 상태)
+ */
+public enum Fault {
+    NONE, ERROR, TIMEOUT
+}
@@ -0,0 +1,70 @@
+package com.mobigen.accounts.fault;
+
+import java.net.SocketTimeoutException;
+import java.util.Map;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.integration.config.GlobalChannelInterceptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+
+/**
+ * 실제 호출 경로(Feign client, repository, StreamBridge)에 장애를 주입 (fault-injection profile 에서만 동작)
+ * 규칙은 /actuator/faults 로 실행 중에 변경한다. 규칙이 없으면 호출에 영향이 없다.
+ * - Feign: 오류는 503 응답 (ErrorDecoder → circuit breaker / fallback), timeout 은 SocketTimeoutException (read timeout)
+ * - stream: MessageDeliveryException
+ */
+@Configuration
+@Profile(FaultInjector.PROFILE)
+public class FaultInjectionConfig {
+
+    @Bean
+    public Capability faultInjectionCapability(FaultInjector faultInjector) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> {
+                    String target = FaultInjector.FEIGN + ":" + request.requestTemplate().feignTarget().name();
+                    return switch (faultInjector.apply(target)) {
+                        case ERROR -> Response.builder()
+                                .request(request)
+                                .status(503)
+                                .reason("Injected fault")
+                                .headers(Map.of())
+                                .body(new byte[0])
+                                .build();
+                        case TIMEOUT -> throw new SocketTimeoutException("Injected timeout: " + target);
+                        default -> client.execute(request, options);
+                    };
+                };
+            }
+        };
+    }
+
+    @Bean
+    public RepositoryFaultAspect repositoryFaultAspect(FaultInjector faultInjector) {
+        return new RepositoryFaultAspect(faultInjector);
+    }
+
+    @Bean
+    @GlobalChannelInterceptor(patterns = "*-out-*")
+    public ChannelInterceptor faultInjectionSendInterceptor(FaultInjector faultInjector) {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (faultInjector.apply(FaultInjector.STREAM) != Fault.NONE) {
+                    throw new MessageDeliveryException(message, "Injected fault");
+                }
+                return message;
+            }
+        };
+    }
+}
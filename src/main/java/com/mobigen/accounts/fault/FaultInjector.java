@@ -0,0 +1,104 @@
+package com.mobigen.accounts.fault;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대상별 장애 규칙 보관 및 적용 (fault-injection profile 에서만 생성)
+ * 대상: feign (모든 Feign client), feign:cards, feign:loans, db (JPA / JDBC repository), stream (StreamBridge 전송)
+ * feign:{name} 규칙이 있으면 feign 규칙보다 우선한다.
+ */
+@Slf4j
+@Component
+@Profile(FaultInjector.PROFILE)
+public class FaultInjector {
+
+    public static final String PROFILE = "fault-injection";
+    public static final String FEIGN = "feign";
+    public static final String DB = "db";
+    public static final String STREAM = "stream";
+
+    private final Map<String, FaultRule> rules = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public FaultInjector(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        log.warn("Fault injection is available (profile '{}'). Do not activate this profile in production.", PROFILE);
+    }
+
+    public void put(String target, FaultRule rule) {
+        rules.put(target, rule);
+        log.warn("Fault rule set. target: {}, rule: {}", target, rule);
+    }
+
+    public void remove(String target) {
+        if (rules.remove(target) != null) {
+            log.warn("Fault rule removed. target: {}", target);
+        }
+    }
+
+    public void clear() {
+        rules.clear();
+        log.warn("All fault rules removed");
+    }
+
+    public Map<String, FaultRule> rules() {
+        return new TreeMap<>(rules);
+    }
+
+    /**
+     * @param target - 대상 (feign:cards 처럼 구체적인 대상은 없으면 앞부분(feign) 규칙을 사용)
+     * @return 지연을 적용한 뒤의 결과
+     */
+    public Fault apply(String target) {
+        if (rules.isEmpty()) {
+            return Fault.NONE;
+        }
+        FaultRule rule = rules.get(target);
+        if (rule == null) {
+            int separator = target.indexOf(':');
+            rule = separator < 0 ? null : rules.get(target.substring(0, separator));
+            if (rule == null) {
+                return Fault.NONE;
+            }
+        }
+        sleep(rule.latencyMs());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Fault fault = Fault.NONE;
+        if (rule.timeoutRate() > 0 && random.nextDouble() < rule.timeoutRate()) {
+            sleep(rule.timeoutMs());
+            fault = Fault.TIMEOUT;
+        } else if (rule.errorRate() > 0 && random.nextDouble() < rule.errorRate()) {
+            fault = Fault.ERROR;
+        }
+        if (fault != Fault.NONE) {
+            Counter.builder("accounts.faults.injected")
+                    .tag("target", target)
+                    .tag("fault", fault.name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return fault;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
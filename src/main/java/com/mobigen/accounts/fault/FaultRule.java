@@ -0,0 +1,23 @@
+package com.mobigen.accounts.fault;
+
+/**
+ * 대상(target) 하나에 주입할 장애
+ * 호출마다 latencyMs 만큼 지연시킨 뒤, timeoutRate 확률로 timeoutMs 를 더 기다려 timeout 을,
+ * 그렇지 않으면 errorRate 확률로 오류를 발생시킨다.
+ *
+ * @param latencyMs - 모든 호출에 추가할 지연 (ms)
+ * @param errorRate - 오류 비율 (0.0 ~ 1.0)
+ * @param timeoutRate - timeout 비율 (0.0 ~ 1.0)
+ * @param timeoutMs - timeout 으로 판정하기 전까지 기다리는 시간 (ms)
+ */
+public record FaultRule(long latencyMs, double errorRate, double timeoutRate, long timeoutMs) {
+
+    public FaultRule {
+        if (latencyMs < 0 || timeoutMs < 0) {
+            throw new IllegalArgumentException("latencyMs and timeoutMs must not be negative");
+        }
+        if (errorRate < 0 || errorRate > 1 || timeoutRate < 0 || timeoutRate > 1) {
+            throw new IllegalArgumentException("errorRate and timeoutRate must be between 0.0 and 1.0");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.mobigen.accounts.fault;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring Data JPA repository 와 repository package 의 JDBC repository 호출에 db 규칙을 적용
+ * 오류는 DataAccessResourceFailureException (connection 장애), timeout 은 QueryTimeoutException 으로 발생시킨다.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class RepositoryFaultAspect {
+
+    private final FaultInjector faultInjector;
+
+    @Around("target(org.springframework.data.repository.Repository) || within(com.mobigen.accounts.repository..*)")
+    public Object inject(ProceedingJoinPoint joinPoint) throws Throwable {
+        switch (faultInjector.apply(FaultInjector.DB)) {
+            case ERROR -> throw new DataAccessResourceFailureException("Injected fault: " + joinPoint.getSignature().toShortString());
+            case TIMEOUT -> throw new QueryTimeoutException("Injected timeout: " + joinPoint.getSignature().toShortString());
+            default -> {
+                return joinPoint.proceed();
+            }
+        }
+    }
+}
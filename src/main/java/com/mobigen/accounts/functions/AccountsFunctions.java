@@ -5,7 +5,12 @@ import java.util.function.Consumer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.mobigen.accounts.cache.CustomerDetailsETagCache;
+import com.mobigen.accounts.cache.MobileNumberMembership;
+import com.mobigen.accounts.dto.CardsChangedEventDto;
+import com.mobigen.accounts.dto.LoansChangedEventDto;
 import com.mobigen.accounts.service.IAccountsService;
+import com.mobigen.accounts.service.ICustomerDetailsViewService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,4 +24,46 @@ public class AccountsFunctions {
             accountsService.updateCommunicationStatus(accountNumber);
         };
     }
+
+    /**
+     * 다른 instance 에서 등록된 mobileNumber 를 membership filter 에 추가
+     */
+    @Bean
+    public Consumer<String> customerMembership(MobileNumberMembership mobileNumberMembership) {
+        return mobileNumberMembership::add;
+    }
+
+    /**
+     * 다른 instance 에서 받은 cards / loans 변경으로 이 instance 의 ETag 를 지운다.
+     */
+    @Bean
+    public Consumer<String> customerDetailsETag(CustomerDetailsETagCache customerDetailsETagCache) {
+        return customerDetailsETagCache::remove;
+    }
+
+    /**
+     * cards 서비스의 카드 변경을 customer_details_view 에 반영하고, 이전 cards 로 계산한 ETag 를 지운다.
+     */
+    @Bean
+    public Consumer<CardsChangedEventDto> cardsChanged(ICustomerDetailsViewService customerDetailsViewService,
+            CustomerDetailsETagCache customerDetailsETagCache) {
+        return event -> {
+            log.debug("Cards changed for the mobile number : {}", event.mobileNumber());
+            customerDetailsViewService.saveCards(event.mobileNumber(), event.cardsDto());
+            customerDetailsETagCache.invalidate(event.mobileNumber());
+        };
+    }
+
+    /**
+     * loans 서비스의 대출 변경을 customer_details_view 에 반영하고, 이전 loans 로 계산한 ETag 를 지운다.
+     */
+    @Bean
+    public Consumer<LoansChangedEventDto> loansChanged(ICustomerDetailsViewService customerDetailsViewService,
+            CustomerDetailsETagCache customerDetailsETagCache) {
+        return event -> {
+            log.debug("Loans changed for the mobile number : {}", event.mobileNumber());
+            customerDetailsViewService.saveLoans(event.mobileNumber(), event.loansDto());
+            customerDetailsETagCache.invalidate(event.mobileNumber());
+        };
+    }
 }
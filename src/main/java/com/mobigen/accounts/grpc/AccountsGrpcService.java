@@ -0,0 +1,99 @@
+package com.mobigen.accounts.grpc;
+
+import java.util.List;
+import java.util.Set;
+
+import com.mobigen.accounts.dto.AccountsBatchRequestDto;
+import com.mobigen.accounts.grpc.proto.AccountEntry;
+import com.mobigen.accounts.grpc.proto.AccountsServiceGrpc;
+import com.mobigen.accounts.grpc.proto.Customer;
+import com.mobigen.accounts.grpc.proto.CustomerDetails;
+import com.mobigen.accounts.grpc.proto.FetchAccountRequest;
+import com.mobigen.accounts.grpc.proto.FetchAccountsRequest;
+import com.mobigen.accounts.mapper.AccountsProtoMapper;
+import com.mobigen.accounts.service.IAccountsBatchService;
+import com.mobigen.accounts.service.IAccountsService;
+import com.mobigen.accounts.service.ICustomersService;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST controller 와 같은 service layer 를 사용하는 gRPC service (GrpcServerLifecycle 에서 등록)
+ * 입력 검증은 REST 요청 DTO(AccountsBatchRequestDto) 의 Bean Validation 제약을 그대로 사용한다.
+ */
+@RequiredArgsConstructor
+public class AccountsGrpcService extends AccountsServiceGrpc.AccountsServiceImplBase {
+
+    private final IAccountsService iAccountsService;
+    private final ICustomersService iCustomersService;
+    private final IAccountsBatchService iAccountsBatchService;
+    private final Validator validator;
+
+    @Override
+    public void fetchAccount(FetchAccountRequest request, StreamObserver<Customer> responseObserver) {
+        try {
+            validateMobileNumbers(List.of(request.getMobileNumber()));
+            responseObserver.onNext(AccountsProtoMapper.mapToCustomer(iAccountsService.fetchAccount(request.getMobileNumber())));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(GrpcExceptionTranslator.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void fetchCustomerDetails(FetchAccountRequest request, StreamObserver<CustomerDetails> responseObserver) {
+        try {
+            String correlationId = CorrelationIdServerInterceptor.CORRELATION_ID.get();
+            if (correlationId == null) {
+                // REST 의 필수 header(msa-correlation-id) 누락과 동일하게 처리
+                throw Status.INVALID_ARGUMENT.withDescription("Required metadata 'msa-correlation-id' is not present")
+                        .asRuntimeException();
+            }
+            validateMobileNumbers(List.of(request.getMobileNumber()));
+            responseObserver.onNext(AccountsProtoMapper.mapToCustomerDetails(
+                    iCustomersService.fetchCustomerDetails(request.getMobileNumber(), correlationId)));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(GrpcExceptionTranslator.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void fetchAccounts(FetchAccountsRequest request, StreamObserver<AccountEntry> responseObserver) {
+        ServerCallStreamObserver<AccountEntry> serverObserver = (ServerCallStreamObserver<AccountEntry>) responseObserver;
+        try {
+            validateMobileNumbers(request.getMobileNumbersList());
+            iAccountsBatchService.fetchAccounts(request.getMobileNumbersList(), (mobileNumber, entry) -> {
+                // client 가 취소한 경우 남은 항목은 조회만 하고 전송하지 않는다.
+                if (serverObserver.isCancelled()) {
+                    return;
+                }
+                AccountEntry.Builder builder = AccountEntry.newBuilder()
+                        .setMobileNumber(mobileNumber)
+                        .setFound(entry.data() != null);
+                if (entry.data() != null) {
+                    builder.setCustomer(AccountsProtoMapper.mapToCustomer(entry.data()));
+                }
+                serverObserver.onNext(builder.build());
+            });
+            if (!serverObserver.isCancelled()) {
+                serverObserver.onCompleted();
+            }
+        } catch (Exception e) {
+            serverObserver.onError(GrpcExceptionTranslator.toStatusException(e));
+        }
+    }
+
+    private void validateMobileNumbers(List<String> mobileNumbers) {
+        Set<ConstraintViolation<AccountsBatchRequestDto>> violations = validator.validate(new AccountsBatchRequestDto(mobileNumbers));
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mobigen.accounts.grpc;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+// REST 의 msa-correlation-id header 와 같은 이름의 metadata 를 gRPC Context 로 전달
+public class CorrelationIdServerInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> CORRELATION_ID_HEADER =
+            Metadata.Key.of("msa-correlation-id", Metadata.ASCII_STRING_MARSHALLER);
+    public static final Context.Key<String> CORRELATION_ID = Context.key("msa-correlation-id");
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        String correlationId = headers.get(CORRELATION_ID_HEADER);
+        return Contexts.interceptCall(Context.current().withValue(CORRELATION_ID, correlationId), call, headers, next);
+    }
+}
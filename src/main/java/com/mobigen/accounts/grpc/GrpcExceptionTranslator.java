@@ -0,0 +1,55 @@
+package com.mobigen.accounts.grpc;
+
+import java.util.stream.Collectors;
+
+import com.mobigen.accounts.exception.CustomerAlreadyExistsException;
+import com.mobigen.accounts.exception.GlobalExceptionHandler;
+import com.mobigen.accounts.exception.InvalidCursorException;
+import com.mobigen.accounts.exception.ResourceNotFoundException;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GlobalExceptionHandler(REST) 와 같은 기준과 같은 고정 메시지로 예외를 gRPC Status 로 변환
+ * 404 → NOT_FOUND, 400 → INVALID_ARGUMENT, 503 → UNAVAILABLE, 그 외 500 → INTERNAL
+ * 예상하지 못한 예외의 메시지(SQL, 내부 주소 등)는 client 에 보내지 않고 server log 에만 남긴다.
+ */
+@Slf4j
+public class GrpcExceptionTranslator {
+
+    public static StatusRuntimeException toStatusException(Throwable throwable) {
+        if (throwable instanceof StatusRuntimeException statusRuntimeException) {
+            return statusRuntimeException;
+        }
+        if (throwable instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(GlobalExceptionHandler.RESOURCE_NOT_FOUND_MESSAGE).asRuntimeException();
+        }
+        if (throwable instanceof ConstraintViolationException constraintViolationException) {
+            String description = constraintViolationException.getConstraintViolations().stream()
+                    .map(violation -> violation.getMessage())
+                    .distinct()
+                    .collect(Collectors.joining(", "));
+            return Status.INVALID_ARGUMENT.withDescription(description).asRuntimeException();
+        }
+        if (throwable instanceof CustomerAlreadyExistsException) {
+            return Status.INVALID_ARGUMENT.withDescription(GlobalExceptionHandler.CUSTOMER_ALREADY_EXISTS_MESSAGE)
+                    .asRuntimeException();
+        }
+        if (throwable instanceof InvalidCursorException) {
+            return Status.INVALID_ARGUMENT.withDescription(throwable.getMessage()).asRuntimeException();
+        }
+        // db circuit breaker 가 열려 있거나 bulkhead 가 가득 찬 경우 (잠시 후 다시 시도 가능)
+        if (throwable instanceof CallNotPermittedException || throwable instanceof BulkheadFullException) {
+            log.warn("Dependency unavailable in gRPC call: {}", throwable.getMessage());
+            return Status.UNAVAILABLE.withDescription(GlobalExceptionHandler.SERVICE_UNAVAILABLE_MESSAGE)
+                    .asRuntimeException();
+        }
+        log.error("Unexpected exception in gRPC call", throwable);
+        return Status.INTERNAL.withDescription(GlobalExceptionHandler.INTERNAL_SERVER_ERROR_MESSAGE).asRuntimeException();
+    }
+}
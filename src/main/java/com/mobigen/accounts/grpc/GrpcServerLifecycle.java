@@ -0,0 +1,113 @@
+package com.mobigen.accounts.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.service.IAccountsBatchService;
+import com.mobigen.accounts.service.IAccountsService;
+import com.mobigen.accounts.service.ICustomersService;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내부 서비스용 gRPC server 를 REST(server.port) 와 별도의 port(accounts.grpc.port) 로 기동
+ * (HTTP/2 연결 하나로 여러 요청을 multiplexing 하며 연결을 유지한다)
+ * web server graceful shutdown 과 같은 단계에서 시작하고, 종료 시에는 진행 중인 call 이 끝날 때까지 기다린다.
+ * (TrafficDrainLifecycle 이 eureka 에서 deregister 한 뒤에 멈춘다)
+ * 같은 단계의 web server drain 과 동시에 진행되도록 stop(callback) 은 기다리지 않고 반환한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "accounts.grpc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final Server server;
+    private final long shutdownTimeoutMs;
+    private volatile boolean running;
+
+    public GrpcServerLifecycle(IAccountsService iAccountsService, ICustomersService iCustomersService,
+            IAccountsBatchService iAccountsBatchService, Validator validator,
+            @Value("${accounts.grpc.port:9801}") int port,
+            @Value("${accounts.grpc.max-inbound-message-size:4194304}") int maxInboundMessageSize,
+            @Value("${accounts.grpc.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        AccountsGrpcService service = new AccountsGrpcService(iAccountsService, iCustomersService, iAccountsBatchService, validator);
+        this.server = NettyServerBuilder.forPort(port)
+                .maxInboundMessageSize(maxInboundMessageSize)
+                .addService(ServerInterceptors.intercept(service, new CorrelationIdServerInterceptor()))
+                .build();
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start gRPC server", e);
+        }
+        running = true;
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        awaitTermination();
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        // 새 call 은 바로 거부하고, 진행 중인 call 은 별도 thread 에서 기다린다.
+        server.shutdown();
+        Thread thread = new Thread(() -> {
+            try {
+                awaitTermination();
+            } finally {
+                callback.run();
+            }
+        }, "grpc-shutdown");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void awaitTermination() {
+        try {
+            if (!server.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        running = false;
+        log.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * web server graceful shutdown 과 같은 단계 (stream consumer 이후, OutboundDrainLifecycle 이전에 멈춘다)
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE;
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+}
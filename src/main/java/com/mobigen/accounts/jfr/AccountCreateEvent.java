@@ -0,0 +1,9 @@
+package com.mobigen.accounts.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.mobigen.accounts.AccountCreate")
+@Label("Account Create")
+public class AccountCreateEvent extends AccountsEvent {
+}
@@ -0,0 +1,66 @@
+package com.mobigen.accounts.jfr;
+
+import org.slf4j.MDC;
+
+import com.mobigen.accounts.exception.CustomerAlreadyExistsException;
+import com.mobigen.accounts.exception.ResourceNotFoundException;
+import com.mobigen.accounts.grpc.CorrelationIdServerInterceptor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * accounts 의 JFR event 공통 필드 (correlation ID, 결과)
+ * 사용법: begin() → 작업 → finish(outcome)
+ * recording 이 없거나 event 가 비활성이면 shouldCommit() 이 false 이므로 필드를 채우지 않는다. (비용 거의 없음)
+ */
+@Category("Accounts")
+@StackTrace(false)
+public abstract class AccountsEvent extends jdk.jfr.Event {
+
+    public static final String FOUND = "found";
+    public static final String NOT_FOUND = "not_found";
+    public static final String CREATED = "created";
+    public static final String CONFLICT = "conflict";
+    public static final String ERROR = "error";
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+
+    @Label("Correlation ID")
+    @Description("msa-correlation-id of the request or message")
+    String correlationId;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            if (correlationId == null) {
+                correlationId = currentCorrelationId();
+            }
+            commit();
+        }
+    }
+
+    /**
+     * REST: CorrelationIdFilter 가 설정한 MDC, gRPC: CorrelationIdServerInterceptor 의 Context
+     */
+    static String currentCorrelationId() {
+        String correlationId = MDC.get(CorrelationIdFilter.MDC_KEY);
+        return correlationId != null ? correlationId : CorrelationIdServerInterceptor.CORRELATION_ID.get();
+    }
+
+    /**
+     * 예외의 결과 이름 (domain 예외는 not_found / conflict, 그 외는 error)
+     */
+    public static String outcomeOf(Throwable e) {
+        if (e instanceof ResourceNotFoundException) {
+            return NOT_FOUND;
+        }
+        return e instanceof CustomerAlreadyExistsException ? CONFLICT : ERROR;
+    }
+}
@@ -0,0 +1,24 @@
+package com.mobigen.accounts.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * cache 조회 (membership: Bloom filter / negative cache, customerDetailsView: read model, etag: cards/loans hash)
+ * outcome 은 hit / miss
+ */
+@Name("com.mobigen.accounts.CacheLookup")
+@Label("Cache Lookup")
+public class CacheLookupEvent extends AccountsEvent {
+
+    public static final String MEMBERSHIP = "membership";
+    public static final String CUSTOMER_DETAILS_VIEW = "customerDetailsView";
+    public static final String ETAG = "etag";
+
+    @Label("Cache")
+    String cache;
+
+    public CacheLookupEvent(String cache) {
+        this.cache = cache;
+    }
+}
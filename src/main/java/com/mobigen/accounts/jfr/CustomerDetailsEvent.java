@@ -0,0 +1,45 @@
+package com.mobigen.accounts.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * /api/fetchCustomerDetails 응답 조합 (read model 또는 DB + cards + loans)
+ * read model hit 이면 dependency 별 시간은 0
+ */
+@Name("com.mobigen.accounts.CustomerDetails")
+@Label("Customer Details Aggregation")
+public class CustomerDetailsEvent extends AccountsEvent {
+
+    @Label("Read Model Hit")
+    boolean viewHit;
+
+    @Label("Database Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long databaseDuration;
+
+    @Label("Cards Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long cardsDuration;
+
+    @Label("Loans Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long loansDuration;
+
+    public void setViewHit(boolean viewHit) {
+        this.viewHit = viewHit;
+    }
+
+    public void setDatabaseDuration(long databaseDuration) {
+        this.databaseDuration = databaseDuration;
+    }
+
+    public void setCardsDuration(long cardsDuration) {
+        this.cardsDuration = cardsDuration;
+    }
+
+    public void setLoansDuration(long loansDuration) {
+        this.loansDuration = loansDuration;
+    }
+}
@@ -0,0 +1,63 @@
+package com.mobigen.accounts.jfr;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.Ordered;
+import org.springframework.integration.config.GlobalChannelInterceptor;
+import org.springframework.integration.support.context.NamedComponent;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * JFR event 에 필요한 correlation ID 전달 및 stream 메시지 처리 event 기록
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter() {
+        FilterRegistrationBean<CorrelationIdFilter> registration = new FilterRegistrationBean<>(new CorrelationIdFilter());
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * binder 가 input binding channel 로 보낸 메시지는 send 안에서 consumer 가 실행되므로
+     * preSend ~ afterSendCompletion 이 메시지 처리 시간이다.
+     */
+    @Bean
+    @GlobalChannelInterceptor(patterns = "*-in-*")
+    public ChannelInterceptor streamMessageEventInterceptor() {
+        return new ChannelInterceptor() {
+
+            private final ThreadLocal<StreamMessageEvent> current = new ThreadLocal<>();
+
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                String binding = channel instanceof NamedComponent named ? named.getComponentName() : channel.toString();
+                StreamMessageEvent event = new StreamMessageEvent(binding,
+                        message.getHeaders().get(CorrelationIdFilter.HEADER, String.class));
+                if (event.isEnabled()) {
+                    event.begin();
+                    current.set(event);
+                }
+                return message;
+            }
+
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                StreamMessageEvent event = current.get();
+                if (event != null) {
+                    current.remove();
+                    // consumer 의 예외는 MessagingException 으로 감싸져 전달된다.
+                    event.finish(ex == null ? StreamMessageEvent.CONSUMED
+                            : AccountsEvent.outcomeOf(NestedExceptionUtils.getMostSpecificCause(ex)));
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.mobigen.accounts.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * stream consumer 의 메시지 처리 (input binding channel 로 전달되어 consumer 가 끝날 때까지)
+ */
+@Name("com.mobigen.accounts.StreamMessage")
+@Label("Stream Message")
+public class StreamMessageEvent extends AccountsEvent {
+
+    public static final String CONSUMED = "consumed";
+
+    @Label("Binding")
+    String binding;
+
+    public StreamMessageEvent(String binding, String correlationId) {
+        this.binding = binding;
+        this.correlationId = correlationId;
+    }
+}
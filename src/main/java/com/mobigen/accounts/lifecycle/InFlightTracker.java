@@ -0,0 +1,72 @@
+package com.mobigen.accounts.lifecycle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 진행 중인 outbound 호출 수 (Feign 호출, stream 메시지 전송)
+ * 종료 시 OutboundDrainLifecycle 이 0 이 될 때까지 (또는 deadline 까지) 기다린다.
+ */
+@Component
+public class InFlightTracker {
+
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AtomicInteger feignCalls = new AtomicInteger();
+    private final AtomicInteger streamSends = new AtomicInteger();
+
+    public InFlightTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("accounts.inflight", feignCalls, AtomicInteger::get)
+                .tag("type", "feign")
+                .description("Outbound calls in progress")
+                .register(meterRegistry);
+        Gauge.builder("accounts.inflight", streamSends, AtomicInteger::get)
+                .tag("type", "stream")
+                .description("Outbound calls in progress")
+                .register(meterRegistry);
+    }
+
+    public void feignStarted() {
+        feignCalls.incrementAndGet();
+    }
+
+    public void feignFinished() {
+        feignCalls.decrementAndGet();
+    }
+
+    public void sendStarted() {
+        streamSends.incrementAndGet();
+    }
+
+    public void sendFinished() {
+        streamSends.decrementAndGet();
+    }
+
+    public int feignCalls() {
+        return feignCalls.get();
+    }
+
+    public int streamSends() {
+        return streamSends.get();
+    }
+
+    /**
+     * @param deadlineNanos - System.nanoTime() 기준 deadline
+     * @return deadline 전에 모든 호출이 끝났으면 true
+     */
+    public boolean awaitIdle(long deadlineNanos) {
+        while (feignCalls.get() > 0 || streamSends.get() > 0) {
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+        }
+        return true;
+    }
+}
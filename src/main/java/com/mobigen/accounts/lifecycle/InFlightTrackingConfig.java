@@ -0,0 +1,54 @@
+package com.mobigen.accounts.lifecycle;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.config.GlobalChannelInterceptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import feign.Capability;
+import feign.Client;
+
+/**
+ * InFlightTracker 에 outbound 호출을 기록
+ * - Feign: 모든 Feign client 의 Client 를 감싼다. (Capability bean 은 모든 client 에 적용됨)
+ * - stream: StreamBridge 가 사용하는 output binding channel(*-out-0) 의 send 를 감싼다.
+ */
+@Configuration
+public class InFlightTrackingConfig {
+
+    @Bean
+    public Capability inFlightCapability(InFlightTracker inFlightTracker) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> {
+                    inFlightTracker.feignStarted();
+                    try {
+                        return client.execute(request, options);
+                    } finally {
+                        inFlightTracker.feignFinished();
+                    }
+                };
+            }
+        };
+    }
+
+    @Bean
+    @GlobalChannelInterceptor(patterns = "*-out-*")
+    public ChannelInterceptor inFlightSendInterceptor(InFlightTracker inFlightTracker) {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                inFlightTracker.sendStarted();
+                return message;
+            }
+
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                inFlightTracker.sendFinished();
+            }
+        };
+    }
+}
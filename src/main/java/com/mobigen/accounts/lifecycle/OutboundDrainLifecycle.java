@@ -0,0 +1,61 @@
+package com.mobigen.accounts.lifecycle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP / gRPC 요청이 drain 된 뒤, 요청과 별개로 남아 있는 outbound 호출을 기다린다.
+ * - batch fan-out thread 의 Feign 호출 (요청이 timeout 으로 먼저 끝난 경우)
+ * - stream 메시지 전송 (sendCommunication, customerMembership)
+ * stream output binding 과 Feign client 는 이 단계 이후에 닫힌다.
+ */
+@Slf4j
+@Component
+public class OutboundDrainLifecycle implements SmartLifecycle {
+
+    private final InFlightTracker inFlightTracker;
+    private final TuningRegistry tuningRegistry;
+    private volatile boolean running;
+
+    public OutboundDrainLifecycle(InFlightTracker inFlightTracker, TuningRegistry tuningRegistry) {
+        this.inFlightTracker = inFlightTracker;
+        this.tuningRegistry = tuningRegistry;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        long start = System.nanoTime();
+        long drainTimeoutMs = tuningRegistry.current().outboundDrainTimeoutMs();
+        if (!inFlightTracker.awaitIdle(start + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs))) {
+            log.warn("Outbound drain timed out after {}ms. feign calls: {}, stream sends: {}", drainTimeoutMs,
+                    inFlightTracker.feignCalls(), inFlightTracker.streamSends());
+        } else {
+            log.info("Outbound calls drained in {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * web server graceful shutdown(DEFAULT_PHASE - 1024) 과 gRPC server 이후, AuditEventWriter(DEFAULT_PHASE - 4096) 이전
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+}
@@ -0,0 +1,81 @@
+package com.mobigen.accounts.lifecycle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.cloud.netflix.eureka.serviceregistry.EurekaAutoServiceRegistration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종료의 첫 단계: 새 요청이 들어오지 않게 한 뒤 client 가 알아챌 때까지 기다린다.
+ * 1. readiness 를 REFUSING_TRAFFIC (/actuator/health/readiness → OUT_OF_SERVICE) 으로 변경
+ * 2. eureka 에서 deregister (gateway / Feign client 의 instance 목록에서 빠지도록)
+ * 3. deregistrationDelayMs 동안 대기 (client 의 registry cache 갱신, 그동안 들어온 요청은 정상 처리)
+ * 이후 stream consumer 중지 → HTTP / gRPC 요청 drain (server.shutdown=graceful) → OutboundDrainLifecycle 순으로 진행된다.
+ */
+@Slf4j
+@Component
+public class TrafficDrainLifecycle implements SmartLifecycle {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<EurekaAutoServiceRegistration> eurekaRegistration;
+    private final TuningRegistry tuningRegistry;
+    private volatile boolean running;
+
+    public TrafficDrainLifecycle(ApplicationEventPublisher eventPublisher,
+            ObjectProvider<EurekaAutoServiceRegistration> eurekaRegistration, TuningRegistry tuningRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.eurekaRegistration = eurekaRegistration;
+        this.tuningRegistry = tuningRegistry;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        long start = System.currentTimeMillis();
+        long deregistrationDelayMs = tuningRegistry.current().deregistrationDelayMs();
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        eurekaRegistration.ifAvailable(registration -> {
+            try {
+                // 이후 EurekaAutoServiceRegistration 자신의 stop 은 이미 멈춘 상태이므로 아무것도 하지 않는다.
+                registration.stop();
+            } catch (RuntimeException e) {
+                log.warn("Failed to deregister from eureka: {}", e.getMessage());
+            }
+        });
+        if (deregistrationDelayMs > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(deregistrationDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        running = false;
+        log.info("Stopped accepting traffic in {}ms", System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 가장 먼저 멈춘다. (stream input binding, web server, gRPC server 보다 먼저)
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
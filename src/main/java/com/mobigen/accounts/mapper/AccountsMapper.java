@@ -4,17 +4,14 @@ import com.mobigen.accounts.dto.AccountsDto;
 import com.mobigen.accounts.entity.Accounts;
 
 public class AccountsMapper {
-    public static AccountsDto mapToAccountsDto(Accounts accounts, AccountsDto accountsDto) {
-        accountsDto.setAccountNumber(accounts.getAccountNumber());
-        accountsDto.setAccountType(accounts.getAccountType());
-        accountsDto.setBranchAddress(accounts.getBranchAddress());
-        return accountsDto;
+    public static AccountsDto mapToAccountsDto(Accounts accounts) {
+        return new AccountsDto(accounts.getAccountNumber(), accounts.getAccountType(), accounts.getBranchAddress());
     }
 
     public static Accounts mapToAccounts(AccountsDto accountsDto, Accounts accounts) {
-        accounts.setAccountNumber(accountsDto.getAccountNumber());
-        accounts.setAccountType(accountsDto.getAccountType());
-        accounts.setBranchAddress(accountsDto.getBranchAddress());
+        accounts.setAccountNumber(accountsDto.accountNumber());
+        accounts.setAccountType(accountsDto.accountType());
+        accounts.setBranchAddress(accountsDto.branchAddress());
         return accounts;
     }
 }
@@ -0,0 +1,104 @@
+package com.mobigen.accounts.mapper;
+
+import com.mobigen.accounts.dto.AccountsDto;
+import com.mobigen.accounts.dto.CardsDto;
+import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.LoansDto;
+import com.mobigen.accounts.grpc.proto.Account;
+import com.mobigen.accounts.grpc.proto.Card;
+import com.mobigen.accounts.grpc.proto.Customer;
+import com.mobigen.accounts.grpc.proto.CustomerDetails;
+import com.mobigen.accounts.grpc.proto.Loan;
+
+// DTO -> gRPC message (protobuf 는 null 을 허용하지 않으므로 null 필드는 설정하지 않는다)
+public class AccountsProtoMapper {
+
+    public static Customer mapToCustomer(CustomerDto customerDto) {
+        Customer.Builder builder = Customer.newBuilder();
+        if (customerDto.name() != null) {
+            builder.setName(customerDto.name());
+        }
+        if (customerDto.email() != null) {
+            builder.setEmail(customerDto.email());
+        }
+        if (customerDto.mobileNumber() != null) {
+            builder.setMobileNumber(customerDto.mobileNumber());
+        }
+        if (customerDto.accountsDto() != null) {
+            builder.setAccount(mapToAccount(customerDto.accountsDto()));
+        }
+        return builder.build();
+    }
+
+    public static CustomerDetails mapToCustomerDetails(CustomerDetailsDto customerDetailsDto) {
+        CustomerDetails.Builder builder = CustomerDetails.newBuilder();
+        if (customerDetailsDto.name() != null) {
+            builder.setName(customerDetailsDto.name());
+        }
+        if (customerDetailsDto.email() != null) {
+            builder.setEmail(customerDetailsDto.email());
+        }
+        if (customerDetailsDto.mobileNumber() != null) {
+            builder.setMobileNumber(customerDetailsDto.mobileNumber());
+        }
+        if (customerDetailsDto.accountsDto() != null) {
+            builder.setAccount(mapToAccount(customerDetailsDto.accountsDto()));
+        }
+        if (customerDetailsDto.cardsDto() != null) {
+            builder.setCard(mapToCard(customerDetailsDto.cardsDto()));
+        }
+        if (customerDetailsDto.loansDto() != null) {
+            builder.setLoan(mapToLoan(customerDetailsDto.loansDto()));
+        }
+        return builder.build();
+    }
+
+    public static Account mapToAccount(AccountsDto accountsDto) {
+        Account.Builder builder = Account.newBuilder();
+        if (accountsDto.accountNumber() != null) {
+            builder.setAccountNumber(accountsDto.accountNumber());
+        }
+        if (accountsDto.accountType() != null) {
+            builder.setAccountType(accountsDto.accountType());
+        }
+        if (accountsDto.branchAddress() != null) {
+            builder.setBranchAddress(accountsDto.branchAddress());
+        }
+        return builder.build();
+    }
+
+    public static Card mapToCard(CardsDto cardsDto) {
+        Card.Builder builder = Card.newBuilder()
+                .setTotalLimit(cardsDto.totalLimit())
+                .setAmountUsed(cardsDto.amountUsed())
+                .setAvailableAmount(cardsDto.availableAmount());
+        if (cardsDto.mobileNumber() != null) {
+            builder.setMobileNumber(cardsDto.mobileNumber());
+        }
+        if (cardsDto.cardNumber() != null) {
+            builder.setCardNumber(cardsDto.cardNumber());
+        }
+        if (cardsDto.cardType() != null) {
+            builder.setCardType(cardsDto.cardType());
+        }
+        return builder.build();
+    }
+
+    public static Loan mapToLoan(LoansDto loansDto) {
+        Loan.Builder builder = Loan.newBuilder()
+                .setTotalLoan(loansDto.totalLoan())
+                .setAmountPaid(loansDto.amountPaid())
+                .setOutstandingAmount(loansDto.outstandingAmount());
+        if (loansDto.mobileNumber() != null) {
+            builder.setMobileNumber(loansDto.mobileNumber());
+        }
+        if (loansDto.loanNumber() != null) {
+            builder.setLoanNumber(loansDto.loanNumber());
+        }
+        if (loansDto.loanType() != null) {
+            builder.setLoanType(loansDto.loanType());
+        }
+        return builder.build();
+    }
+}
@@ -1,28 +1,30 @@
 package com.mobigen.accounts.mapper;
 
+import com.mobigen.accounts.dto.AccountsDto;
+import com.mobigen.accounts.dto.CardsDto;
 import com.mobigen.accounts.dto.CustomerDetailsDto;
 import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.LoansDto;
+import com.mobigen.accounts.entity.Accounts;
 import com.mobigen.accounts.entity.Customer;
 
+// reflection(BeanUtils, ModelMapper 등) 없이 필드를 직접 읽어 record 를 만든다.
 public class CustomerMapper {
-    public static CustomerDto mapToCustomerDto(Customer customer, CustomerDto customerDto) {
-        customerDto.setName(customer.getName());
-        customerDto.setEmail(customer.getEmail());
-        customerDto.setMobileNumber(customer.getMobileNumber());
-        return customerDto;
+    public static CustomerDto mapToCustomerDto(Customer customer, Accounts accounts) {
+        AccountsDto accountsDto = accounts == null ? null : AccountsMapper.mapToAccountsDto(accounts);
+        return new CustomerDto(customer.getName(), customer.getEmail(), customer.getMobileNumber(), accountsDto);
     }
 
     public static Customer mapToCustomer(CustomerDto customerDto, Customer customer) {
-        customer.setName(customerDto.getName());
-        customer.setEmail(customerDto.getEmail());
-        customer.setMobileNumber(customerDto.getMobileNumber());
+        customer.setName(customerDto.name());
+        customer.setEmail(customerDto.email());
+        customer.setMobileNumber(customerDto.mobileNumber());
         return customer;
     }
 
-    public static CustomerDetailsDto mapToCustomerDetailsDto(Customer customer, CustomerDetailsDto customerDetailsDto) {
-        customerDetailsDto.setName(customer.getName());
-        customerDetailsDto.setEmail(customer.getEmail());
-        customerDetailsDto.setMobileNumber(customer.getMobileNumber());
-        return customerDetailsDto;
+    public static CustomerDetailsDto mapToCustomerDetailsDto(Customer customer, Accounts accounts, LoansDto loansDto,
+            CardsDto cardsDto) {
+        return new CustomerDetailsDto(customer.getName(), customer.getEmail(), customer.getMobileNumber(),
+                AccountsMapper.mapToAccountsDto(accounts), loansDto, cardsDto);
     }
 }
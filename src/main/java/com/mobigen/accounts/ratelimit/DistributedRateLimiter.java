@@ -0,0 +1,76 @@
+package com.mobigen.accounts.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis token bucket (redis/token-bucket.lua 로 조회와 차감을 원자적으로 처리)
+ * Redis 호출이 실패하거나 redisTimeoutMs 안에 응답하지 않으면 LocalRateLimiter 로 판단하고,
+ * redisRetryIntervalMs 동안은 Redis 를 호출하지 않는다. (요청마다 timeout 만큼 지연되지 않도록)
+ */
+@Slf4j
+public class DistributedRateLimiter {
+
+    static final String KEY_PREFIX = "accounts:rate-limit:";
+
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final LocalRateLimiter localRateLimiter;
+    private final Duration redisTimeout;
+    private final long redisRetryIntervalMs;
+    private final Counter redisFailures;
+
+    private volatile long redisRetryAt;
+
+    public DistributedRateLimiter(ReactiveStringRedisTemplate redisTemplate, LocalRateLimiter localRateLimiter,
+            RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.localRateLimiter = localRateLimiter;
+        this.redisTimeout = Duration.ofMillis(properties.getRedisTimeoutMs());
+        this.redisRetryIntervalMs = properties.getRedisRetryIntervalMs();
+        this.redisFailures = Counter.builder("accounts.rate-limit.redis.failures")
+                .description("Rate limit decisions that fell back to the local limiter because Redis failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param client - Client identifier (API key or client address)
+     * @param policy - Matched rate limit policy
+     * @return decision of the Redis bucket, or of the local bucket if Redis is unavailable
+     */
+    public RateLimitDecision tryAcquire(String client, RateLimitProperties.Policy policy) {
+        String key = KEY_PREFIX + policy.getName() + ":" + client;
+        long now = System.currentTimeMillis();
+        if (now >= redisRetryAt) {
+            try {
+                Long result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                        List.of(Long.toString(policy.getCapacity()), Double.toString(policy.getRefillPerSecond()),
+                                Long.toString(now)))
+                        .next()
+                        .block(redisTimeout);
+                if (result != null) {
+                    return result >= 0
+                            ? new RateLimitDecision(true, result, 0, RateLimitDecision.SOURCE_REDIS)
+                            : new RateLimitDecision(false, 0, -result - 1, RateLimitDecision.SOURCE_REDIS);
+                }
+            } catch (RuntimeException e) {
+                redisFailures.increment();
+                // redisRetryIntervalMs 에 한번만 기록된다.
+                log.warn("Redis rate limiter unavailable, using local limiter for {} ms: {}",
+                        redisRetryIntervalMs, e.getMessage());
+                redisRetryAt = now + redisRetryIntervalMs;
+            }
+        }
+        return localRateLimiter.tryAcquire(key, policy, now);
+    }
+}
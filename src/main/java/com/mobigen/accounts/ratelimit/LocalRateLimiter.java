@@ -0,0 +1,81 @@
+package com.mobigen.accounts.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JVM 내부 token bucket (Redis 장애 시 fallback)
+ * 각 replica 가 따로 계산하므로 policy 한도를 replica 수로 나누어 적용한다.
+ */
+@Slf4j
+public class LocalRateLimiter {
+
+    private final int replicas;
+    private final int maxBuckets;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public LocalRateLimiter(int replicas, int maxBuckets) {
+        this.replicas = Math.max(1, replicas);
+        this.maxBuckets = maxBuckets;
+    }
+
+    public RateLimitDecision tryAcquire(String key, RateLimitProperties.Policy policy, long nowMs) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                evict(nowMs);
+            }
+            long capacity = Math.max(1, policy.getCapacity() / replicas);
+            double refillPerMs = policy.getRefillPerSecond() / replicas / 1000.0;
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, refillPerMs, nowMs));
+        }
+        return bucket.tryAcquire(nowMs);
+    }
+
+    private void evict(long nowMs) {
+        // 가득 찬 (오래 사용되지 않은) bucket 은 새로 만든 것과 같으므로 지워도 된다.
+        buckets.values().removeIf(bucket -> bucket.isFull(nowMs));
+        if (buckets.size() >= maxBuckets) {
+            log.debug("Local rate limit buckets are full ({} entries), clearing", buckets.size());
+            buckets.clear();
+        }
+    }
+
+    private static final class Bucket {
+        private final long capacity;
+        private final double refillPerMs;
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(long capacity, double refillPerMs, long nowMs) {
+            this.capacity = capacity;
+            this.refillPerMs = refillPerMs;
+            this.tokens = capacity;
+            this.updatedAt = nowMs;
+        }
+
+        private synchronized RateLimitDecision tryAcquire(long nowMs) {
+            refill(nowMs);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return new RateLimitDecision(true, (long) tokens, 0, RateLimitDecision.SOURCE_LOCAL);
+            }
+            long retryAfterMs = refillPerMs > 0 ? (long) Math.ceil((1 - tokens) / refillPerMs) : Long.MAX_VALUE;
+            return new RateLimitDecision(false, 0, retryAfterMs, RateLimitDecision.SOURCE_LOCAL);
+        }
+
+        private synchronized boolean isFull(long nowMs) {
+            refill(nowMs);
+            return tokens >= capacity;
+        }
+
+        private void refill(long nowMs) {
+            if (nowMs > updatedAt) {
+                tokens = Math.min(capacity, tokens + (nowMs - updatedAt) * refillPerMs);
+                updatedAt = nowMs;
+            }
+        }
+    }
+}
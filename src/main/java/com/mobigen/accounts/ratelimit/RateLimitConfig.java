@@ -0,0 +1,42 @@
+package com.mobigen.accounts.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * /api/* 요청에 replica 간 공유되는 rate limit 적용 (accounts.rate-limit.enabled)
+ * Resilience4jController 의 @RateLimiter 는 JVM 별 한도이므로 그대로 두고, 이 filter 가 그 앞에서 동작한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accounts.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    public DistributedRateLimiter distributedRateLimiter(ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+            RateLimitProperties properties, MeterRegistry meterRegistry) {
+        LocalRateLimiter localRateLimiter = new LocalRateLimiter(properties.getFallbackReplicas(),
+                properties.getLocalMaxBuckets());
+        return new DistributedRateLimiter(reactiveStringRedisTemplate, localRateLimiter, properties, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(DistributedRateLimiter distributedRateLimiter,
+            RateLimitProperties properties, TuningRegistry tuningRegistry, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(distributedRateLimiter, properties, tuningRegistry, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // 다른 filter(요청 body 읽기, transaction 등) 보다 먼저 거부
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,13 @@
+package com.mobigen.accounts.ratelimit;
+
+/**
+ * @param allowed - 요청 허용 여부
+ * @param remaining - 남은 token 수
+ * @param retryAfterMs - 거부된 경우 token 이 충전되기까지 남은 시간 (ms)
+ * @param source - 판단한 limiter (redis, local)
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterMs, String source) {
+
+    public static final String SOURCE_REDIS = "redis";
+    public static final String SOURCE_LOCAL = "local";
+}
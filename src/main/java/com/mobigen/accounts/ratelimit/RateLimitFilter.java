@@ -0,0 +1,184 @@
+package com.mobigen.accounts.ratelimit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.dto.ErrorResponseDto;
+import com.mobigen.accounts.tuning.Tuning;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * controller 보다 먼저 client + policy 별 token bucket 을 확인하여 한도를 넘으면 429 로 응답한다.
+ * 응답 header: X-RateLimit-Limit, X-RateLimit-Remaining, (거부 시) Retry-After(초)
+ * policy 는 TuningRegistry snapshot 에서 읽으며, snapshot 이 바뀌면 처음 요청에서 다시 compile 한다.
+ * client 는 등록된 API key(accounts.rate-limit.api-keys) 이면 key 이름, 아니면 client 주소로 구분한다.
+ * client 주소는 request.getRemoteAddr() 로, server.forward-headers-strategy=native 이면 Tomcat RemoteIpValve 가
+ * 신뢰하는 proxy(internal-proxies) 를 제외한 X-Forwarded-For 의 가장 오른쪽 주소로 바꿔준다. (client 가 임의로 넣은 왼쪽 값은 사용하지 않음)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String ALLOWED = "allowed";
+    private static final String REJECTED = "rejected";
+
+    private final DistributedRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String clientHeader;
+    // SHA-256(API key) hex → key 이름
+    private final Map<String, String> apiKeyNames;
+    private final TuningRegistry tuningRegistry;
+    private volatile CompiledPolicies policies;
+
+    public RateLimitFilter(DistributedRateLimiter rateLimiter, RateLimitProperties properties,
+            TuningRegistry tuningRegistry, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.clientHeader = properties.getClientHeader();
+        this.apiKeyNames = new HashMap<>();
+        properties.getApiKeys().forEach((name, sha256) -> apiKeyNames.put(sha256.toLowerCase(Locale.ROOT), name));
+        this.tuningRegistry = tuningRegistry;
+        this.policies = CompiledPolicies.of(tuningRegistry.current(), meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompiledPolicy policy = match(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RateLimitDecision decision = rateLimiter.tryAcquire(client(request), policy.policy());
+        policy.counter(decision).increment();
+
+        response.setHeader(HEADER_LIMIT, Long.toString(policy.policy().getCapacity()));
+        response.setHeader(HEADER_REMAINING, Long.toString(decision.remaining()));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (decision.retryAfterMs() + 999) / 1000)));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ErrorResponseDto errorResponseDto = new ErrorResponseDto(request.getRequestURI(), HttpStatus.TOO_MANY_REQUESTS,
+                "Rate limit exceeded for " + policy.policy().getName(), LocalDateTime.now());
+        objectMapper.writeValue(response.getOutputStream(), errorResponseDto);
+    }
+
+    private CompiledPolicy match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (CompiledPolicy policy : currentPolicies()) {
+            if ((policy.methods().isEmpty() || policy.methods().contains(request.getMethod()))
+                    && policy.patterns().stream().anyMatch(pattern -> pattern.matches(path))) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    // 동시에 여러 thread 가 compile 해도 결과가 같으므로 lock 없이 교체한다.
+    private List<CompiledPolicy> currentPolicies() {
+        Tuning tuning = tuningRegistry.current();
+        CompiledPolicies compiled = policies;
+        if (compiled.source() != tuning) {
+            compiled = CompiledPolicies.of(tuning, meterRegistry);
+            policies = compiled;
+        }
+        return compiled.policies();
+    }
+
+    /**
+     * 등록된 API key 이면 key 이름, 아니면 client 주소
+     * (등록되지 않은 key 를 bucket 으로 쓰면 요청마다 key 를 바꿔 한도를 우회할 수 있다)
+     */
+    String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(clientHeader);
+        if (StringUtils.hasText(apiKey) && !apiKeyNames.isEmpty()) {
+            String name = apiKeyNames.get(sha256Hex(apiKey));
+            if (name != null) {
+                return "key:" + name;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CompiledPolicy compile(RateLimitProperties.Policy policy, MeterRegistry meterRegistry) {
+        policy.validate();
+        List<PathPattern> patterns = policy.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        Set<String> methods = policy.getMethods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        // policy / 결과 / limiter 별 counter 는 compile 시 한번만 등록한다.
+        Map<String, Counter> counters = new HashMap<>();
+        for (String result : List.of(ALLOWED, REJECTED)) {
+            for (String source : List.of(RateLimitDecision.SOURCE_REDIS, RateLimitDecision.SOURCE_LOCAL)) {
+                counters.put(counterKey(result, source), Counter.builder("accounts.rate-limit.requests")
+                        .tag("policy", policy.getName())
+                        .tag("result", result)
+                        .tag("source", source)
+                        .register(meterRegistry));
+            }
+        }
+        return new CompiledPolicy(policy, patterns, methods, Map.copyOf(counters));
+    }
+
+    private static String counterKey(String result, String source) {
+        return result + ":" + source;
+    }
+
+    private record CompiledPolicies(Tuning source, List<CompiledPolicy> policies) {
+
+        static CompiledPolicies of(Tuning tuning, MeterRegistry meterRegistry) {
+            return new CompiledPolicies(tuning, tuning.rateLimitPolicies().stream()
+                    .map(policy -> compile(policy, meterRegistry))
+                    .toList());
+        }
+    }
+
+    private record CompiledPolicy(RateLimitProperties.Policy policy, List<PathPattern> patterns, Set<String> methods,
+            Map<String, Counter> counters) {
+
+        Counter counter(RateLimitDecision decision) {
+            return counters.get(counterKey(decision.allowed() ? ALLOWED : REJECTED, decision.source()));
+        }
+    }
+}
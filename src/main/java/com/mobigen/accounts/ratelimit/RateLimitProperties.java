@@ -0,0 +1,67 @@
+package com.mobigen.accounts.ratelimit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * replica 간 공유되는 token bucket rate limit 설정 (accounts.rate-limit.*)
+ * bucket 은 client(등록된 API key, 아니면 client IP) 와 policy 조합마다 하나씩 Redis 에 저장된다.
+ */
+@ConfigurationProperties(prefix = "accounts.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+
+    // client 식별 header. 값이 api-keys 에 등록된 key 가 아니면 remote address 를 사용
+    private String clientHeader = "X-API-Key";
+
+    // 등록된 API key: key 이름 → SHA-256(API key) hex (설정에 원문을 두지 않음)
+    private Map<String, String> apiKeys = new LinkedHashMap<>();
+
+    // Redis 호출 최대 대기 시간 (ms). 초과하면 local limiter 로 판단
+    private long redisTimeoutMs = 50;
+
+    // Redis 호출이 실패한 뒤 다시 Redis 를 시도하기까지 local limiter 만 사용하는 시간 (ms)
+    private long redisRetryIntervalMs = 5000;
+
+    // Redis 장애 시 local limiter 는 policy 한도를 이 값으로 나누어 적용 (replica 수)
+    private int fallbackReplicas = 3;
+
+    // local limiter 가 유지하는 최대 bucket 수
+    private int localMaxBuckets = 100000;
+
+    // 순서대로 비교하여 처음 일치하는 policy 하나만 적용. 일치하는 policy 가 없으면 제한하지 않음
+    // 실행 중 변경은 TuningRegistry 를 통해 RateLimitFilter 에 반영된다.
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private String name;
+        // PathPattern (ex. /api/fetch/**)
+        private List<String> paths = new ArrayList<>();
+        // 비어있으면 모든 method
+        private List<String> methods = new ArrayList<>();
+        // bucket 최대 token 수 (순간 허용량)
+        private long capacity = 100;
+        // 초당 충전되는 token 수 (지속 허용량)
+        private double refillPerSecond = 50;
+
+        public void validate() {
+            if (!StringUtils.hasText(name) || capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("Invalid rate limit policy '" + name
+                        + "': name is required, capacity must be >= 1 and refill-per-second must be > 0");
+            }
+        }
+    }
+}
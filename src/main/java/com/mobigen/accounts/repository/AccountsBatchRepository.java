@@ -0,0 +1,61 @@
+package com.mobigen.accounts.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mobigen.accounts.config.ShardRouter;
+import com.mobigen.accounts.dto.AccountsDto;
+import com.mobigen.accounts.dto.CustomerDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 mobileNumber 의 customer + accounts 를 IN 쿼리 한번으로 조회하는 JDBC 기반 repository
+ * (/api/fetch 를 mobileNumber 수만큼 반복 호출할 때의 쿼리 2 x N 회를 1 회로 줄인다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountsBatchRepository {
+
+    private static final String FIND_BY_MOBILE_NUMBERS_SQL =
+            "SELECT c.name, c.email, c.mobile_number, "
+            + "a.account_number, a.account_type, a.branch_address "
+            + "FROM customer c JOIN accounts a ON a.customer_id = c.customer_id "
+            + "WHERE c.mobile_number IN (:mobileNumbers)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    /**
+     * mobileNumber 를 shard 별로 나누어 shard 마다 IN 쿼리 한번씩 실행한다.
+     *
+     * @param mobileNumbers - Mobile numbers to fetch (idx_customer_mobile_number 사용)
+     * @param rowConsumer - 읽은 행을 바로 처리할 callback, 없는 mobileNumber 는 호출되지 않는다
+     */
+    public void findByMobileNumbers(Collection<String> mobileNumbers, Consumer<CustomerDto> rowConsumer) {
+        Map<Integer, List<String>> byShard = new HashMap<>();
+        for (String mobileNumber : mobileNumbers) {
+            byShard.computeIfAbsent(shardRouter.shardOf(mobileNumber), shard -> new ArrayList<>()).add(mobileNumber);
+        }
+        byShard.forEach((shard, shardMobileNumbers) -> shardRouter.readOnly(shard, () -> {
+            findByMobileNumbersInShard(shardMobileNumbers, rowConsumer);
+            return null;
+        }));
+    }
+
+    private void findByMobileNumbersInShard(List<String> mobileNumbers, Consumer<CustomerDto> rowConsumer) {
+        namedParameterJdbcTemplate.query(FIND_BY_MOBILE_NUMBERS_SQL, Map.of("mobileNumbers", mobileNumbers), rs -> {
+            AccountsDto accountsDto = new AccountsDto(rs.getLong("account_number"), rs.getString("account_type"),
+                    rs.getString("branch_address"));
+            rowConsumer.accept(new CustomerDto(rs.getString("name"), rs.getString("email"),
+                    rs.getString("mobile_number"), accountsDto));
+        });
+    }
+}
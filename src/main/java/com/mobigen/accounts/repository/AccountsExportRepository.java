@@ -0,0 +1,177 @@
+package com.mobigen.accounts.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mobigen.accounts.config.ShardRouter;
+import com.mobigen.accounts.dto.AccountsExportDto;
+import com.mobigen.accounts.dto.AccountsVersionDto;
+import com.mobigen.accounts.utils.CursorUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전체 customer + accounts 를 export 하기 위한 JDBC 기반 repository
+ * JPA 의 영속성 컨텍스트(1차 캐시)를 거치지 않고 forward-only cursor 로 한 행씩 읽어 바로 전달한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountsExportRepository {
+
+    // (customer_id, account_number) 기준 keyset pagination (OFFSET 미사용 → 뒤쪽 page 도 index seek 한번으로 시작)
+    // customer 한명이 account 를 여러개 가질 수 있으므로 customer_id 만으로는 page 경계의 나머지 account 를 건너뛴다.
+    private static final String EXPORT_PAGE_SQL =
+            "SELECT c.customer_id, c.name, c.email, c.mobile_number, "
+            + "a.account_number, a.account_type, a.branch_address "
+            + "FROM customer c JOIN accounts a ON a.customer_id = c.customer_id "
+            + "WHERE c.customer_id > ? OR (c.customer_id = ? AND a.account_number > ?) "
+            + "ORDER BY c.customer_id, a.account_number "
+            + "LIMIT ?";
+
+    // read model 재생성용: 같은 page 를 version 과 함께 읽고, 기록할 때까지 customer / accounts 행을 lock 한다.
+    private static final String LOCK_PAGE_SQL =
+            "SELECT c.customer_id, c.name, c.email, c.mobile_number, c.version AS customer_version, "
+            + "a.account_number, a.account_type, a.branch_address, a.version AS accounts_version "
+            + "FROM customer c JOIN accounts a ON a.customer_id = c.customer_id "
+            + "WHERE c.customer_id > ? OR (c.customer_id = ? AND a.account_number > ?) "
+            + "ORDER BY c.customer_id, a.account_number "
+            + "LIMIT ? "
+            + "FOR UPDATE";
+
+    private static final String MOBILE_NUMBERS_SQL = "SELECT mobile_number FROM customer";
+    private static final String COUNT_CUSTOMERS_SQL = "SELECT COUNT(*) FROM customer";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    /**
+     * page 의 마지막 행 (다음 page 는 이 행 이후부터)
+     */
+    public record PageKey(long customerId, long accountNumber) {
+
+        public static final PageKey FIRST = new PageKey(0L, 0L);
+    }
+
+    /**
+     * @param shard - 조회할 shard (customer_id 는 shard 별로 발급되므로 shard 안에서만 순서가 있다)
+     * @param after - 이 (customer_id, account_number) 보다 큰 행부터 조회 (처음이면 PageKey.FIRST)
+     * @param pageSize - 한 page(쿼리 1회) 에서 읽을 최대 행 수
+     * @param fetchSize - JDBC driver 가 한번에 가져올 행 수
+     * @param rowConsumer - 읽은 행을 바로 처리할 callback (행을 모아두지 않는다)
+     * @return 해당 page 에서 읽은 마지막 행의 key, 읽은 행이 없으면 after
+     */
+    public PageKey streamPage(int shard, PageKey after, int pageSize, int fetchSize,
+            Consumer<AccountsExportDto> rowConsumer) {
+        return shardRouter.scan(shard, () -> streamPageInShard(shard, after, pageSize, fetchSize, rowConsumer));
+    }
+
+    private PageKey streamPageInShard(int shard, PageKey after, int pageSize, int fetchSize,
+            Consumer<AccountsExportDto> rowConsumer) {
+        PageKey[] last = { after };
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXPORT_PAGE_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, after.customerId());
+            ps.setLong(2, after.customerId());
+            ps.setLong(3, after.accountNumber());
+            ps.setInt(4, pageSize);
+            return ps;
+        }, rs -> {
+            long customerId = rs.getLong("customer_id");
+            long accountNumber = rs.getLong("account_number");
+            last[0] = new PageKey(customerId, accountNumber);
+            rowConsumer.accept(new AccountsExportDto(
+                    customerId,
+                    rs.getString("name"),
+                    rs.getString("email"),
+                    rs.getString("mobile_number"),
+                    accountNumber,
+                    rs.getString("account_type"),
+                    rs.getString("branch_address"),
+                    cursor(shard, last[0])));
+        });
+        return last[0];
+    }
+
+    /**
+     * streamPage 와 같은 순서로 한 page 를 읽으면서 행을 lock 한다. (호출하는 쪽의 write 트랜잭션 안에서 호출)
+     * 트랜잭션이 끝날 때까지 그 사이의 updateAccount 가 기다리므로, 읽은 값으로 기록해도 더 최신 값을 덮어쓰지 않는다.
+     *
+     * @param after - 이 (customer_id, account_number) 보다 큰 행부터 조회 (처음이면 PageKey.FIRST)
+     * @param pageSize - 읽을 최대 행 수
+     * @param rowConsumer - 읽은 행과 그 customer / accounts 의 version ETag (AccountsVersionDto.etag), cursor 는 null
+     * @return 해당 page 에서 읽은 마지막 행의 key, 읽은 행이 없으면 after
+     */
+    public PageKey lockPage(PageKey after, int pageSize, BiConsumer<AccountsExportDto, String> rowConsumer) {
+        PageKey[] last = { after };
+        jdbcTemplate.query(LOCK_PAGE_SQL, rs -> {
+            long customerId = rs.getLong("customer_id");
+            long accountNumber = rs.getLong("account_number");
+            last[0] = new PageKey(customerId, accountNumber);
+            rowConsumer.accept(new AccountsExportDto(
+                    customerId,
+                    rs.getString("name"),
+                    rs.getString("email"),
+                    rs.getString("mobile_number"),
+                    accountNumber,
+                    rs.getString("account_type"),
+                    rs.getString("branch_address"),
+                    null),
+                    new AccountsVersionDto(customerId, rs.getLong("customer_version"), rs.getLong("accounts_version"))
+                            .etag());
+        }, after.customerId(), after.customerId(), after.accountNumber(), pageSize);
+        return last[0];
+    }
+
+    /**
+     * shard 가 하나이면 customerId|accountNumber, 여러개이면 shard|customerId|accountNumber
+     */
+    private String cursor(int shard, PageKey key) {
+        return shardRouter.shardCount() == 1
+                ? CursorUtil.encode(String.valueOf(key.customerId()), String.valueOf(key.accountNumber()))
+                : CursorUtil.encode(String.valueOf(shard), String.valueOf(key.customerId()),
+                        String.valueOf(key.accountNumber()));
+    }
+
+    /**
+     * 모든 shard 의 mobile_number 를 한 행씩 전달 (MobileNumberMembership 의 Bloom filter 생성용)
+     *
+     * @param fetchSize - JDBC driver 가 한번에 가져올 행 수
+     * @param mobileNumberConsumer - 읽은 mobile_number 를 바로 처리할 callback
+     * @return 읽은 행 수
+     */
+    public long streamMobileNumbers(int fetchSize, Consumer<String> mobileNumberConsumer) {
+        long[] rows = { 0 };
+        shardRouter.forEachShard(shard -> shardRouter.scan(shard, () -> {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(MOBILE_NUMBERS_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, rs -> {
+                mobileNumberConsumer.accept(rs.getString(1));
+                rows[0]++;
+            });
+            return null;
+        }));
+        return rows[0];
+    }
+
+    /**
+     * @return 모든 shard 의 customer 수 합계
+     */
+    public long countCustomers() {
+        long[] total = { 0 };
+        shardRouter.forEachShard(shard -> {
+            Long count = shardRouter.scan(shard, () -> jdbcTemplate.queryForObject(COUNT_CUSTOMERS_SQL, Long.class));
+            total[0] += count == null ? 0 : count;
+        });
+        return total[0];
+    }
+}
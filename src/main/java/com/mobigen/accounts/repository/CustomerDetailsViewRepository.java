@@ -0,0 +1,207 @@
+package com.mobigen.accounts.repository;
+
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /api/fetchCustomerDetails 의 read model (customer_details_view)
+ * mobileNumber 한 행에 customer(+accounts) / cards / loans 를 JSON 으로 따로 저장하여
+ * 변경된 부분만 갱신한다. (각 부분은 서로 다른 곳에서 변경됨: 로컬 write, cards-changed, loans-changed)
+ * customer 부분은 그 JSON 을 만든 customer / accounts 의 version ETag(customer_version) 와 함께 저장한다.
+ * upsert 는 DB 별 문법(MERGE, ON DUPLICATE KEY) 대신 UPDATE 후 행이 없으면 INSERT ... WHERE NOT EXISTS 로 처리한다.
+ * (행이 이미 있으면 INSERT 는 0 건이므로 duplicate key 가 나지 않는다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerDetailsViewRepository {
+
+    public static final String CUSTOMER = "customer";
+    public static final String CARDS = "cards";
+    public static final String LOANS = "loans";
+
+    private static final String CUSTOMER_VERSION = "customer_version";
+    private static final List<String> PARTS = List.of(CUSTOMER, CARDS, LOANS);
+
+    // cards / loans 는 freshAfter 이전에 저장된 값이면 NULL 로 읽는다.
+    private static final String FIND_SQL = "SELECT customer, customer_version, "
+            + "CASE WHEN cards_updated_at >= ? THEN cards END AS cards, "
+            + "CASE WHEN loans_updated_at >= ? THEN loans END AS loans "
+            + "FROM customer_details_view WHERE mobile_number = ?";
+    private static final String DELETE_SQL = "DELETE FROM customer_details_view WHERE mobile_number = ?";
+    private static final String DELETE_ORPHANS_SQL = "DELETE FROM customer_details_view v "
+            + "WHERE NOT EXISTS (SELECT 1 FROM customer c WHERE c.mobile_number = v.mobile_number)";
+    private static final String CLEAR_DOWNSTREAM_SQL = "UPDATE customer_details_view "
+            + "SET cards = NULL, loans = NULL, cards_updated_at = NULL, loans_updated_at = NULL";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM customer_details_view";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param customer - CustomerDto (with AccountsDto) JSON, null 이면 아직 저장되지 않음
+     * @param cards - CardsDto JSON, null 이면 아직 저장되지 않았거나 만료됨
+     * @param loans - LoansDto JSON, null 이면 아직 저장되지 않았거나 만료됨
+     * @param customerVersion - customer 를 만든 customer / accounts 의 version ETag, null 이면 알 수 없음
+     */
+    public record Row(String customer, String cards, String loans, String customerVersion) {
+    }
+
+    /**
+     * @param freshAfter - 이 시각 이전에 저장된 cards / loans 는 없는 것으로 본다
+     */
+    public Optional<Row> find(String mobileNumber, Timestamp freshAfter) {
+        return jdbcTemplate.query(FIND_SQL,
+                (rs, rowNum) -> new Row(rs.getString(CUSTOMER), rs.getString(CARDS), rs.getString(LOANS),
+                        rs.getString(CUSTOMER_VERSION)),
+                freshAfter, freshAfter, mobileNumber).stream().findFirst();
+    }
+
+    /**
+     * @param part - CUSTOMER, CARDS, LOANS
+     * @param json - 저장할 JSON (null 이면 해당 부분 삭제)
+     */
+    public void upsert(String mobileNumber, String part, String json) {
+        upsert(mobileNumber, column(part), json, null);
+    }
+
+    /**
+     * @param json - CustomerDto (with AccountsDto) JSON
+     * @param versionETag - json 을 만든 customer / accounts 의 version ETag (AccountsVersionDto.etag)
+     */
+    public void upsertCustomer(String mobileNumber, String json, String versionETag) {
+        upsert(mobileNumber, CUSTOMER, json, versionETag);
+    }
+
+    private void upsert(String mobileNumber, String column, String json, String versionETag) {
+        if (update(column, json, versionETag, mobileNumber, null, false) > 0 || json == null) {
+            return;
+        }
+        if (!insert(column, json, versionETag, mobileNumber)) {
+            // 동시에 다른 부분이 먼저 insert 한 경우
+            update(column, json, versionETag, mobileNumber, null, false);
+        }
+    }
+
+    /**
+     * 해당 부분이 비어있거나 staleBefore 이전에 저장된 경우에만 저장
+     * (read-through 로 채울 때, 그 사이에 event 로 저장된 최신 값을 덮어쓰지 않도록)
+     *
+     * @param staleBefore - null 이면 비어있을 때만 저장
+     */
+    public void insertIfAbsent(String mobileNumber, String part, String json, Timestamp staleBefore) {
+        insertIfAbsent(mobileNumber, column(part), json, null, staleBefore);
+    }
+
+    /**
+     * customer 부분이 비어있는 경우에만 저장
+     *
+     * @param versionETag - json 을 만든 customer / accounts 의 version ETag (AccountsVersionDto.etag)
+     */
+    public void insertCustomerIfAbsent(String mobileNumber, String json, String versionETag) {
+        insertIfAbsent(mobileNumber, CUSTOMER, json, versionETag, null);
+    }
+
+    private void insertIfAbsent(String mobileNumber, String column, String json, String versionETag,
+            Timestamp staleBefore) {
+        if (update(column, json, versionETag, mobileNumber, staleBefore, true) == 0) {
+            insert(column, json, versionETag, mobileNumber);
+        }
+    }
+
+    public void delete(String mobileNumber) {
+        jdbcTemplate.update(DELETE_SQL, mobileNumber);
+    }
+
+    /**
+     * @return customer 에 없는 mobileNumber 의 행을 삭제한 수
+     */
+    public int deleteOrphans() {
+        return jdbcTemplate.update(DELETE_ORPHANS_SQL);
+    }
+
+    /**
+     * 모든 행의 cards / loans 를 비운다. (다음 조회 시 cards / loans 를 다시 호출하여 채움)
+     */
+    public int clearDownstream() {
+        return jdbcTemplate.update(CLEAR_DOWNSTREAM_SQL);
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private int update(String column, String json, String versionETag, String mobileNumber, Timestamp staleBefore,
+            boolean onlyIfAbsent) {
+        boolean customer = CUSTOMER.equals(column);
+        // customer 는 JSON 과 version 을 항상 같이 바꾼다. (version 을 모르면 NULL 로 지워 이전 version 이 남지 않게 함)
+        String sql = "UPDATE customer_details_view SET " + column + " = ?, "
+                + (customer ? CUSTOMER_VERSION + " = ?, " : "") + timestampColumns(column)
+                + "WHERE mobile_number = ?";
+        Object[] values = customer ? new Object[] { json, versionETag, mobileNumber } : new Object[] { json, mobileNumber };
+        if (!onlyIfAbsent) {
+            return jdbcTemplate.update(sql, values);
+        }
+        if (staleBefore == null || customer) {
+            return jdbcTemplate.update(sql + " AND " + column + " IS NULL", values);
+        }
+        return jdbcTemplate.update(sql + " AND (" + column + " IS NULL OR " + column + "_updated_at < ?)",
+                json, mobileNumber, staleBefore);
+    }
+
+    /**
+     * 행이 없을 때만 insert 한다. 같은 행을 동시에 insert 하여 duplicate key 가 나면
+     * savepoint 로 그 문장만 되돌린다. (PostgreSQL 은 실패한 문장 이후 트랜잭션 전체를 쓸 수 없게 되므로)
+     *
+     * @return insert 했으면 true, 이미 행이 있으면 false
+     */
+    private boolean insert(String column, String json, String versionETag, String mobileNumber) {
+        boolean customer = CUSTOMER.equals(column);
+        String sql = "INSERT INTO customer_details_view (mobile_number, " + column + ", "
+                + (customer ? CUSTOMER_VERSION + ", " : column + "_updated_at, ") + "updated_at) "
+                + "SELECT ?, ?, " + (customer ? "?, " : "CURRENT_TIMESTAMP, ") + "CURRENT_TIMESTAMP "
+                + "FROM (SELECT 1 AS one) t "
+                + "WHERE NOT EXISTS (SELECT 1 FROM customer_details_view WHERE mobile_number = ?)";
+        Object[] values = customer ? new Object[] { mobileNumber, json, versionETag, mobileNumber }
+                : new Object[] { mobileNumber, json, mobileNumber };
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                return jdbcTemplate.update(sql, values) > 0;
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        }
+        Boolean inserted = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                boolean result = jdbcTemplate.update(sql, values) > 0;
+                connection.releaseSavepoint(savepoint);
+                return result;
+            } catch (DuplicateKeyException e) {
+                connection.rollback(savepoint);
+                return false;
+            }
+        });
+        return Boolean.TRUE.equals(inserted);
+    }
+
+    private static String timestampColumns(String column) {
+        return (CUSTOMER.equals(column) ? "" : column + "_updated_at = CURRENT_TIMESTAMP, ") + "updated_at = CURRENT_TIMESTAMP ";
+    }
+
+    private static String column(String part) {
+        if (!PARTS.contains(part)) {
+            throw new IllegalArgumentException("Unknown customer_details_view column: " + part);
+        }
+        return part;
+    }
+}
@@ -3,13 +3,22 @@ package com.mobigen.accounts.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.mobigen.accounts.dto.AccountsVersionDto;
 import com.mobigen.accounts.entity.Customer;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer> {
 
     Optional<Customer> findByMobileNumber(String mobileNumber);
 
+    // entity 를 영속성 컨텍스트에 올리지 않고 version 컬럼만 조회 (idx_customer_mobile_number, idx_accounts_customer_id 사용)
+    @Query("SELECT new com.mobigen.accounts.dto.AccountsVersionDto(c.customerId, c.version, a.version) "
+            + "FROM Customer c JOIN Accounts a ON a.customerId = c.customerId WHERE c.mobileNumber = :mobileNumber")
+    Optional<AccountsVersionDto> findVersionByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
 }
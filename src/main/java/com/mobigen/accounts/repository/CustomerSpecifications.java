@@ -0,0 +1,38 @@
+package com.mobigen.accounts.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.mobigen.accounts.entity.Customer;
+
+/**
+ * Customer 검색 조건 (JpaSpecificationExecutor 와 같이 사용)
+ * prefix 검색은 'LIKE 값%' 형태로만 만들어 (name, customer_id) / (email, customer_id) index 의 range scan 이 가능하도록 한다.
+ */
+public class CustomerSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    public static Specification<Customer> namePrefix(String prefix) {
+        return (root, query, cb) -> prefix == null || prefix.isEmpty() ? null
+                : cb.like(root.get("name"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<Customer> emailPrefix(String prefix) {
+        return (root, query, cb) -> prefix == null || prefix.isEmpty() ? null
+                : cb.like(root.get("email"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<Customer> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Customer> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("createdAt"), to);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
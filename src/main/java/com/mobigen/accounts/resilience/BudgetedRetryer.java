@@ -0,0 +1,69 @@
+package com.mobigen.accounts.resilience;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import feign.RetryableException;
+import feign.Retryer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Feign client 별 retry (RetryProperties) + retry budget
+ * Feign 은 호출마다 clone() 으로 새 Retryer 를 만들므로 시도 횟수는 instance 에, budget 은 공유 map 에 둔다.
+ * retry 는 circuit breaker / time limiter 안에서 실행되므로 전체 시간은 time limiter 로 제한된다.
+ */
+public class BudgetedRetryer implements Retryer {
+
+    private final Map<String, RetryProperties.Retry> policies;
+    private final RetryBudgets budgets;
+    private final MeterRegistry meterRegistry;
+    private int attempt = 1;
+
+    public BudgetedRetryer(Map<String, RetryProperties.Retry> policies, RetryBudgets budgets,
+            MeterRegistry meterRegistry) {
+        this.policies = policies;
+        this.budgets = budgets;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        String dependency = e.request() == null ? null : e.request().requestTemplate().feignTarget().name();
+        RetryProperties.Retry policy = dependency == null ? null : policies.get(dependency);
+        if (policy == null) {
+            throw e;
+        }
+        if (attempt >= policy.getMaxAttempts()) {
+            count(dependency, "exhausted");
+            throw e;
+        }
+        if (!budgets.get(dependency).tryRetry()) {
+            count(dependency, "budget_exhausted");
+            throw e;
+        }
+        long backoffMs = (long) (policy.getInitialBackoffMs() * Math.pow(policy.getMultiplier(), attempt - 1));
+        attempt++;
+        try {
+            TimeUnit.MILLISECONDS.sleep(backoffMs);
+        } catch (InterruptedException interrupted) {
+            // time limiter 가 timeout 으로 취소한 경우
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        count(dependency, "retried");
+    }
+
+    private void count(String dependency, String result) {
+        Counter.builder("accounts.retry.calls")
+                .tag("dependency", dependency)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public Retryer clone() {
+        return new BudgetedRetryer(policies, budgets, meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.mobigen.accounts.resilience;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * repository 호출에 db circuit breaker 와 semaphore bulkhead 를 적용
+ * - bulkhead: connection pool 을 기다리는 요청 수를 제한하여 DB 가 느릴 때 요청 thread 가 모두 묶이지 않게 한다. (BulkheadFullException)
+ * - circuit breaker: connection 실패 / timeout 이 계속되면 바로 실패시킨다. (CallNotPermittedException)
+ *   어떤 예외를 실패로 볼지는 resilience4j.circuitbreaker.instances.db.recordExceptions 로 정한다. (unique 위반 등은 제외)
+ * FaultInjection 의 repository aspect 보다 바깥에서 동작하여 주입된 장애도 실패로 집계된다.
+ */
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class DatabaseResilienceAspect {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    @Around("target(org.springframework.data.repository.Repository) || within(com.mobigen.accounts.repository..*)")
+    public Object protect(ProceedingJoinPoint joinPoint) throws Throwable {
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                Object result = joinPoint.proceed();
+                circuitBreaker.onResult(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), result);
+                return result;
+            } catch (Throwable e) {
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+                throw e;
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.mobigen.accounts.resilience;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.Capability;
+import feign.Client;
+import feign.Retryer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * dependency 별 resilience 정책
+ * - cards / loans (Feign): spring.cloud.openfeign.circuitbreaker.group 으로 client 이름별 circuit breaker, time limiter,
+ *   thread pool bulkhead (resilience4j.*.instances.cards|loans) + client 별 retry budget (BudgetedRetryer)
+ * - db: repository 호출에 circuit breaker, semaphore bulkhead (DatabaseResilienceAspect, resilience4j.*.instances.db)
+ *   JDBC 호출은 다른 thread 로 옮길 수 없으므로 (transaction 이 thread 에 묶임) time limiter 대신 accounts.transaction.request-timeout-seconds 사용
+ * 상태는 /actuator/circuitbreakers, /actuator/bulkheads, /actuator/timelimiters 및 resilience4j.* metric 으로 확인한다.
+ */
+@Configuration
+public class DependencyResilienceConfig {
+
+    public static final String DB = "db";
+
+    @Bean
+    public RetryBudgets retryBudgets(RetryProperties properties, MeterRegistry meterRegistry) {
+        return new RetryBudgets(properties, meterRegistry);
+    }
+
+    @Bean
+    public Retryer budgetedRetryer(RetryProperties properties, RetryBudgets retryBudgets, MeterRegistry meterRegistry) {
+        return new BudgetedRetryer(properties.getRetry(), retryBudgets, meterRegistry);
+    }
+
+    /**
+     * 모든 시도(retry 포함)마다 해당 client 의 budget 에 token 을 쌓는다.
+     */
+    @Bean
+    public Capability retryBudgetCapability(RetryBudgets retryBudgets) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> {
+                    RetryBudget budget = retryBudgets.get(request.requestTemplate().feignTarget().name());
+                    if (budget != null) {
+                        budget.onCall();
+                    }
+                    return client.execute(request, options);
+                };
+            }
+        };
+    }
+
+    @Bean
+    public DatabaseResilienceAspect databaseResilienceAspect(CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry) {
+        return new DatabaseResilienceAspect(circuitBreakerRegistry.circuitBreaker(DB), bulkheadRegistry.bulkhead(DB));
+    }
+}
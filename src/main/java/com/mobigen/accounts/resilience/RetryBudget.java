@@ -0,0 +1,45 @@
+package com.mobigen.accounts.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호출 수 대비 retry 비율을 제한하는 token bucket
+ * 장애 시 모든 호출이 retry 되어 downstream 부하가 maxAttempts 배가 되는 것(retry storm)을 막는다.
+ * token 은 1/1000 단위 정수로 보관한다.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerCall;
+    private final long maxTokens;
+    private final AtomicLong tokens;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.depositPerCall = Math.round(ratio * SCALE);
+        this.maxTokens = maxTokens * SCALE;
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    public void onCall() {
+        tokens.accumulateAndGet(depositPerCall, (current, deposit) -> Math.min(maxTokens, current + deposit));
+    }
+
+    /**
+     * @return token 이 있어 retry 할 수 있으면 true
+     */
+    public boolean tryRetry() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    public double tokens() {
+        return (double) tokens.get() / SCALE;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mobigen.accounts.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * accounts.resilience.retry 에 설정된 Feign client 별 RetryBudget
+ */
+public class RetryBudgets {
+
+    private final Map<String, RetryBudget> budgets = new LinkedHashMap<>();
+
+    public RetryBudgets(RetryProperties properties, MeterRegistry meterRegistry) {
+        properties.getRetry().forEach((dependency, retry) -> {
+            RetryBudget budget = new RetryBudget(retry.getBudgetRatio(), retry.getBudgetMaxTokens());
+            Gauge.builder("accounts.retry.budget.tokens", budget, RetryBudget::tokens)
+                    .tag("dependency", dependency)
+                    .description("Retries currently allowed by the retry budget")
+                    .register(meterRegistry);
+            budgets.put(dependency, budget);
+        });
+    }
+
+    /**
+     * @return retry 설정이 없는 client 이면 null
+     */
+    public RetryBudget get(String dependency) {
+        return budgets.get(dependency);
+    }
+}
@@ -0,0 +1,36 @@
+package com.mobigen.accounts.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Feign client(dependency) 별 retry 설정 (accounts.resilience.retry.<client 이름>.*)
+ * 설정이 없는 client 는 retry 하지 않는다.
+ * circuit breaker / time limiter / bulkhead 는 resilience4j.*.instances.<client 이름> 으로 설정한다.
+ */
+@ConfigurationProperties(prefix = "accounts.resilience")
+@Getter
+@Setter
+public class RetryProperties {
+
+    private Map<String, Retry> retry = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Retry {
+        // 최초 호출을 포함한 최대 시도 횟수
+        private int maxAttempts = 3;
+        // 첫 retry 전 대기 시간 (ms), 이후 multiplier 배씩 증가
+        private long initialBackoffMs = 100;
+        private double multiplier = 2.0;
+        // retry budget: 호출마다 budgetRatio 개의 token 이 쌓이고 retry 마다 1개를 사용 (retry 는 호출 수의 budgetRatio 이하)
+        private double budgetRatio = 0.1;
+        // 쌓아둘 수 있는 최대 token 수 (짧은 장애 시 한번에 허용되는 retry 수)
+        private int budgetMaxTokens = 10;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mobigen.accounts.service;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import com.mobigen.accounts.dto.BatchEntryDto;
+import com.mobigen.accounts.dto.CustomerDto;
+
+public interface IAccountsBatchService {
+
+    /**
+     *
+     * @param mobileNumbers - Input Mobile Numbers
+     * @param outputStream - Stream to write the JSON object (mobileNumber -> BatchEntryDto of CustomerDto) to
+     */
+    void fetchAccounts(List<String> mobileNumbers, OutputStream outputStream);
+
+    /**
+     *
+     * @param mobileNumbers - Input Mobile Numbers
+     * @param entryConsumer - Callback for each mobile number (found ones as they are read, NOT_FOUND ones last)
+     */
+    void fetchAccounts(List<String> mobileNumbers, BiConsumer<String, BatchEntryDto<CustomerDto>> entryConsumer);
+
+    /**
+     *
+     * @param mobileNumbers - Input Mobile Numbers
+     * @param correlationId - Correlation ID value generated at Edge server
+     * @param outputStream - Stream to write the JSON object (mobileNumber -> BatchEntryDto of CustomerDetailsDto) to
+     */
+    void fetchCustomerDetails(List<String> mobileNumbers, String correlationId, OutputStream outputStream);
+}
@@ -0,0 +1,18 @@
+package com.mobigen.accounts.service;
+
+import java.io.OutputStream;
+
+import com.mobigen.accounts.repository.AccountsExportRepository.PageKey;
+
+public interface IAccountsExportService {
+
+    /**
+     *
+     * @param format - Export format (ndjson, csv)
+     * @param fromShard - Shard to start the export from (0 to start from the beginning)
+     * @param after - Export rows of fromShard after this (customerId, accountNumber) (PageKey.FIRST to start from the beginning)
+     * @param fetchSize - JDBC fetch size (null to use the configured default)
+     * @param outputStream - Stream to write the export to
+     */
+    void export(String format, int fromShard, PageKey after, Integer fetchSize, OutputStream outputStream);
+}
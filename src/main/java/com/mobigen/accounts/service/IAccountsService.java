@@ -18,6 +18,13 @@ public interface IAccountsService { // 메서드에서 대한 명세를 작성
      */
     CustomerDto fetchAccount(String mobileNumber);
 
+    /**
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @return Strong ETag of the Customer & Account details, derived from their versions only
+     */
+    String fetchAccountETag(String mobileNumber);
+
     /**
      *
      * @param customerDto - CustomerDto Object
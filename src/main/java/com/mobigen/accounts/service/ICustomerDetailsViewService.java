@@ -0,0 +1,85 @@
+package com.mobigen.accounts.service;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.mobigen.accounts.dto.CardsDto;
+import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDetailsViewDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.LoansDto;
+
+public interface ICustomerDetailsViewService {
+
+    /**
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @return Stored JSON of every part, empty if any part (customer, cards, loans) is missing
+     */
+    Optional<CustomerDetailsViewDto> findView(String mobileNumber);
+
+    /**
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @return Customer Details from the read model, empty if any part (customer, cards, loans) is missing
+     */
+    Optional<CustomerDetailsDto> find(String mobileNumber);
+
+    /**
+     *
+     * @param customerDetailsDto - Customer Details composed from Customer, Accounts, cards and loans
+     * @param versionETag - ETag from the versions of the Customer / Accounts read for the details
+     * @return JSON of every part, cards / loans are null if the call fell back
+     */
+    CustomerDetailsViewDto toView(CustomerDetailsDto customerDetailsDto, String versionETag);
+
+    /**
+     * Fill the missing or expired parts of the read model from a composed response (read-through)
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @param customerDetailsViewDto - JSON of the composed response (from toView)
+     */
+    void fill(String mobileNumber, CustomerDetailsViewDto customerDetailsViewDto);
+
+    /**
+     *
+     * @param customerDto - Customer (with AccountsDto) written by createAccount / updateAccount
+     * @param versionETag - ETag from the versions of the written Customer / Accounts (after flush)
+     */
+    void saveCustomer(CustomerDto customerDto, String versionETag);
+
+    /**
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @param cardsDto - Cards details from the cards-changed event, null if deleted
+     */
+    void saveCards(String mobileNumber, CardsDto cardsDto);
+
+    /**
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @param loansDto - Loans details from the loans-changed event, null if deleted
+     */
+    void saveLoans(String mobileNumber, LoansDto loansDto);
+
+    /**
+     *
+     * @param mobileNumber - Input Mobile Number
+     */
+    void delete(String mobileNumber);
+
+    /**
+     * Rebuild the customer part of every row from Customer / Accounts and remove rows of deleted customers
+     * Each page is read and written in one transaction that locks its Customer / Accounts rows
+     *
+     * @param resetDownstream - true 이면 cards / loans 도 비워서 다음 조회 시 다시 채운다
+     * @return number of customers written
+     */
+    long rebuild(boolean resetDownstream);
+
+    /**
+     *
+     * @return row count and read hits / misses of the read model
+     */
+    Map<String, Object> statistics();
+}
@@ -1,6 +1,10 @@
 package com.mobigen.accounts.service;
 
+import java.time.LocalDateTime;
+
 import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDetailsViewDto;
+import com.mobigen.accounts.dto.CustomerSearchDto;
 
 public interface ICustomersService {
 
@@ -10,4 +14,23 @@ public interface ICustomersService {
      * @return Customer Details based on a given mobileNumber
      */
     CustomerDetailsDto fetchCustomerDetails(String mobileNumber, String correlationId);
+
+    /**
+     * @param mobileNumber - Input Mobile Number
+     * @param correlationId - Correlation ID value generated at Edge server
+     * @return Customer Details based on a given mobileNumber, serialized from the read model JSON without mapping
+     */
+    CustomerDetailsViewDto fetchCustomerDetailsView(String mobileNumber, String correlationId);
+
+    /**
+     * @param namePrefix - Prefix of the customer name (optional)
+     * @param emailPrefix - Prefix of the customer email (optional)
+     * @param createdFrom - Customers created at or after (optional)
+     * @param createdTo - Customers created before (optional)
+     * @param cursor - nextCursor of the previous page (null for the first page)
+     * @param limit - Maximum number of customers in the page
+     * @return One page of customers matching the given filters
+     */
+    CustomerSearchDto searchCustomers(String namePrefix, String emailPrefix, LocalDateTime createdFrom,
+            LocalDateTime createdTo, String cursor, int limit);
 }
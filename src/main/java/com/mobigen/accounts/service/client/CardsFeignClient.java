@@ -11,12 +11,12 @@ import com.mobigen.accounts.dto.CardsDto;
 @FeignClient(name = "cards", path = "/api", fallback = CardsFallback.class)
 public interface CardsFeignClient {
 
-    @GetMapping(value = "/fetch", consumes = "application/json")
+    @GetMapping(value = "/fetch")
     public ResponseEntity<CardsDto> fetchCardDetails(
         @RequestHeader("msa-correlation-id") String correlationId,
         @RequestParam(value = "mobileNumber") String mobileNumber);
 
-    @GetMapping(value = "/health", consumes = "application/json")
+    @GetMapping(value = "/health")
     public ResponseEntity<String> getHealthInfo();
 
 }
\ No newline at end of file
@@ -11,7 +11,7 @@ import com.mobigen.accounts.dto.LoansDto;
 @FeignClient(name = "loans", path = "/api", fallback = LoansFallback.class)
 public interface LoansFeignClient {
 
-    @GetMapping(value = "/api/fetch", consumes = "application/json")
+    @GetMapping(value = "/api/fetch")
     public ResponseEntity<LoansDto> fetchLoanDetails(
         @RequestHeader("msa-correlation-id") String correlationId,
         @RequestParam(value = "mobileNumber") String mobileNumber);
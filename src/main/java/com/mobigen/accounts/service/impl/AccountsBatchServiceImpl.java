@@ -0,0 +1,221 @@
+package com.mobigen.accounts.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mobigen.accounts.cache.MobileNumberMembership;
+import com.mobigen.accounts.dto.BatchEntryDto;
+import com.mobigen.accounts.dto.CardsDto;
+import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.LoansDto;
+import com.mobigen.accounts.repository.AccountsBatchRepository;
+import com.mobigen.accounts.service.IAccountsBatchService;
+import com.mobigen.accounts.service.client.CardsFeignClient;
+import com.mobigen.accounts.service.client.LoansFeignClient;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class AccountsBatchServiceImpl implements IAccountsBatchService {
+
+    private final AccountsBatchRepository accountsBatchRepository;
+    private final MobileNumberMembership mobileNumberMembership;
+    private final CardsFeignClient cardsFeignClient;
+    private final LoansFeignClient loansFeignClient;
+    private final Executor batchFanOutExecutor;
+    private final ObjectMapper objectMapper;
+    private final int inChunkSize;
+    private final TuningRegistry tuningRegistry;
+
+    public AccountsBatchServiceImpl(AccountsBatchRepository accountsBatchRepository,
+            MobileNumberMembership mobileNumberMembership, CardsFeignClient cardsFeignClient,
+            LoansFeignClient loansFeignClient, @Qualifier("batchFanOutExecutor") Executor batchFanOutExecutor,
+            ObjectMapper objectMapper, TuningRegistry tuningRegistry,
+            @Value("${accounts.batch.in-chunk-size:500}") int inChunkSize) {
+        this.accountsBatchRepository = accountsBatchRepository;
+        this.mobileNumberMembership = mobileNumberMembership;
+        this.cardsFeignClient = cardsFeignClient;
+        this.loansFeignClient = loansFeignClient;
+        this.batchFanOutExecutor = batchFanOutExecutor;
+        // 항목마다 flush 하지 않고 chunk / window 단위로 flush
+        this.objectMapper = objectMapper.copy()
+                .disable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.inChunkSize = inChunkSize;
+        this.tuningRegistry = tuningRegistry;
+    }
+
+    /**
+     * 조회된 행은 읽는 즉시 응답에 쓰고, 조회되지 않은 mobileNumber 는 마지막에 NOT_FOUND 로 쓴다.
+     *
+     * @param mobileNumbers - Input Mobile Numbers
+     * @param outputStream - Stream to write the JSON object (mobileNumber -> BatchEntryDto of CustomerDto) to
+     */
+    @Override
+    public void fetchAccounts(List<String> mobileNumbers, OutputStream outputStream) {
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            generator.writeStartObject();
+            fetchAccounts(mobileNumbers, (key, entry) -> writeEntry(generator, key, entry), () -> {
+                try {
+                    generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param mobileNumbers - Input Mobile Numbers
+     * @param entryConsumer - Callback for each mobile number (found ones as they are read, NOT_FOUND ones last)
+     */
+    @Override
+    public void fetchAccounts(List<String> mobileNumbers, BiConsumer<String, BatchEntryDto<CustomerDto>> entryConsumer) {
+        fetchAccounts(mobileNumbers, entryConsumer, () -> {
+        });
+    }
+
+    private void fetchAccounts(List<String> mobileNumbers, BiConsumer<String, BatchEntryDto<CustomerDto>> entryConsumer,
+            Runnable afterChunk) {
+        Set<String> keys = new LinkedHashSet<>(mobileNumbers);
+        Set<String> found = new HashSet<>();
+        for (List<String> chunk : chunk(candidates(keys), inChunkSize)) {
+            accountsBatchRepository.findByMobileNumbers(chunk, customerDto -> {
+                if (found.add(customerDto.mobileNumber())) {
+                    entryConsumer.accept(customerDto.mobileNumber(), BatchEntryDto.found(customerDto));
+                }
+            });
+            afterChunk.run();
+        }
+        for (String key : keys) {
+            if (!found.contains(key)) {
+                entryConsumer.accept(key, BatchEntryDto.notFound());
+            }
+        }
+        log.debug("Batch fetch finished. requested: {}, found: {}", keys.size(), found.size());
+    }
+
+    /**
+     * customer / accounts 는 IN 쿼리로 한번에 조회하고, cards / loans 는 batch API 가 없으므로
+     * accounts.batch.fan-out-concurrency 개의 mobileNumber 씩 병렬 호출(batchFanOutExecutor 로 전체 동시 호출 수 제한)하여 요청 순서대로 쓴다.
+     *
+     * @param mobileNumbers - Input Mobile Numbers
+     * @param correlationId - Correlation ID value generated at Edge server
+     * @param outputStream - Stream to write the JSON object (mobileNumber -> BatchEntryDto of CustomerDetailsDto) to
+     */
+    @Override
+    public void fetchCustomerDetails(List<String> mobileNumbers, String correlationId, OutputStream outputStream) {
+        Set<String> keys = new LinkedHashSet<>(mobileNumbers);
+        Map<String, CustomerDto> customers = new HashMap<>();
+        for (List<String> chunk : chunk(candidates(keys), inChunkSize)) {
+            accountsBatchRepository.findByMobileNumbers(chunk,
+                    customerDto -> customers.putIfAbsent(customerDto.mobileNumber(), customerDto));
+        }
+
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            generator.writeStartObject();
+            for (List<String> window : chunk(keys, tuningRegistry.current().batchFanOutConcurrency())) {
+                Map<String, CompletableFuture<CardsDto>> cards = new HashMap<>();
+                Map<String, CompletableFuture<LoansDto>> loans = new HashMap<>();
+                for (String key : window) {
+                    if (customers.containsKey(key)) {
+                        cards.put(key, supplyBody(() -> cardsFeignClient.fetchCardDetails(correlationId, key), "cards", key));
+                        loans.put(key, supplyBody(() -> loansFeignClient.fetchLoanDetails(correlationId, key), "loans", key));
+                    }
+                }
+                for (String key : window) {
+                    CustomerDto customerDto = customers.get(key);
+                    if (customerDto == null) {
+                        writeEntry(generator, key, BatchEntryDto.notFound());
+                        continue;
+                    }
+                    writeEntry(generator, key, BatchEntryDto.found(
+                            CustomerDetailsDto.of(customerDto, loans.get(key).join(), cards.get(key).join())));
+                }
+                generator.flush();
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // fallback 과 동일하게, 호출 실패 시 해당 항목만 null 로 두고 나머지 결과는 계속 응답한다.
+    private <T> CompletableFuture<T> supplyBody(Supplier<ResponseEntity<T>> call, String service, String key) {
+        return CompletableFuture.supplyAsync(() -> call.get().getBody(), batchFanOutExecutor)
+                .exceptionally(e -> {
+                    log.warn("Batch fan-out to {} failed for mobileNumber {}: {}", service, key, e.getMessage());
+                    return null;
+                });
+    }
+
+    private JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        // 응답 stream 은 servlet container 가 닫는다.
+        return objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private void writeEntry(JsonGenerator generator, String key, BatchEntryDto<?> entry) {
+        try {
+            generator.writeFieldName(key);
+            objectMapper.writeValue(generator, entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * membership filter 에 없는 번호(확실히 없는 번호)는 IN 쿼리에서 제외한다.
+     */
+    private Set<String> candidates(Set<String> keys) {
+        Set<String> candidates = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (mobileNumberMembership.mightExist(key)) {
+                candidates.add(key);
+            }
+        }
+        return candidates;
+    }
+
+    private static List<List<String>> chunk(Set<String> keys, int size) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>(Math.min(size, keys.size()));
+        for (String key : keys) {
+            current.add(key);
+            if (current.size() == size) {
+                chunks.add(current);
+                current = new ArrayList<>(Math.min(size, keys.size()));
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
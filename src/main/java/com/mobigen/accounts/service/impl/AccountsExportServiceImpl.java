@@ -0,0 +1,136 @@
+package com.mobigen.accounts.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mobigen.accounts.config.ShardRouter;
+import com.mobigen.accounts.constants.AccountsConstants;
+import com.mobigen.accounts.dto.AccountsExportDto;
+import com.mobigen.accounts.repository.AccountsExportRepository;
+import com.mobigen.accounts.repository.AccountsExportRepository.PageKey;
+import com.mobigen.accounts.service.IAccountsExportService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class AccountsExportServiceImpl implements IAccountsExportService {
+
+    private static final String CSV_HEADER =
+            "customerId,name,email,mobileNumber,accountNumber,accountType,branchAddress,cursor";
+
+    private final AccountsExportRepository accountsExportRepository;
+    private final ShardRouter shardRouter;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    private final int defaultFetchSize;
+    private final int maxFetchSize;
+
+    public AccountsExportServiceImpl(AccountsExportRepository accountsExportRepository, ShardRouter shardRouter,
+            ObjectMapper objectMapper,
+            @Value("${accounts.export.page-size:5000}") int pageSize,
+            @Value("${accounts.export.fetch-size:500}") int defaultFetchSize,
+            @Value("${accounts.export.max-fetch-size:5000}") int maxFetchSize) {
+        this.accountsExportRepository = accountsExportRepository;
+        this.shardRouter = shardRouter;
+        // NDJSON 은 한 행이 한 줄이어야 하므로 pretty print 를 끈 writer 를 사용
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        this.pageSize = pageSize;
+        this.defaultFetchSize = defaultFetchSize;
+        this.maxFetchSize = maxFetchSize;
+    }
+
+    /**
+     * @param format - Export format (ndjson, csv)
+     * @param fromShard - Shard to start the export from (0 to start from the beginning)
+     * @param after - Export rows of fromShard after this (customerId, accountNumber) (PageKey.FIRST to start from the beginning)
+     * @param fetchSize - JDBC fetch size (null to use the configured default)
+     * @param outputStream - Stream to write the export to
+     */
+    @Override
+    public void export(String format, int fromShard, PageKey after, Integer fetchSize, OutputStream outputStream) {
+        boolean csv = AccountsConstants.EXPORT_FORMAT_CSV.equalsIgnoreCase(format);
+        int effectiveFetchSize = fetchSize == null ? defaultFetchSize : Math.max(1, Math.min(fetchSize, maxFetchSize));
+        int effectivePageSize = Math.max(pageSize, effectiveFetchSize);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long exported = 0;
+        int shard = fromShard;
+        try {
+            if (csv) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            // shard 순서대로 export (다음 shard 는 처음부터)
+            while (shard < shardRouter.shardCount()) {
+                long[] pageRows = { 0 };
+                PageKey last = accountsExportRepository.streamPage(shard, after, effectivePageSize,
+                        effectiveFetchSize, row -> {
+                            writeRow(writer, row, csv);
+                            pageRows[0]++;
+                        });
+                // page 단위로 flush 하여 client 가 받은 마지막 cursor 부터 이어받을 수 있도록 한다.
+                writer.flush();
+                exported += pageRows[0];
+                if (pageRows[0] < effectivePageSize) {
+                    shard++;
+                    after = PageKey.FIRST;
+                    continue;
+                }
+                after = last;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            log.info("Accounts export finished. format: {}, rows: {}, last shard: {}, last row: {}", format, exported,
+                    shard, after);
+        }
+    }
+
+    private void writeRow(Writer writer, AccountsExportDto row, boolean csv) {
+        try {
+            if (csv) {
+                writer.write(String.valueOf(row.customerId()));
+                writer.write(',');
+                writer.write(csvEscape(row.name()));
+                writer.write(',');
+                writer.write(csvEscape(row.email()));
+                writer.write(',');
+                writer.write(csvEscape(row.mobileNumber()));
+                writer.write(',');
+                writer.write(String.valueOf(row.accountNumber()));
+                writer.write(',');
+                writer.write(csvEscape(row.accountType()));
+                writer.write(',');
+                writer.write(csvEscape(row.branchAddress()));
+                writer.write(',');
+                writer.write(row.cursor());
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csvEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,24 +1,33 @@
 package com.mobigen.accounts.service.impl;
 
 import java.util.Optional;
-import java.util.Random;
 
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.mobigen.accounts.cache.MobileNumberMembership;
+import com.mobigen.accounts.config.ShardKey;
+import com.mobigen.accounts.config.ShardRouter;
 import com.mobigen.accounts.constants.AccountsConstants;
 import com.mobigen.accounts.dto.AccountsDto;
 import com.mobigen.accounts.dto.AccountsMsgDto;
+import com.mobigen.accounts.dto.AccountsVersionDto;
 import com.mobigen.accounts.dto.CustomerDto;
 import com.mobigen.accounts.entity.Accounts;
 import com.mobigen.accounts.entity.Customer;
 import com.mobigen.accounts.exception.CustomerAlreadyExistsException;
 import com.mobigen.accounts.exception.ResourceNotFoundException;
+import com.mobigen.accounts.jfr.AccountCreateEvent;
+import com.mobigen.accounts.jfr.AccountFetchEvent;
+import com.mobigen.accounts.jfr.AccountsEvent;
 import com.mobigen.accounts.mapper.AccountsMapper;
 import com.mobigen.accounts.mapper.CustomerMapper;
 import com.mobigen.accounts.repository.AccountsRepository;
 import com.mobigen.accounts.repository.CustomerRepository;
 import com.mobigen.accounts.service.IAccountsService;
+import com.mobigen.accounts.service.ICustomerDetailsViewService;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,20 +41,55 @@ public class AccountsServiceImpl implements IAccountsService {
     private AccountsRepository accountsRepository;
     private CustomerRepository customerRepository;
     private final StreamBridge streamBridge;
+    private MobileNumberMembership mobileNumberMembership;
+    private ICustomerDetailsViewService customerDetailsViewService;
+    private ShardRouter shardRouter;
 
     /**
      * @param customerDto - CustomerDto Object
      */
     @Override
-    public void createAccount(CustomerDto customerDto) {
+    @Transactional(timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public void createAccount(@ShardKey CustomerDto customerDto) {
+        AccountCreateEvent event = new AccountCreateEvent();
+        event.begin();
+        try {
+            saveNewAccount(customerDto);
+            event.finish(AccountsEvent.CREATED);
+        } catch (RuntimeException e) {
+            event.finish(AccountsEvent.outcomeOf(e));
+            throw e;
+        }
+    }
+
+    private void saveNewAccount(CustomerDto customerDto) {
         Customer customer = CustomerMapper.mapToCustomer(customerDto, new Customer());
-        Optional<Customer> optionalCustomer = customerRepository.findByMobileNumber(customerDto.getMobileNumber());
+        Optional<Customer> optionalCustomer = customerRepository.findByMobileNumber(customerDto.mobileNumber());
         if(optionalCustomer.isPresent()) {
             throw new CustomerAlreadyExistsException("Customer already registered with given mobileNumber "
-                    +customerDto.getMobileNumber());
+                    +customerDto.mobileNumber());
+        }
+        // commit 전에 membership filter 에 추가 (filter 에 없는 번호는 DB 조회 없이 404 이므로)
+        mobileNumberMembership.register(customerDto.mobileNumber());
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerRepository.save(customer);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 mobileNumber 로 동시에 생성된 경우 (shard 의 unique index 위반)
+            throw new CustomerAlreadyExistsException("Customer already registered with given mobileNumber "
+                    +customerDto.mobileNumber());
         }
-        Customer savedCustomer = customerRepository.save(customer);
-        accountsRepository.save(createNewAccount(savedCustomer));
+        Accounts savedAccounts = accountsRepository.save(createNewAccount(savedCustomer));
+        saveCustomerView(savedCustomer, savedAccounts);
+    }
+
+    /**
+     * version 은 flush 할 때 증가하므로 flush 한 뒤의 version 을 read model 에 함께 기록한다. (응답 ETag 가 DB 의 version 과 같도록)
+     */
+    private void saveCustomerView(Customer customer, Accounts accounts) {
+        customerRepository.flush();
+        customerDetailsViewService.saveCustomer(CustomerMapper.mapToCustomerDto(customer, accounts),
+                new AccountsVersionDto(customer.getCustomerId(), customer.getVersion(), accounts.getVersion()).etag());
     }
 
     @Override
@@ -64,7 +108,8 @@ public class AccountsServiceImpl implements IAccountsService {
     private Accounts createNewAccount(Customer customer) {
         Accounts newAccount = new Accounts();
         newAccount.setCustomerId(customer.getCustomerId());
-        long randomAccNumber = 1000000000L + new Random().nextInt(900000000);
+        // account number 로 생성된 shard 를 알 수 있도록 현재 shard 를 넣어 생성
+        long randomAccNumber = shardRouter.newAccountNumber(shardRouter.shardOf(customer.getMobileNumber()));
 
         newAccount.setAccountNumber(randomAccNumber);
         newAccount.setAccountType(AccountsConstants.SAVINGS);
@@ -77,55 +122,169 @@ public class AccountsServiceImpl implements IAccountsService {
      * @return Accounts Details based on a given mobileNumber
      */
     @Override
-    public CustomerDto fetchAccount(String mobileNumber) {
+    @Transactional(readOnly = true, timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public CustomerDto fetchAccount(@ShardKey String mobileNumber) {
+        AccountFetchEvent event = new AccountFetchEvent();
+        event.begin();
+        try {
+            CustomerDto customerDto = findAccount(mobileNumber);
+            event.finish(AccountsEvent.FOUND);
+            return customerDto;
+        } catch (RuntimeException e) {
+            event.finish(AccountsEvent.outcomeOf(e));
+            throw e;
+        }
+    }
+
+    private CustomerDto findAccount(String mobileNumber) {
+        mobileNumberMembership.requireMightExist(mobileNumber);
         Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
-                () -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber)
+                () -> mobileNumberMembership.notFound(mobileNumber)
         );
         Accounts accounts = accountsRepository.findByCustomerId(customer.getCustomerId()).orElseThrow(
                 () -> new ResourceNotFoundException("Account", "customerId", customer.getCustomerId().toString())
         );
-        CustomerDto customerDto = CustomerMapper.mapToCustomerDto(customer, new CustomerDto());
-        customerDto.setAccountsDto(AccountsMapper.mapToAccountsDto(accounts, new AccountsDto()));
-        return customerDto;
+        return CustomerMapper.mapToCustomerDto(customer, accounts);
     }
 
     /**
+     * @param mobileNumber - Input Mobile Number
+     * @return Strong ETag of the Customer & Account details, derived from their versions only
+     */
+    @Override
+    @Transactional(readOnly = true, timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public String fetchAccountETag(@ShardKey String mobileNumber) {
+        mobileNumberMembership.requireMightExist(mobileNumber);
+        return customerRepository.findVersionByMobileNumber(mobileNumber)
+                .map(AccountsVersionDto::etag)
+                .orElseThrow(() -> mobileNumberMembership.notFound(mobileNumber));
+    }
+
+    /**
+     * account 가 있는 shard 를 찾아 그 shard 의 트랜잭션으로 수정한다.
+     * mobileNumber 변경으로 shard 가 바뀌면 새 shard 에 옮겨 쓰고 이전 shard 에서 지운다. (moveAccount)
+     *
      * @param customerDto - CustomerDto Object
      * @return boolean indicating if the update of Account details is successful or not
      */
     @Override
     public boolean updateAccount(CustomerDto customerDto) {
         boolean isUpdated = false;
-        AccountsDto accountsDto = customerDto.getAccountsDto();
+        AccountsDto accountsDto = customerDto.accountsDto();
         if(accountsDto !=null ){
-            Accounts accounts = accountsRepository.findById(accountsDto.getAccountNumber()).orElseThrow(
-                    () -> new ResourceNotFoundException("Account", "AccountNumber", accountsDto.getAccountNumber().toString())
-            );
-            AccountsMapper.mapToAccounts(accountsDto, accounts);
-            accounts = accountsRepository.save(accounts);
-
-            Long customerId = accounts.getCustomerId();
-            Customer customer = customerRepository.findById(customerId).orElseThrow(
-                    () -> new ResourceNotFoundException("Customer", "CustomerID", customerId.toString())
-            );
-            CustomerMapper.mapToCustomer(customerDto,customer);
-            customerRepository.save(customer);
+            int sourceShard = findAccountShard(accountsDto.accountNumber());
+            int targetShard = customerDto.mobileNumber() == null
+                    ? sourceShard : shardRouter.shardOf(customerDto.mobileNumber());
+            if (sourceShard == targetShard) {
+                shardRouter.inTransaction(sourceShard, () -> updateAccountInShard(customerDto, accountsDto));
+            } else {
+                moveAccount(customerDto, accountsDto, sourceShard, targetShard);
+            }
             isUpdated = true;
         }
         return  isUpdated;
     }
 
+    /**
+     * account number 를 만든 shard 부터 찾고, 없으면 (mobileNumber 변경으로 옮겨진 경우) 나머지 shard 를 찾는다.
+     */
+    private int findAccountShard(Long accountNumber) {
+        int createdShard = shardRouter.shardOfAccount(accountNumber);
+        for (int i = 0; i < shardRouter.shardCount(); i++) {
+            int shard = (createdShard + i) % shardRouter.shardCount();
+            if (shardRouter.readOnly(shard, () -> accountsRepository.existsById(accountNumber))) {
+                return shard;
+            }
+        }
+        throw new ResourceNotFoundException("Account", "AccountNumber", accountNumber.toString());
+    }
+
+    private Void updateAccountInShard(CustomerDto customerDto, AccountsDto accountsDto) {
+        Accounts accounts = accountsRepository.findById(accountsDto.accountNumber()).orElseThrow(
+                () -> new ResourceNotFoundException("Account", "AccountNumber", accountsDto.accountNumber().toString())
+        );
+        AccountsMapper.mapToAccounts(accountsDto, accounts);
+        accounts = accountsRepository.save(accounts);
+
+        Long customerId = accounts.getCustomerId();
+        Customer customer = customerRepository.findById(customerId).orElseThrow(
+                () -> new ResourceNotFoundException("Customer", "CustomerID", customerId.toString())
+        );
+        String previousMobileNumber = customer.getMobileNumber();
+        if (customerDto.mobileNumber() != null && !customerDto.mobileNumber().equals(previousMobileNumber)) {
+            mobileNumberMembership.register(customerDto.mobileNumber());
+            // cards / loans 는 mobileNumber 기준이므로 새 번호의 행은 다음 조회(또는 event) 때 다시 채운다.
+            customerDetailsViewService.delete(previousMobileNumber);
+        }
+        CustomerMapper.mapToCustomer(customerDto,customer);
+        customer = customerRepository.save(customer);
+        saveCustomerView(customer, accounts);
+        return null;
+    }
+
+    /**
+     * 새 shard 에 customer / accounts 를 만든 뒤 이전 shard 에서 지운다.
+     * shard 간 분산 트랜잭션은 사용하지 않으므로 이전 shard 삭제가 실패하면 새 shard 의 행을 지워 되돌린다. (보상)
+     * 그 사이 짧은 시간 동안은 scatter 조회(search / export)에 두 shard 의 행이 모두 보일 수 있다.
+     */
+    private void moveAccount(CustomerDto customerDto, AccountsDto accountsDto, int sourceShard, int targetShard) {
+        Accounts source = shardRouter.readOnly(sourceShard, () -> accountsRepository.findById(accountsDto.accountNumber()).orElseThrow(
+                () -> new ResourceNotFoundException("Account", "AccountNumber", accountsDto.accountNumber().toString())
+        ));
+        Customer previous = shardRouter.readOnly(sourceShard, () -> customerRepository.findById(source.getCustomerId()).orElseThrow(
+                () -> new ResourceNotFoundException("Customer", "CustomerID", source.getCustomerId().toString())
+        ));
+        String previousMobileNumber = previous.getMobileNumber();
+
+        mobileNumberMembership.register(customerDto.mobileNumber());
+        Accounts moved = shardRouter.inTransaction(targetShard, () -> {
+            if (customerRepository.findByMobileNumber(customerDto.mobileNumber()).isPresent()) {
+                throw new CustomerAlreadyExistsException("Customer already registered with given mobileNumber "
+                        +customerDto.mobileNumber());
+            }
+            Customer customer = customerRepository.save(CustomerMapper.mapToCustomer(customerDto, new Customer()));
+            Accounts accounts = AccountsMapper.mapToAccounts(accountsDto, new Accounts());
+            accounts.setAccountNumber(source.getAccountNumber());
+            accounts.setCustomerId(customer.getCustomerId());
+            accounts = accountsRepository.save(accounts);
+            saveCustomerView(customer, accounts);
+            return accounts;
+        });
+        try {
+            shardRouter.inTransaction(sourceShard, () -> {
+                accountsRepository.deleteByCustomerId(previous.getCustomerId());
+                customerRepository.deleteById(previous.getCustomerId());
+                customerDetailsViewService.delete(previousMobileNumber);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to remove account {} from shard {} after moving to shard {}, rolling back the move",
+                    moved.getAccountNumber(), sourceShard, targetShard, e);
+            shardRouter.inTransaction(targetShard, () -> {
+                accountsRepository.deleteByCustomerId(moved.getCustomerId());
+                customerRepository.deleteById(moved.getCustomerId());
+                customerDetailsViewService.delete(customerDto.mobileNumber());
+                return null;
+            });
+            throw e;
+        }
+        log.info("Moved account {} from shard {} to shard {}", moved.getAccountNumber(), sourceShard, targetShard);
+    }
+
     /**
      * @param mobileNumber - Input Mobile Number
      * @return boolean indicating if the delete of Account details is successful or not
      */
     @Override
-    public boolean deleteAccount(String mobileNumber) {
+    @Transactional(timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public boolean deleteAccount(@ShardKey String mobileNumber) {
+        mobileNumberMembership.requireMightExist(mobileNumber);
         Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
-                () -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber)
+                () -> mobileNumberMembership.notFound(mobileNumber)
         );
         accountsRepository.deleteByCustomerId(customer.getCustomerId());
         customerRepository.deleteById(customer.getCustomerId());
+        customerDetailsViewService.delete(mobileNumber);
         return true;
     }
 
@@ -0,0 +1,242 @@
+package com.mobigen.accounts.service.impl;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.config.ShardKey;
+import com.mobigen.accounts.config.ShardRouter;
+import com.mobigen.accounts.dto.AccountsDto;
+import com.mobigen.accounts.dto.AccountsExportDto;
+import com.mobigen.accounts.dto.CardsDto;
+import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDetailsViewDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.LoansDto;
+import com.mobigen.accounts.jfr.AccountsEvent;
+import com.mobigen.accounts.jfr.CacheLookupEvent;
+import com.mobigen.accounts.repository.AccountsExportRepository;
+import com.mobigen.accounts.repository.AccountsExportRepository.PageKey;
+import com.mobigen.accounts.repository.CustomerDetailsViewRepository;
+import com.mobigen.accounts.service.ICustomerDetailsViewService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * customer_details_view (CQRS read model) 관리
+ * - customer 부분: createAccount / updateAccount / deleteAccount 의 transaction 안에서 같이 갱신
+ * - cards / loans 부분: cards-changed / loans-changed event 로 갱신
+ * - 빠진 부분이 있으면 조회 시 기존 방식(cards / loans 호출)으로 만든 응답으로 채운다. (event 로 저장된 값은 덮어쓰지 않음)
+ * - event 가 유실되어도 오래된 값이 남지 않도록 cards / loans 는 downstream-ttl-ms 가 지나면 다시 채운다.
+ */
+@Slf4j
+@Service
+public class CustomerDetailsViewServiceImpl implements ICustomerDetailsViewService {
+
+    private final CustomerDetailsViewRepository customerDetailsViewRepository;
+    private final AccountsExportRepository accountsExportRepository;
+    private final ShardRouter shardRouter;
+    private final ObjectMapper objectMapper;
+    private final int rebuildPageSize;
+    private final long downstreamTtlMs;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CustomerDetailsViewServiceImpl(CustomerDetailsViewRepository customerDetailsViewRepository,
+            AccountsExportRepository accountsExportRepository, ShardRouter shardRouter, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${accounts.customer-details-view.rebuild-page-size:500}") int rebuildPageSize,
+            @Value("${accounts.customer-details-view.downstream-ttl-ms:600000}") long downstreamTtlMs) {
+        this.customerDetailsViewRepository = customerDetailsViewRepository;
+        this.accountsExportRepository = accountsExportRepository;
+        this.shardRouter = shardRouter;
+        this.objectMapper = objectMapper;
+        this.rebuildPageSize = rebuildPageSize;
+        this.downstreamTtlMs = downstreamTtlMs;
+        this.hitCounter = reads(meterRegistry, "hit");
+        this.missCounter = reads(meterRegistry, "miss");
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("accounts.customer-details-view.reads")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public Optional<CustomerDetailsViewDto> findView(@ShardKey String mobileNumber) {
+        CacheLookupEvent event = new CacheLookupEvent(CacheLookupEvent.CUSTOMER_DETAILS_VIEW);
+        event.begin();
+        Optional<CustomerDetailsViewRepository.Row> row = customerDetailsViewRepository.find(mobileNumber,
+                downstreamFreshAfter());
+        if (row.isEmpty() || row.get().customer() == null || row.get().cards() == null || row.get().loans() == null) {
+            missCounter.increment();
+            event.finish(AccountsEvent.MISS);
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        event.finish(AccountsEvent.HIT);
+        return Optional.of(new CustomerDetailsViewDto(row.get().customer(), row.get().loans(), row.get().cards(),
+                row.get().customerVersion()));
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public Optional<CustomerDetailsDto> find(@ShardKey String mobileNumber) {
+        return findView(mobileNumber).map(view -> CustomerDetailsDto.of(fromJson(view.customer(), CustomerDto.class),
+                fromJson(view.loans(), LoansDto.class), fromJson(view.cards(), CardsDto.class)));
+    }
+
+    @Override
+    public CustomerDetailsViewDto toView(CustomerDetailsDto customerDetailsDto, String versionETag) {
+        return new CustomerDetailsViewDto(toJson(customerDetailsDto.customer()),
+                customerDetailsDto.loansDto() == null ? null : toJson(customerDetailsDto.loansDto()),
+                customerDetailsDto.cardsDto() == null ? null : toJson(customerDetailsDto.cardsDto()), versionETag);
+    }
+
+    /**
+     * 조회 transaction 이 끝난 뒤 호출하여 별도의 write transaction 으로 기록한다.
+     */
+    @Override
+    @Transactional(timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public void fill(@ShardKey String mobileNumber, CustomerDetailsViewDto customerDetailsViewDto) {
+        customerDetailsViewRepository.insertCustomerIfAbsent(mobileNumber, customerDetailsViewDto.customer(),
+                customerDetailsViewDto.version());
+        // fallback 응답(body 없음)은 저장하지 않는다.
+        Timestamp staleBefore = downstreamFreshAfter();
+        if (customerDetailsViewDto.cards() != null) {
+            customerDetailsViewRepository.insertIfAbsent(mobileNumber, CustomerDetailsViewRepository.CARDS,
+                    customerDetailsViewDto.cards(), staleBefore);
+        }
+        if (customerDetailsViewDto.loans() != null) {
+            customerDetailsViewRepository.insertIfAbsent(mobileNumber, CustomerDetailsViewRepository.LOANS,
+                    customerDetailsViewDto.loans(), staleBefore);
+        }
+    }
+
+    @Override
+    @Transactional(timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public void saveCustomer(@ShardKey CustomerDto customerDto, String versionETag) {
+        customerDetailsViewRepository.upsertCustomer(customerDto.mobileNumber(), toJson(customerDto), versionETag);
+    }
+
+    @Override
+    @Transactional(timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public void saveCards(@ShardKey String mobileNumber, CardsDto cardsDto) {
+        customerDetailsViewRepository.upsert(mobileNumber, CustomerDetailsViewRepository.CARDS,
+                cardsDto == null ? null : toJson(cardsDto));
+    }
+
+    @Override
+    @Transactional(timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public void saveLoans(@ShardKey String mobileNumber, LoansDto loansDto) {
+        customerDetailsViewRepository.upsert(mobileNumber, CustomerDetailsViewRepository.LOANS,
+                loansDto == null ? null : toJson(loansDto));
+    }
+
+    @Override
+    @Transactional(timeoutString = ShardRouter.REQUEST_TIMEOUT_SECONDS)
+    public void delete(@ShardKey String mobileNumber) {
+        customerDetailsViewRepository.delete(mobileNumber);
+    }
+
+    /**
+     * shard 별로 (customer_id, account_number) 순서로 page 단위로 읽어 customer 부분을 다시 쓴다. (전체가 아닌 page 단위 transaction)
+     * page 를 읽고 쓰는 동안 customer / accounts 행을 lock 하므로, 그 사이 commit 된 updateAccount 의 값을 이전 값으로 덮어쓰지 않는다.
+     * customer 와 view 행은 같은 shard 에 있으므로 읽은 shard 에 그대로 기록한다.
+     */
+    @Override
+    public long rebuild(boolean resetDownstream) {
+        long start = System.currentTimeMillis();
+        long[] totals = new long[3];
+        shardRouter.forEachShard(shard -> {
+            PageKey last = PageKey.FIRST;
+            List<AccountsExportDto> page = new ArrayList<>(rebuildPageSize);
+            List<String> versions = new ArrayList<>(rebuildPageSize);
+            while (true) {
+                PageKey after = last;
+                last = shardRouter.inTransaction(shard, () -> {
+                    PageKey pageLast = accountsExportRepository.lockPage(after, rebuildPageSize, (row, version) -> {
+                        page.add(row);
+                        versions.add(version);
+                    });
+                    // result set 을 다 읽은 뒤 같은 transaction 에서 기록
+                    for (int i = 0; i < page.size(); i++) {
+                        AccountsExportDto row = page.get(i);
+                        customerDetailsViewRepository.upsertCustomer(row.mobileNumber(), toJson(toCustomerDto(row)),
+                                versions.get(i));
+                    }
+                    return pageLast;
+                });
+                if (page.isEmpty()) {
+                    break;
+                }
+                totals[0] += page.size();
+                page.clear();
+                versions.clear();
+            }
+            totals[1] += shardRouter.on(shard, customerDetailsViewRepository::deleteOrphans);
+            totals[2] += resetDownstream ? shardRouter.on(shard, customerDetailsViewRepository::clearDownstream) : 0;
+        });
+        log.info("Rebuilt customer details view. customers: {}, removed: {}, downstream reset: {}, elapsed: {} ms",
+                totals[0], totals[1], totals[2], System.currentTimeMillis() - start);
+        return totals[0];
+    }
+
+    /**
+     * accounts.customer-details-view.rebuild-cron 주기로 전체 재생성 (기본값 "-" 는 비활성)
+     */
+    @Scheduled(cron = "${accounts.customer-details-view.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuild(false);
+    }
+
+    @Override
+    public Map<String, Object> statistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        long[] rows = { 0 };
+        shardRouter.forEachShard(shard -> rows[0] += shardRouter.on(shard, customerDetailsViewRepository::count));
+        statistics.put("rows", rows[0]);
+        statistics.put("hits", (long) hitCounter.count());
+        statistics.put("misses", (long) missCounter.count());
+        return statistics;
+    }
+
+    private static CustomerDto toCustomerDto(AccountsExportDto row) {
+        return new CustomerDto(row.name(), row.email(), row.mobileNumber(),
+                new AccountsDto(row.accountNumber(), row.accountType(), row.branchAddress()));
+    }
+
+    private Timestamp downstreamFreshAfter() {
+        return new Timestamp(System.currentTimeMillis() - downstreamTtlMs);
+    }
+
+    private String toJson(Object dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + dto.getClass().getSimpleName(), e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -1,25 +1,51 @@
 package com.mobigen.accounts.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import com.mobigen.accounts.dto.AccountsDto;
+import com.mobigen.accounts.cache.MobileNumberMembership;
+import com.mobigen.accounts.config.ShardKey;
+import com.mobigen.accounts.config.ShardRouter;
+import com.mobigen.accounts.constants.AccountsConstants;
+import com.mobigen.accounts.dto.AccountsVersionDto;
 import com.mobigen.accounts.dto.CardsDto;
 import com.mobigen.accounts.dto.CustomerDetailsDto;
+import com.mobigen.accounts.dto.CustomerDetailsViewDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.dto.CustomerSearchDto;
 import com.mobigen.accounts.dto.LoansDto;
 import com.mobigen.accounts.entity.Accounts;
 import com.mobigen.accounts.entity.Customer;
+import com.mobigen.accounts.exception.InvalidCursorException;
 import com.mobigen.accounts.exception.ResourceNotFoundException;
-import com.mobigen.accounts.mapper.AccountsMapper;
+import com.mobigen.accounts.jfr.AccountsEvent;
+import com.mobigen.accounts.jfr.CustomerDetailsEvent;
 import com.mobigen.accounts.mapper.CustomerMapper;
 import com.mobigen.accounts.repository.AccountsRepository;
 import com.mobigen.accounts.repository.CustomerRepository;
+import com.mobigen.accounts.repository.CustomerSpecifications;
+import com.mobigen.accounts.service.ICustomerDetailsViewService;
 import com.mobigen.accounts.service.ICustomersService;
 import com.mobigen.accounts.service.client.CardsFeignClient;
 import com.mobigen.accounts.service.client.LoansFeignClient;
+import com.mobigen.accounts.utils.CursorUtil;
 
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class CustomersServiceImpl implements ICustomersService {
@@ -28,6 +54,9 @@ public class CustomersServiceImpl implements ICustomersService {
     private CustomerRepository customerRepository;
     private CardsFeignClient cardsFeignClient;
     private LoansFeignClient loansFeignClient;
+    private MobileNumberMembership mobileNumberMembership;
+    private ICustomerDetailsViewService customerDetailsViewService;
+    private ShardRouter shardRouter;
 
     /**
      * @param mobileNumber - Input Mobile Number
@@ -35,24 +64,220 @@ public class CustomersServiceImpl implements ICustomersService {
      * @return Customer Details based on a given mobileNumber
      */
     @Override
-    public CustomerDetailsDto fetchCustomerDetails(String mobileNumber, String correlationId) {
-        Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
-                () -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber)
-        );
-        Accounts accounts = accountsRepository.findByCustomerId(customer.getCustomerId()).orElseThrow(
-                () -> new ResourceNotFoundException("Account", "customerId", customer.getCustomerId().toString())
-        );
+    public CustomerDetailsDto fetchCustomerDetails(@ShardKey String mobileNumber, String correlationId) {
+        return traced(event -> {
+            mobileNumberMembership.requireMightExist(mobileNumber);
+            // read model 에 모든 부분이 있으면 key 조회 한번으로 응답 (cards / loans 호출 없음)
+            long start = System.nanoTime();
+            Optional<CustomerDetailsDto> view = customerDetailsViewService.find(mobileNumber);
+            if (view.isPresent()) {
+                event.setViewHit(true);
+                event.setDatabaseDuration(System.nanoTime() - start);
+                return view.get();
+            }
+            ComposedDetails composed = composeCustomerDetails(mobileNumber, correlationId, event, start);
+            fill(mobileNumber, customerDetailsViewService.toView(composed.customerDetailsDto(), composed.versionETag()));
+            return composed.customerDetailsDto();
+        });
+    }
 
-        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, new CustomerDetailsDto());
-        customerDetailsDto.setAccountsDto(AccountsMapper.mapToAccountsDto(accounts, new AccountsDto()));
+    /**
+     * read model 의 JSON 을 DTO 로 읽지 않고 그대로 응답에 쓴다. (hit 이면 객체 생성은 row 와 문자열 뿐)
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @param correlationId - Correlation ID value generated at Edge server
+     * @return Customer Details based on a given mobileNumber, as JSON parts
+     */
+    @Override
+    public CustomerDetailsViewDto fetchCustomerDetailsView(@ShardKey String mobileNumber, String correlationId) {
+        return traced(event -> {
+            mobileNumberMembership.requireMightExist(mobileNumber);
+            long start = System.nanoTime();
+            Optional<CustomerDetailsViewDto> view = customerDetailsViewService.findView(mobileNumber);
+            if (view.isPresent()) {
+                event.setViewHit(true);
+                event.setDatabaseDuration(System.nanoTime() - start);
+                return view.get();
+            }
+            ComposedDetails details = composeCustomerDetails(mobileNumber, correlationId, event, start);
+            CustomerDetailsViewDto composed = customerDetailsViewService.toView(details.customerDetailsDto(),
+                    details.versionETag());
+            fill(mobileNumber, composed);
+            return composed;
+        });
+    }
+
+    /**
+     * read model 기록은 다음 조회를 위한 것이므로 실패해도 (DB 오류, db circuit open 등) 조합한 응답은 그대로 보낸다.
+     */
+    private void fill(String mobileNumber, CustomerDetailsViewDto customerDetailsViewDto) {
+        try {
+            customerDetailsViewService.fill(mobileNumber, customerDetailsViewDto);
+        } catch (RuntimeException e) {
+            log.warn("Failed to fill customer details view, responding without it: {}", e.toString());
+        }
+    }
 
+    private static <T> T traced(Function<CustomerDetailsEvent, T> fetch) {
+        CustomerDetailsEvent event = new CustomerDetailsEvent();
+        event.begin();
+        try {
+            T customerDetails = fetch.apply(event);
+            event.finish(AccountsEvent.FOUND);
+            return customerDetails;
+        } catch (RuntimeException e) {
+            event.finish(AccountsEvent.outcomeOf(e));
+            throw e;
+        }
+    }
+
+    /**
+     * read model 에 빠진 부분이 있으면 DB + cards + loans 호출로 응답을 만든다.
+     * cards / loans 호출 동안 connection 을 잡지 않도록 DB 조회만 readOnly 트랜잭션으로 실행한다.
+     * (read model 기록(fill)도 이 조회 트랜잭션이 끝난 뒤 별도 트랜잭션으로 실행됨)
+     * 응답과 함께 조회한 customer / accounts 의 version ETag 를 돌려준다. (read model 에 함께 기록)
+     */
+    private ComposedDetails composeCustomerDetails(String mobileNumber, String correlationId,
+            CustomerDetailsEvent event, long start) {
+        CustomerAccounts found = shardRouter.readOnly(shardRouter.shardOf(mobileNumber), () -> {
+            Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
+                    () -> mobileNumberMembership.notFound(mobileNumber)
+            );
+            Accounts accounts = accountsRepository.findByCustomerId(customer.getCustomerId()).orElseThrow(
+                    () -> new ResourceNotFoundException("Account", "customerId", customer.getCustomerId().toString())
+            );
+            return new CustomerAccounts(customer, accounts);
+        });
+
+        event.setDatabaseDuration(System.nanoTime() - start);
+
+        start = System.nanoTime();
         ResponseEntity<LoansDto> loansDtoResponseEntity = loansFeignClient.fetchLoanDetails(correlationId, mobileNumber);
-        customerDetailsDto.setLoansDto(loansDtoResponseEntity.getBody());
+        event.setLoansDuration(System.nanoTime() - start);
 
+        start = System.nanoTime();
         ResponseEntity<CardsDto> cardsDtoResponseEntity = cardsFeignClient.fetchCardDetails(correlationId, mobileNumber);
-        customerDetailsDto.setCardsDto(cardsDtoResponseEntity.getBody());
+        event.setCardsDuration(System.nanoTime() - start);
+
+        return new ComposedDetails(CustomerMapper.mapToCustomerDetailsDto(found.customer(), found.accounts(),
+                loansDtoResponseEntity.getBody(), cardsDtoResponseEntity.getBody()),
+                new AccountsVersionDto(found.customer().getCustomerId(), found.customer().getVersion(),
+                        found.accounts().getVersion()).etag());
+    }
+
+    private record CustomerAccounts(Customer customer, Accounts accounts) {
+    }
 
-        return customerDetailsDto;
+    private record ComposedDetails(CustomerDetailsDto customerDetailsDto, String versionETag) {
+    }
+
+    /**
+     * keyset(seek) pagination: OFFSET 을 사용하지 않고 "마지막으로 읽은 (정렬키, customerId) 이후" 조건으로 다음 page 를 조회한다.
+     * 정렬키는 prefix 검색 대상 컬럼(name → email → createdAt 순)으로 정하여 (정렬키, customer_id) index 를 그대로 탈 수 있게 한다.
+     * shard 가 여러개이면 각 shard 에서 limit 개씩 읽어 (정렬키, shard, customerId) 순으로 합친다. (scatter-gather)
+     * customerId 는 shard 별로 발급되므로 cursor 에 shard 를 함께 넣는다.
+     *
+     * @param namePrefix - Prefix of the customer name (optional)
+     * @param emailPrefix - Prefix of the customer email (optional)
+     * @param createdFrom - Customers created at or after (optional)
+     * @param createdTo - Customers created before (optional)
+     * @param cursor - nextCursor of the previous page (null for the first page)
+     * @param limit - Maximum number of customers in the page
+     * @return One page of customers matching the given filters
+     */
+    @Override
+    public CustomerSearchDto searchCustomers(String namePrefix, String emailPrefix, LocalDateTime createdFrom,
+            LocalDateTime createdTo, String cursor, int limit) {
+        String sortProperty = hasText(namePrefix) ? "name" : hasText(emailPrefix) ? "email" : "createdAt";
+        int pageSize = Math.max(1, Math.min(limit, AccountsConstants.SEARCH_MAX_LIMIT));
+
+        Specification<Customer> spec = Specification.where(CustomerSpecifications.namePrefix(namePrefix))
+                .and(CustomerSpecifications.emailPrefix(emailPrefix))
+                .and(CustomerSpecifications.createdFrom(createdFrom))
+                .and(CustomerSpecifications.createdBefore(createdTo));
+        Sort sort = Sort.by(Sort.Direction.ASC, sortProperty, "customerId");
+        SearchPosition after = hasText(cursor) ? decodeCursor(cursor, sortProperty) : null;
+
+        List<SearchHit> hits = new ArrayList<>();
+        boolean[] hasNext = { false };
+        shardRouter.forEachShard(shard -> {
+            ScrollPosition position = after == null ? ScrollPosition.keyset() : after.forShard(sortProperty, shard);
+            shardRouter.readOnly(shard, () -> {
+                Window<Customer> window = customerRepository.findBy(spec,
+                        query -> query.sortBy(sort).limit(pageSize).scroll(position));
+                window.forEach(customer -> hits.add(new SearchHit(sortValue(customer, sortProperty), shard,
+                        customer.getCustomerId(), CustomerMapper.mapToCustomerDto(customer, null))));
+                hasNext[0] |= window.hasNext();
+                return null;
+            });
+        });
+
+        hits.sort(SEARCH_HIT_ORDER);
+        if (hits.size() > pageSize) {
+            hits.subList(pageSize, hits.size()).clear();
+            hasNext[0] = true;
+        }
+        List<CustomerDto> customers = hits.stream().map(SearchHit::customerDto).toList();
+        String nextCursor = null;
+        if (hasNext[0] && !hits.isEmpty()) {
+            SearchHit last = hits.get(hits.size() - 1);
+            nextCursor = shardRouter.shardCount() == 1
+                    ? CursorUtil.encode(sortProperty, String.valueOf(last.sortValue()), String.valueOf(last.customerId()))
+                    : CursorUtil.encode(sortProperty, String.valueOf(last.sortValue()), String.valueOf(last.shard()),
+                            String.valueOf(last.customerId()));
+        }
+        return new CustomerSearchDto(customers, nextCursor);
+    }
+
+    private static final Comparator<SearchHit> SEARCH_HIT_ORDER = Comparator
+            .comparing((SearchHit hit) -> hit.sortValue())
+            .thenComparingInt(SearchHit::shard)
+            .thenComparingLong(SearchHit::customerId);
+
+    @SuppressWarnings("rawtypes")
+    private record SearchHit(Comparable sortValue, int shard, long customerId, CustomerDto customerDto) {
+    }
+
+    /**
+     * 마지막으로 읽은 (정렬키, shard, customerId)
+     */
+    private record SearchPosition(Object sortValue, int shard, long customerId) {
+
+        /**
+         * 같은 정렬키 값이면 cursor 의 shard 보다 앞 shard 의 행은 이미 읽었고, 뒤 shard 의 행은 아직 읽지 않았다.
+         */
+        ScrollPosition forShard(String sortProperty, int shard) {
+            long afterCustomerId = shard == this.shard ? customerId : shard < this.shard ? Long.MAX_VALUE : -1L;
+            return ScrollPosition.forward(Map.of(sortProperty, sortValue, "customerId", afterCustomerId));
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable sortValue(Customer customer, String sortProperty) {
+        return switch (sortProperty) {
+            case "name" -> customer.getName();
+            case "email" -> customer.getEmail();
+            default -> customer.getCreatedAt();
+        };
+    }
+
+    private static SearchPosition decodeCursor(String cursor, String sortProperty) {
+        // shard 가 하나이면 정렬키|값|customerId, 여러개이면 정렬키|값|shard|customerId
+        String[] keys = CursorUtil.decode(cursor, 3, 4);
+        // 다른 검색 조건(정렬키)으로 만들어진 cursor 는 사용할 수 없다.
+        if (!sortProperty.equals(keys[0])) {
+            throw new InvalidCursorException(cursor);
+        }
+        try {
+            Object sortValue = "createdAt".equals(sortProperty) ? LocalDateTime.parse(keys[1]) : keys[1];
+            int shard = keys.length == 4 ? Integer.parseInt(keys[2]) : 0;
+            return new SearchPosition(sortValue, shard, Long.parseLong(keys[keys.length - 1]));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
 
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 }
@@ -0,0 +1,89 @@
+package com.mobigen.accounts.tuning;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mobigen.accounts.ratelimit.RateLimitProperties;
+
+/**
+ * 실행 중 변경 가능한 설정 값의 snapshot (불변)
+ * 설정 key 는 기존과 같고, refresh 시 TuningRegistry 가 새 snapshot 으로 한번에 교체한다.
+ *
+ * @param etagDownstreamTtlMs accounts.etag.downstream-ttl-ms
+ * @param membershipNegativeCacheTtlMs accounts.membership.negative-cache-ttl-ms
+ * @param batchFanOutConcurrency accounts.batch.fan-out-concurrency
+ * @param auditOfferTimeoutMs accounts.audit.offer-timeout-ms
+ * @param deregistrationDelayMs accounts.shutdown.deregistration-delay-ms
+ * @param outboundDrainTimeoutMs accounts.shutdown.outbound-drain-timeout-ms
+ * @param sqlSlowThresholdMs accounts.sql.timing.slow-threshold-ms
+ * @param sqlSampleRate accounts.sql.timing.sample-rate
+ * @param requestHeaderSampleRate accounts.debug.request-headers.sample-rate
+ * @param rateLimitPolicies accounts.rate-limit.policies
+ */
+public record Tuning(
+        long etagDownstreamTtlMs,
+        long membershipNegativeCacheTtlMs,
+        int batchFanOutConcurrency,
+        long auditOfferTimeoutMs,
+        long deregistrationDelayMs,
+        long outboundDrainTimeoutMs,
+        long sqlSlowThresholdMs,
+        double sqlSampleRate,
+        double requestHeaderSampleRate,
+        List<RateLimitProperties.Policy> rateLimitPolicies) {
+
+    public Tuning {
+        requireNonNegative("accounts.etag.downstream-ttl-ms", etagDownstreamTtlMs);
+        requireNonNegative("accounts.membership.negative-cache-ttl-ms", membershipNegativeCacheTtlMs);
+        if (batchFanOutConcurrency < 1) {
+            throw new IllegalArgumentException("accounts.batch.fan-out-concurrency must be >= 1");
+        }
+        requireNonNegative("accounts.audit.offer-timeout-ms", auditOfferTimeoutMs);
+        requireNonNegative("accounts.shutdown.deregistration-delay-ms", deregistrationDelayMs);
+        requireNonNegative("accounts.shutdown.outbound-drain-timeout-ms", outboundDrainTimeoutMs);
+        requireNonNegative("accounts.sql.timing.slow-threshold-ms", sqlSlowThresholdMs);
+        requireRate("accounts.sql.timing.sample-rate", sqlSampleRate);
+        requireRate("accounts.debug.request-headers.sample-rate", requestHeaderSampleRate);
+        rateLimitPolicies.forEach(RateLimitProperties.Policy::validate);
+        rateLimitPolicies = List.copyOf(rateLimitPolicies);
+    }
+
+    /**
+     * 설정 key 별 값 (/actuator/tuning 응답, 변경 이력 비교에 사용)
+     */
+    public Map<String, Object> toProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("accounts.etag.downstream-ttl-ms", etagDownstreamTtlMs);
+        properties.put("accounts.membership.negative-cache-ttl-ms", membershipNegativeCacheTtlMs);
+        properties.put("accounts.batch.fan-out-concurrency", batchFanOutConcurrency);
+        properties.put("accounts.audit.offer-timeout-ms", auditOfferTimeoutMs);
+        properties.put("accounts.shutdown.deregistration-delay-ms", deregistrationDelayMs);
+        properties.put("accounts.shutdown.outbound-drain-timeout-ms", outboundDrainTimeoutMs);
+        properties.put("accounts.sql.timing.slow-threshold-ms", sqlSlowThresholdMs);
+        properties.put("accounts.sql.timing.sample-rate", sqlSampleRate);
+        properties.put("accounts.debug.request-headers.sample-rate", requestHeaderSampleRate);
+        for (int i = 0; i < rateLimitPolicies.size(); i++) {
+            RateLimitProperties.Policy policy = rateLimitPolicies.get(i);
+            String prefix = "accounts.rate-limit.policies[" + i + "].";
+            properties.put(prefix + "name", policy.getName());
+            properties.put(prefix + "paths", String.join(",", policy.getPaths()));
+            properties.put(prefix + "methods", String.join(",", policy.getMethods()));
+            properties.put(prefix + "capacity", policy.getCapacity());
+            properties.put(prefix + "refill-per-second", policy.getRefillPerSecond());
+        }
+        return properties;
+    }
+
+    private static void requireNonNegative(String key, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(key + " must be >= 0");
+        }
+    }
+
+    private static void requireRate(String key, double value) {
+        if (value < 0 || value > 1) {
+            throw new IllegalArgumentException(key + " must be between 0.0 and 1.0");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.mobigen.accounts.tuning;
+
+import java.time.Instant;
+
+/**
+ * 설정 key 하나의 변경 이력 (previous / current 가 null 이면 추가 / 삭제된 key)
+ */
+public record TuningChange(long version, Instant changedAt, String key, Object previous, Object current) {
+}
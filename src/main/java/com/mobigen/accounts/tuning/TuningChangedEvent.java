@@ -0,0 +1,27 @@
+package com.mobigen.accounts.tuning;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * TuningRegistry 의 snapshot 이 교체된 후 발행된다.
+ * 값을 매번 current() 로 읽을 수 없는 곳(thread pool 크기 등)에서 변경을 적용하는 데 사용한다.
+ */
+public class TuningChangedEvent extends ApplicationEvent {
+
+    private final transient Tuning previous;
+    private final transient Tuning current;
+
+    public TuningChangedEvent(Object source, Tuning previous, Tuning current) {
+        super(source);
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public Tuning getPrevious() {
+        return previous;
+    }
+
+    public Tuning getCurrent() {
+        return current;
+    }
+}
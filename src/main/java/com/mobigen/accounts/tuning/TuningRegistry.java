@@ -0,0 +1,131 @@
+package com.mobigen.accounts.tuning;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.mobigen.accounts.ratelimit.RateLimitProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @RefreshScope 대신 사용하는 실행 중 설정 변경 registry
+ * - 읽기: volatile snapshot(Tuning) 하나를 읽으므로 lock, proxy 가 없고 한 요청 안에서 값이 섞이지 않는다.
+ * - 쓰기: Environment 가 바뀌면 (/actuator/refresh, bus refresh, /actuator/env) 모든 값을 다시 읽어 검증한 뒤 snapshot 을 교체한다.
+ *   하나라도 잘못된 값이 있으면 교체하지 않고 이전 snapshot 을 유지한다.
+ * bean 을 다시 만들지 않으며, 현재 값과 변경 이력은 /actuator/tuning 으로 확인한다.
+ */
+@Slf4j
+@Component
+public class TuningRegistry {
+
+    private static final int MAX_HISTORY = 100;
+
+    private final Environment environment;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Tuning current;
+    private volatile long version = 1;
+    private volatile Instant updatedAt = Instant.now();
+    // copy-on-write (변경은 드물고 endpoint 에서만 읽는다)
+    private volatile List<TuningChange> history = List.of();
+
+    public TuningRegistry(Environment environment, ApplicationEventPublisher eventPublisher) {
+        this.environment = environment;
+        this.eventPublisher = eventPublisher;
+        this.current = load(Binder.get(environment));
+    }
+
+    public Tuning current() {
+        return current;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant updatedAt() {
+        return updatedAt;
+    }
+
+    public List<TuningChange> history() {
+        return history;
+    }
+
+    /**
+     * EnvironmentChangeEvent 는 refresh (config server, bus 포함) 및 /actuator/env 변경 후 발행된다.
+     */
+    @EventListener(EnvironmentChangeEvent.class)
+    public void onEnvironmentChange() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        Tuning next;
+        try {
+            next = load(Binder.get(environment));
+        } catch (RuntimeException e) {
+            log.error("Tuning not applied, keeping version {}: {}", version, e.getMessage());
+            return;
+        }
+        Tuning previous = current;
+        List<TuningChange> changes = diff(previous, next, version + 1, Instant.now());
+        if (changes.isEmpty()) {
+            return;
+        }
+        current = next;
+        version++;
+        updatedAt = changes.get(0).changedAt();
+        appendHistory(changes);
+        changes.forEach(change -> log.info("Tuning changed (version {}). {}: {} -> {}", change.version(), change.key(),
+                change.previous(), change.current()));
+        eventPublisher.publishEvent(new TuningChangedEvent(this, previous, next));
+    }
+
+    static Tuning load(Binder binder) {
+        return new Tuning(
+                binder.bind("accounts.etag.downstream-ttl-ms", Long.class).orElse(30000L),
+                binder.bind("accounts.membership.negative-cache-ttl-ms", Long.class).orElse(5000L),
+                binder.bind("accounts.batch.fan-out-concurrency", Integer.class).orElse(16),
+                binder.bind("accounts.audit.offer-timeout-ms", Long.class).orElse(50L),
+                binder.bind("accounts.shutdown.deregistration-delay-ms", Long.class).orElse(5000L),
+                binder.bind("accounts.shutdown.outbound-drain-timeout-ms", Long.class).orElse(10000L),
+                binder.bind("accounts.sql.timing.slow-threshold-ms", Long.class).orElse(200L),
+                binder.bind("accounts.sql.timing.sample-rate", Double.class).orElse(0.0),
+                binder.bind("accounts.debug.request-headers.sample-rate", Double.class).orElse(0.0),
+                binder.bind("accounts.rate-limit.policies", Bindable.listOf(RateLimitProperties.Policy.class))
+                        .orElse(List.of()));
+    }
+
+    static List<TuningChange> diff(Tuning previous, Tuning next, long version, Instant changedAt) {
+        Map<String, Object> before = previous.toProperties();
+        Map<String, Object> after = next.toProperties();
+        Set<String> keys = new HashSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        List<TuningChange> changes = new ArrayList<>();
+        keys.stream().sorted().forEach(key -> {
+            if (!Objects.equals(before.get(key), after.get(key))) {
+                changes.add(new TuningChange(version, changedAt, key, before.get(key), after.get(key)));
+            }
+        });
+        return changes;
+    }
+
+    private void appendHistory(List<TuningChange> changes) {
+        List<TuningChange> next = new ArrayList<>(history);
+        next.addAll(changes);
+        history = List.copyOf(next.subList(Math.max(0, next.size() - MAX_HISTORY), next.size()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.mobigen.accounts.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+import com.mobigen.accounts.exception.InvalidCursorException;
+
+/**
+ * keyset(seek) pagination 에서 마지막으로 읽은 key 값을 client 에게 전달하기 위한 불투명(opaque) cursor 생성/해석
+ * key 마다 따로 base64url 로 encode 하고 base64url 에 없는 문자 '.' 로 이어 붙인다. (key 값에 구분자가 있어도 경계가 바뀌지 않음)
+ * ex) encode("42") -> "NDI", encode("2025-01-01T00:00", "42") -> "MjAyNS0wMS0wMVQwMDowMA.NDI"
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = ".";
+
+    public static String encode(String... keys) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return Arrays.stream(keys)
+                .map(key -> encoder.encodeToString(key.getBytes(StandardCharsets.UTF_8)))
+                .collect(Collectors.joining(SEPARATOR));
+    }
+
+    public static String[] decode(String cursor, int expectedKeys) {
+        return decode(cursor, expectedKeys, expectedKeys);
+    }
+
+    public static String[] decode(String cursor, int minKeys, int maxKeys) {
+        try {
+            String[] keys = cursor.split("\\" + SEPARATOR, -1);
+            if (keys.length < minKeys || keys.length > maxKeys) {
+                throw new InvalidCursorException(cursor);
+            }
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = new String(decoder.decode(keys[i]), StandardCharsets.UTF_8);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public static long decodeLong(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    /**
+     * key 개수가 바뀔 수 있는 cursor 용 (ex. sharding 사용 여부에 따라 customerId 또는 shard|customerId)
+     */
+    public static long[] decodeLongs(String cursor, int minKeys, int maxKeys) {
+        String[] keys = decode(cursor, minKeys, maxKeys);
+        long[] values = new long[keys.length];
+        try {
+            for (int i = 0; i < keys.length; i++) {
+                values[i] = Long.parseLong(keys[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        return values;
+    }
+}
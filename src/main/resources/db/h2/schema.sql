@@ -6,9 +6,15 @@ CREATE TABLE IF NOT EXISTS `customer` (
   `created_at` date NOT NULL,
   `created_by` varchar(20) NOT NULL,
   `updated_at` date DEFAULT NULL,
-  `updated_by` varchar(20) DEFAULT NULL
+  `updated_by` varchar(20) DEFAULT NULL,
+  `version` bigint DEFAULT 0 NOT NULL
 );
 
+CREATE INDEX IF NOT EXISTS `idx_customer_name_id` ON `customer` (`name`, `customer_id`);
+CREATE INDEX IF NOT EXISTS `idx_customer_email_id` ON `customer` (`email`, `customer_id`);
+CREATE INDEX IF NOT EXISTS `idx_customer_created_at_id` ON `customer` (`created_at`, `customer_id`);
+CREATE UNIQUE INDEX IF NOT EXISTS `idx_customer_mobile_number` ON `customer` (`mobile_number`);
+
 CREATE TABLE IF NOT EXISTS `accounts` (
   `customer_id` int NOT NULL,
   `account_number` int AUTO_INCREMENT  PRIMARY KEY,
@@ -17,5 +23,35 @@ CREATE TABLE IF NOT EXISTS `accounts` (
   `created_at` date NOT NULL,
   `created_by` varchar(20) NOT NULL,
   `updated_at` date DEFAULT NULL,
-  `updated_by` varchar(20) DEFAULT NULL
-);
\ No newline at end of file
+  `updated_by` varchar(20) DEFAULT NULL,
+  `version` bigint DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS `idx_accounts_customer_id` ON `accounts` (`customer_id`);
+
+-- /api/fetchCustomerDetails read model (부분별 JSON, NULL 이면 아직 채워지지 않음)
+-- cards / loans 는 저장 시각(*_updated_at)이 downstream-ttl-ms 보다 오래되면 없는 것으로 본다.
+-- customer_version 은 customer 부분을 만든 customer / accounts 의 version ETag (응답 ETag 계산용, version 재조회 없음)
+CREATE TABLE IF NOT EXISTS `customer_details_view` (
+  `mobile_number` varchar(20) PRIMARY KEY,
+  `customer` clob DEFAULT NULL,
+  `customer_version` varchar(64) DEFAULT NULL,
+  `cards` clob DEFAULT NULL,
+  `loans` clob DEFAULT NULL,
+  `cards_updated_at` timestamp DEFAULT NULL,
+  `loans_updated_at` timestamp DEFAULT NULL,
+  `updated_at` timestamp NOT NULL
+);
+
+-- Customer / Accounts 변경 이력 (append-only, AuditEventWriter 가 batch insert)
+CREATE TABLE IF NOT EXISTS `audit_event` (
+  `audit_id` bigint AUTO_INCREMENT  PRIMARY KEY,
+  `entity_type` varchar(50) NOT NULL,
+  `entity_id` varchar(50) NOT NULL,
+  `action` varchar(10) NOT NULL,
+  `changes` clob NOT NULL,
+  `changed_by` varchar(20) DEFAULT NULL,
+  `changed_at` timestamp NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS `idx_audit_event_entity` ON `audit_event` (`entity_type`, `entity_id`, `audit_id`);
@@ -0,0 +1,32 @@
+-- token bucket (KEYS[1]: bucket key)
+-- ARGV[1]: capacity, ARGV[2]: 초당 충전 token 수, ARGV[3]: 현재 시각 (ms)
+-- 반환: 허용 시 남은 token 수 (>= 0), 거부 시 -(token 충전까지 남은 ms) - 1
+local capacity = tonumber(ARGV[1])
+local refill_per_ms = tonumber(ARGV[2]) / 1000
+local now = tonumber(ARGV[3])
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+-- replica 간 시계 차이로 시간이 거꾸로 가는 경우는 충전하지 않는다.
+if now > ts then
+    tokens = math.min(capacity, tokens + (now - ts) * refill_per_ms)
+    ts = now
+end
+
+local result
+if tokens >= 1 then
+    tokens = tokens - 1
+    result = math.floor(tokens)
+else
+    result = -math.ceil((1 - tokens) / refill_per_ms) - 1
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))
+-- 가득 찰 때까지의 시간이 지나면 새 bucket 과 같으므로 만료시킨다.
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+return result
@@ -0,0 +1,63 @@
+package com.mobigen.accounts.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class AuditEventQueueTests {
+
+    @Test
+    void rejectsWhenFull() {
+        AuditEventQueue queue = new AuditEventQueue(2);
+        assertThat(queue.offer(event(1))).isTrue();
+        assertThat(queue.offer(event(2))).isTrue();
+        assertThat(queue.offer(event(3))).isFalse();
+
+        List<AuditEvent> batch = new ArrayList<>();
+        assertThat(queue.drainTo(batch, 10)).isEqualTo(2);
+        assertThat(batch).extracting(AuditEvent::entityId).containsExactly("1", "2");
+        assertThat(queue.offer(event(3))).isTrue();
+    }
+
+    @Test
+    void neverExceedsCapacityUnderConcurrentOffers() throws InterruptedException {
+        int capacity = 1000;
+        AuditEventQueue queue = new AuditEventQueue(capacity);
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 500; i++) {
+                    if (queue.offer(event(i))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(accepted.get()).isEqualTo(capacity);
+        assertThat(queue.size()).isEqualTo(capacity);
+        List<AuditEvent> batch = new ArrayList<>();
+        assertThat(queue.drainTo(batch, Integer.MAX_VALUE)).isEqualTo(capacity);
+        assertThat(queue.size()).isZero();
+    }
+
+    private static AuditEvent event(int id) {
+        return new AuditEvent("Customer", Integer.toString(id), AuditEvent.ACTION_INSERT,
+                Map.of("name", new Object[] { null, "name" + id }), "ACCOUNTS_MS", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,92 @@
+package com.mobigen.accounts.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.config.ShardContext;
+import com.mobigen.accounts.config.ShardRoutingDataSource;
+import com.mobigen.accounts.tuning.Tuning;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 두개의 H2 in-memory database 를 shard 로 사용하여 요청 thread 에서 직접 기록한 이력이 shard 0 에 저장되는지 확인
+class AuditEventWriterTests {
+
+    private final JdbcTemplate[] shards = new JdbcTemplate[2];
+    private AuditEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int shard = 0; shard < shards.length; shard++) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:audit-shard" + shard + ";DB_CLOSE_DELAY=-1", "sa", "");
+            new ResourceDatabasePopulator(new ClassPathResource("db/h2/schema.sql")).execute(dataSource);
+            shards[shard] = new JdbcTemplate(dataSource);
+            shards[shard].update("DELETE FROM audit_event");
+            targetDataSources.put(shard, dataSource);
+        }
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.afterPropertiesSet();
+
+        TuningRegistry tuningRegistry = mock(TuningRegistry.class);
+        when(tuningRegistry.current()).thenReturn(new Tuning(0, 0, 1, 0, 0, 0, 0, 0, 0, List.of()));
+        // start() 하지 않으므로 publish 는 호출한 thread 에서 직접 기록한다.
+        writer = new AuditEventWriter(new LazyConnectionDataSourceProxy(routingDataSource), new ObjectMapper(),
+                new SimpleMeterRegistry(), tuningRegistry, 10, 10, 200, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ShardContext.set(null);
+    }
+
+    @Test
+    void callerWrittenEventGoesToShardZero() {
+        ShardContext.set(1);
+
+        writer.publish(new AuditEvent("Customer", "1", AuditEvent.ACTION_INSERT,
+                Map.of("name", new Object[] { null, "Eazy Bytes" }), "ACCOUNTS_MS", LocalDateTime.now()));
+
+        assertThat(count(0)).isEqualTo(1);
+        assertThat(count(1)).isZero();
+        assertThat(ShardContext.current()).isEqualTo(1);
+    }
+
+    @Test
+    void eventThatCannotBeSerializedIsSkipped() {
+        writer.start();
+
+        // Object 는 직렬화할 property 가 없어 ObjectMapper 가 실패한다.
+        writer.publish(new AuditEvent("Customer", "1", AuditEvent.ACTION_UPDATE,
+                Map.of("name", new Object[] { new Object(), "Eazy Bytes" }), "ACCOUNTS_MS", LocalDateTime.now()));
+        writer.publish(new AuditEvent("Customer", "2", AuditEvent.ACTION_INSERT,
+                Map.of("name", new Object[] { null, "Eazy Bytes" }), "ACCOUNTS_MS", LocalDateTime.now()));
+        writer.stop();
+
+        assertThat(shards[0].queryForList("SELECT entity_id FROM audit_event", String.class)).containsExactly("2");
+    }
+
+    private long count(int shard) {
+        Long count = shards[shard].queryForObject("SELECT COUNT(*) FROM audit_event", Long.class);
+        return count == null ? 0 : count;
+    }
+}
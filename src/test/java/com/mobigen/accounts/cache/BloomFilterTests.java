@@ -0,0 +1,43 @@
+package com.mobigen.accounts.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTests {
+
+    private static final int INSERTIONS = 100_000;
+
+    @Test
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put(mobileNumber(i));
+        }
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain(mobileNumber(i))).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateIsCloseToTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put(mobileNumber(i));
+        }
+        // 넣지 않은 번호 (INSERTIONS 이후)
+        int falsePositives = 0;
+        for (int i = INSERTIONS; i < INSERTIONS * 2; i++) {
+            if (filter.mightContain(mobileNumber(i))) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(0.02);
+        assertThat(filter.expectedFpp()).isLessThan(0.02);
+        assertThat(filter.approximateElementCount()).isBetween(INSERTIONS * 95L / 100, INSERTIONS * 105L / 100);
+    }
+
+    private static String mobileNumber(int i) {
+        return String.format("01%08d", i);
+    }
+}
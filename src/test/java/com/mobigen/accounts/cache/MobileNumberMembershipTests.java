@@ -0,0 +1,94 @@
+package com.mobigen.accounts.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.cloud.stream.function.StreamBridge;
+
+import com.mobigen.accounts.repository.AccountsExportRepository;
+import com.mobigen.accounts.tuning.Tuning;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MobileNumberMembershipTests {
+
+    private static final String REGISTERED = "9345432123";
+    private static final String UNKNOWN = "9000000000";
+
+    private final AccountsExportRepository accountsExportRepository = mock(AccountsExportRepository.class);
+    private final StreamBridge streamBridge = mock(StreamBridge.class);
+    private final TuningRegistry tuningRegistry = mock(TuningRegistry.class);
+
+    @Test
+    void definiteMissIsCheckedAgainstDatabaseRightAfterRebuild() {
+        MobileNumberMembership membership = membership(60_000);
+
+        assertThat(membership.mightExist(REGISTERED)).isTrue();
+        assertThat(membership.mightExist(UNKNOWN)).isTrue();
+        assertThat(membership.statistics()).containsEntry("verifiedMisses", 1L).containsEntry("definiteMisses", 0L);
+    }
+
+    @Test
+    void definiteMissIsNotFoundOnceSettled() {
+        MobileNumberMembership membership = membership(0);
+
+        assertThat(membership.mightExist(REGISTERED)).isTrue();
+        assertThat(membership.mightExist(UNKNOWN)).isFalse();
+    }
+
+    @Test
+    void consumerFailureKeepsCheckingUntilNextRebuild() {
+        MobileNumberMembership membership = membership(0);
+        SimpleMessageListenerContainer container = mock(SimpleMessageListenerContainer.class);
+        when(container.getQueueNames()).thenReturn(new String[] { "customer-membership.anonymous.abc" });
+
+        membership.onConsumerFailed(new ListenerContainerConsumerFailedEvent(container, "connection lost", null, false));
+        assertThat(membership.mightExist(UNKNOWN)).isTrue();
+
+        membership.rebuildIfNeeded();
+        assertThat(membership.mightExist(UNKNOWN)).isFalse();
+    }
+
+    @Test
+    void failedPublishIsRetried() {
+        MobileNumberMembership membership = membership(0);
+        when(streamBridge.send(MobileNumberMembership.MEMBERSHIP_BINDING, UNKNOWN))
+                .thenThrow(new AmqpConnectException(new RuntimeException("broker down")))
+                .thenReturn(true);
+
+        membership.register(UNKNOWN);
+        assertThat(membership.statistics()).containsEntry("unpublished", 1);
+
+        membership.retryUnpublished();
+        verify(streamBridge, times(2)).send(MobileNumberMembership.MEMBERSHIP_BINDING, UNKNOWN);
+        assertThat(membership.statistics()).containsEntry("unpublished", 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MobileNumberMembership membership(long consistencyWindowMs) {
+        when(tuningRegistry.current()).thenReturn(new Tuning(0, 5000, 1, 0, 0, 0, 0, 0, 0, List.of()));
+        when(accountsExportRepository.countCustomers()).thenReturn(1L);
+        when(accountsExportRepository.streamMobileNumbers(anyInt(), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, Consumer.class).accept(REGISTERED);
+            return 1L;
+        });
+        MobileNumberMembership membership = new MobileNumberMembership(accountsExportRepository, streamBridge,
+                new SimpleMeterRegistry(), tuningRegistry, true, 0.01, 2.0, 1000, 100, 21600000, 1000,
+                consistencyWindowMs);
+        membership.rebuild();
+        return membership;
+    }
+}
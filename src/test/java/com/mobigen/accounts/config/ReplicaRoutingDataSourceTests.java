@@ -0,0 +1,134 @@
+package com.mobigen.accounts.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+
+// 두개의 H2 in-memory database 를 primary / replica 로 사용
+class ReplicaRoutingDataSourceTests {
+
+    private ReplicaStatus replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1", "sa", "");
+        DriverManagerDataSource replicaDataSource = new DriverManagerDataSource("jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1", "sa", "");
+        replica = new ReplicaStatus("replica1", replicaDataSource, null);
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(List.of(replica));
+        routingDataSource.setTargetDataSources(Map.of(ReplicaRoutingDataSource.PRIMARY, primary, "replica1", replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readOnlyTx.execute(status -> currentDatabase())).isEqualToIgnoringCase("REPLICA1");
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        assertThat(writeTx.execute(status -> currentDatabase())).isEqualToIgnoringCase("PRIMARY");
+    }
+
+    @Test
+    void readAfterWriteInSameRequestStaysOnPrimary() {
+        ReplicaRoutingContext.beginRequest();
+        writeTx.execute(status -> currentDatabase());
+        assertThat(readOnlyTx.execute(status -> currentDatabase())).isEqualToIgnoringCase("PRIMARY");
+
+        ReplicaRoutingContext.clear();
+        assertThat(readOnlyTx.execute(status -> currentDatabase())).isEqualToIgnoringCase("REPLICA1");
+    }
+
+    @Test
+    void writeOutsideRequestIsForgottenAfterTransaction() {
+        // stream consumer, gRPC, scheduler thread 등 요청 범위가 없는 경우
+        writeTx.execute(status -> {
+            currentDatabase();
+            assertThat(ReplicaRoutingContext.isWritten()).isTrue();
+            return null;
+        });
+
+        assertThat(ReplicaRoutingContext.isWritten()).isFalse();
+        assertThat(readOnlyTx.execute(status -> currentDatabase())).isEqualToIgnoringCase("REPLICA1");
+    }
+
+    @Test
+    void nextRequestWithinLagWindowReadsPrimary() throws Exception {
+        ReplicaStickinessFilter filter = new ReplicaStickinessFilter(5000);
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), writeResponse,
+                (request, response) -> writeTx.execute(status -> currentDatabase()));
+
+        Cookie marker = writeResponse.getCookie(ReplicaStickinessFilter.WRITTEN_AT);
+        assertThat(marker).isNotNull();
+        assertThat(marker.getMaxAge()).isEqualTo(5);
+        assertThat(writeResponse.getHeader(ReplicaStickinessFilter.WRITTEN_AT)).isEqualTo(marker.getValue());
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(marker);
+        assertThat(readInRequest(filter, next)).isEqualToIgnoringCase("PRIMARY");
+
+        // lag window 가 지난 marker 는 무시
+        MockHttpServletRequest expired = new MockHttpServletRequest();
+        expired.addHeader(ReplicaStickinessFilter.WRITTEN_AT, String.valueOf(System.currentTimeMillis() - 6000));
+        assertThat(readInRequest(filter, expired)).isEqualToIgnoringCase("REPLICA1");
+        assertThat(readInRequest(filter, new MockHttpServletRequest())).isEqualToIgnoringCase("REPLICA1");
+    }
+
+    @Test
+    void laggingReplicaIsExcluded() {
+        ReplicaStatus lagging = new ReplicaStatus("replica1", replica.getDataSource(), "SELECT 10");
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(List.of(lagging), 5000, new SimpleMeterRegistry());
+        checker.check();
+
+        assertThat(lagging.getLagMillis()).isEqualTo(10000);
+        assertThat(lagging.isHealthy()).isFalse();
+
+        replica.setHealthy(false);
+        assertThat(readOnlyTx.execute(status -> currentDatabase())).isEqualToIgnoringCase("PRIMARY");
+    }
+
+    private String readInRequest(ReplicaStickinessFilter filter, MockHttpServletRequest request) throws Exception {
+        AtomicReference<String> database = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> database.set(readOnlyTx.execute(status -> currentDatabase())));
+        return database.get();
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+}
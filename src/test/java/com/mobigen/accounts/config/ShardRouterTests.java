@@ -0,0 +1,42 @@
+package com.mobigen.accounts.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+class ShardRouterTests {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ShardRouter shardRouter = new ShardRouter(2, transactionManager, 5);
+
+    @Test
+    void requestTransactionsUseRequestTimeout() {
+        assertThat(definitionOf(() -> shardRouter.readOnly(1, () -> null)).getTimeout()).isEqualTo(5);
+        assertThat(definitionOf(() -> shardRouter.inTransaction(1, () -> null)).getTimeout()).isEqualTo(5);
+    }
+
+    @Test
+    void scanHasNoTimeout() {
+        TransactionDefinition definition = definitionOf(() -> shardRouter.scan(1, () -> null));
+
+        assertThat(definition.getTimeout()).isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+        assertThat(definition.isReadOnly()).isTrue();
+    }
+
+    private TransactionDefinition definitionOf(Runnable action) {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        action.run();
+        ArgumentCaptor<TransactionDefinition> captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,94 @@
+package com.mobigen.accounts.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// 세개의 H2 in-memory database 를 shard 로 사용
+class ShardRoutingDataSourceTests {
+
+    private static final int SHARDS = 3;
+
+    private ShardRouter shardRouter;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:shard" + shard + ";DB_CLOSE_DELAY=-1", "sa", "");
+            JdbcTemplate shardJdbcTemplate = new JdbcTemplate(dataSource);
+            shardJdbcTemplate.execute("DROP TABLE IF EXISTS customer");
+            shardJdbcTemplate.execute("CREATE TABLE customer (customer_id INT AUTO_INCREMENT PRIMARY KEY, mobile_number VARCHAR(20) NOT NULL)");
+            shardJdbcTemplate.execute("CREATE UNIQUE INDEX idx_customer_mobile_number ON customer (mobile_number)");
+            targetDataSources.put(shard, dataSource);
+        }
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(targetDataSources.get(ShardRoutingDataSource.DEFAULT_SHARD));
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        shardRouter = new ShardRouter(SHARDS, new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void transactionGoesToShardOfMobileNumber() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(shardRouter.readOnly(shard, this::currentDatabase)).isEqualToIgnoringCase("SHARD" + shard);
+        }
+        assertThat(currentDatabase()).isEqualToIgnoringCase("SHARD0");
+    }
+
+    @Test
+    void sameMobileNumberIsUniqueAcrossShards() {
+        insert("4354437687");
+        assertThatThrownBy(() -> insert("4354437687")).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void accountNumberEncodesShard() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            long accountNumber = shardRouter.newAccountNumber(shard);
+            assertThat(accountNumber).isBetween(1000000000L, 1899999999L);
+            assertThat(shardRouter.shardOfAccount(accountNumber)).isEqualTo(shard);
+        }
+    }
+
+    @Test
+    void scatterReadsEveryShard() {
+        int[] perShard = new int[SHARDS];
+        for (int i = 0; i < 30; i++) {
+            String mobileNumber = String.valueOf(4354437600L + i);
+            insert(mobileNumber);
+            perShard[shardRouter.shardOf(mobileNumber)]++;
+        }
+        long[] total = { 0 };
+        shardRouter.forEachShard(shard -> {
+            Integer count = shardRouter.readOnly(shard, () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer", Integer.class));
+            assertThat(count).isEqualTo(perShard[shard]);
+            total[0] += count;
+        });
+        assertThat(total[0]).isEqualTo(30);
+    }
+
+    private void insert(String mobileNumber) {
+        shardRouter.inTransaction(shardRouter.shardOf(mobileNumber),
+                () -> jdbcTemplate.update("INSERT INTO customer (mobile_number) VALUES (?)", mobileNumber));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+}
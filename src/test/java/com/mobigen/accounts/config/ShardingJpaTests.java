@@ -0,0 +1,115 @@
+package com.mobigen.accounts.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.dto.AccountsDto;
+import com.mobigen.accounts.dto.CustomerDto;
+import com.mobigen.accounts.entity.Accounts;
+import com.mobigen.accounts.entity.Customer;
+import com.mobigen.accounts.repository.AccountsRepository;
+import com.mobigen.accounts.repository.CustomerRepository;
+import com.mobigen.accounts.service.IAccountsService;
+
+// 두개의 H2 in-memory database 를 shard 로 사용하여 JPA repository 와 service 를 한 요청 안에서 여러 shard 에 대해 실행
+// 각 shard 의 customer_id 는 1 부터 발급되므로 EntityManager 를 요청 단위로 공유하면 다른 shard 의 entity 를 읽게 된다.
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "accounts.rate-limit.enabled=false",
+        "accounts.datasource.sharding.enabled=true",
+        "accounts.datasource.sharding.shards[0].name=jpa-shard0",
+        "accounts.datasource.sharding.shards[0].url=jdbc:h2:mem:jpa-shard0;DB_CLOSE_DELAY=-1",
+        "accounts.datasource.sharding.shards[0].username=sa",
+        "accounts.datasource.sharding.shards[1].name=jpa-shard1",
+        "accounts.datasource.sharding.shards[1].url=jdbc:h2:mem:jpa-shard1;DB_CLOSE_DELAY=-1",
+        "accounts.datasource.sharding.shards[1].username=sa"
+})
+@AutoConfigureMockMvc
+class ShardingJpaTests {
+
+    private static final AtomicLong NEXT_MOBILE_NUMBER = new AtomicLong(5000000000L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Test
+    void updateMovesAccountToShardOfNewMobileNumber() throws Exception {
+        String source = mobileNumberOn(0);
+        String neighbour = mobileNumberOn(1);
+        String target = mobileNumberOn(1);
+        create("Shard Mover", source);
+        create("Shard Neighbour", neighbour);
+        Accounts accounts = shardRouter.readOnly(0, () -> {
+            Customer customer = customerRepository.findByMobileNumber(source).orElseThrow();
+            return accountsRepository.findByCustomerId(customer.getCustomerId()).orElseThrow();
+        });
+
+        // 한 요청에서 shard 0 조회 → shard 1 쓰기 → shard 0 삭제
+        CustomerDto update = new CustomerDto("Shard Mover", "mover@eazybytes.com", target,
+                new AccountsDto(accounts.getAccountNumber(), accounts.getAccountType(), accounts.getBranchAddress()));
+        mockMvc.perform(put("/api/update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        assertThat(shardRouter.readOnly(0, () -> customerRepository.findByMobileNumber(source))).isEmpty();
+        assertThat(shardRouter.readOnly(0, () -> accountsRepository.existsById(accounts.getAccountNumber()))).isFalse();
+        assertThat(shardRouter.readOnly(1, () -> customerRepository.findByMobileNumber(target))).isPresent();
+        assertThat(shardRouter.readOnly(1, () -> accountsRepository.existsById(accounts.getAccountNumber()))).isTrue();
+        assertThat(shardRouter.readOnly(1, () -> customerRepository.findByMobileNumber(neighbour))).isPresent();
+    }
+
+    @Test
+    void searchReadsEveryShardInOneRequest() throws Exception {
+        create("Scatter Zero", mobileNumberOn(0));
+        create("Scatter One", mobileNumberOn(1));
+
+        mockMvc.perform(get("/api/customers/search").param("namePrefix", "Scatter"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers.length()").value(2))
+                .andExpect(jsonPath("$.customers[0].name").value("Scatter One"))
+                .andExpect(jsonPath("$.customers[1].name").value("Scatter Zero"));
+    }
+
+    private void create(String name, String mobileNumber) {
+        iAccountsService.createAccount(new CustomerDto(name, mobileNumber + "@eazybytes.com", mobileNumber, null));
+    }
+
+    private String mobileNumberOn(int shard) {
+        while (true) {
+            String mobileNumber = String.valueOf(NEXT_MOBILE_NUMBER.getAndIncrement());
+            if (shardRouter.shardOf(mobileNumber) == shard) {
+                return mobileNumber;
+            }
+        }
+    }
+}
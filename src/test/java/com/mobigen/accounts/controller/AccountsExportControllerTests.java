@@ -0,0 +1,132 @@
+package com.mobigen.accounts.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.dto.AccountsExportDto;
+
+// page 크기를 2 로 두어 account 가 여러개인 customer 의 행 중간에 page 경계가 오도록 한다.
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "accounts.rate-limit.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:export-tests;DB_CLOSE_DELAY=-1",
+        "accounts.export.page-size=2",
+        "accounts.export.fetch-size=1"
+})
+@AutoConfigureMockMvc
+class AccountsExportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM customer");
+        insertCustomer(1, "Single", "9000000001");
+        insertAccount(1, 1000000001L);
+        insertCustomer(2, "Multi", "9000000002");
+        insertAccount(2, 1000000002L);
+        insertAccount(2, 1000000003L);
+        insertAccount(2, 1000000004L);
+        insertCustomer(3, "Last", "9000000003");
+        insertAccount(3, 1000000005L);
+    }
+
+    @Test
+    void exportsEveryAccountAsNdjson() throws Exception {
+        List<AccountsExportDto> rows = exportNdjson(null);
+
+        assertThat(rows).extracting(AccountsExportDto::accountNumber)
+                .containsExactly(1000000001L, 1000000002L, 1000000003L, 1000000004L, 1000000005L);
+        assertThat(rows).extracting(AccountsExportDto::name)
+                .containsExactly("Single", "Multi", "Multi", "Multi", "Last");
+    }
+
+    @Test
+    void resumesAfterRowInsideCustomer() throws Exception {
+        List<AccountsExportDto> rows = exportNdjson(null);
+
+        // Multi 의 첫번째 account 까지 받은 뒤 끊긴 경우
+        List<AccountsExportDto> resumed = exportNdjson(rows.get(1).cursor());
+
+        assertThat(resumed).isEqualTo(rows.subList(2, rows.size()));
+    }
+
+    @Test
+    void exportsCsvWithHeader() throws Exception {
+        String[] lines = export("format", "csv").split("\n");
+
+        assertThat(lines).hasSize(6);
+        assertThat(lines[0]).isEqualTo("customerId,name,email,mobileNumber,accountNumber,accountType,branchAddress,cursor");
+        assertThat(lines[2]).startsWith("2,Multi,multi@eazybytes.com,9000000002,1000000002,Savings,\"1 Main Street, New York\",");
+    }
+
+    @Test
+    void rejectsInvalidResumeToken() throws Exception {
+        mockMvc.perform(get("/api/accounts/export").param("resumeToken", "not a token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<AccountsExportDto> exportNdjson(String resumeToken) throws Exception {
+        String body = resumeToken == null ? export() : export("resumeToken", resumeToken);
+        return Arrays.stream(body.split("\n"))
+                .map(this::read)
+                .toList();
+    }
+
+    private AccountsExportDto read(String line) {
+        try {
+            return objectMapper.readValue(line, AccountsExportDto.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String export(String... params) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/api/accounts/export");
+        for (int i = 0; i < params.length; i += 2) {
+            builder.param(params[i], params[i + 1]);
+        }
+        MvcResult result = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private void insertCustomer(long customerId, String name, String mobileNumber) {
+        jdbcTemplate.update("INSERT INTO customer (customer_id, name, email, mobile_number, created_at, created_by) "
+                + "VALUES (?, ?, ?, ?, CURRENT_DATE, 'test')", customerId, name, name.toLowerCase() + "@eazybytes.com",
+                mobileNumber);
+    }
+
+    private void insertAccount(long customerId, long accountNumber) {
+        jdbcTemplate.update("INSERT INTO accounts (customer_id, account_number, account_type, branch_address, "
+                + "created_at, created_by) VALUES (?, ?, 'Savings', '1 Main Street, New York', CURRENT_DATE, 'test')",
+                customerId, accountNumber);
+    }
+}
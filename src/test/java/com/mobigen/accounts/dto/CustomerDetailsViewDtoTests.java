@@ -0,0 +1,47 @@
+package com.mobigen.accounts.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+class CustomerDetailsViewDtoTests {
+
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+
+    private final CustomerDto customerDto = new CustomerDto("Eazy Bytes", "tutor@eazybytes.com", "9345432123",
+            new AccountsDto(1234567890L, "Savings", "123 Main Street, New York"));
+    private final CardsDto cardsDto = new CardsDto("9345432123", "100646930341", "Credit Card", 100000, 1000, 99000);
+    private final LoansDto loansDto = new LoansDto("9345432123", "548732457654", "Home Loan", 100000, 1000, 99000);
+
+    @Test
+    void jsonIsSameAsCustomerDetailsDto() throws Exception {
+        CustomerDetailsViewDto view = new CustomerDetailsViewDto(jsonMapper.writeValueAsString(customerDto),
+                jsonMapper.writeValueAsString(loansDto), jsonMapper.writeValueAsString(cardsDto));
+
+        assertThat(jsonMapper.writeValueAsString(view))
+                .isEqualTo(jsonMapper.writeValueAsString(CustomerDetailsDto.of(customerDto, loansDto, cardsDto)));
+    }
+
+    @Test
+    void missingPartsAreWrittenAsNull() throws Exception {
+        CustomerDetailsViewDto view = new CustomerDetailsViewDto(jsonMapper.writeValueAsString(customerDto), null,
+                null);
+
+        assertThat(jsonMapper.writeValueAsString(view))
+                .isEqualTo(jsonMapper.writeValueAsString(CustomerDetailsDto.of(customerDto, null, null)));
+    }
+
+    @Test
+    void binaryEncodingIsSameAsCustomerDetailsDto() throws Exception {
+        CustomerDetailsViewDto view = new CustomerDetailsViewDto(jsonMapper.writeValueAsString(customerDto),
+                jsonMapper.writeValueAsString(loansDto), null);
+
+        assertThat(cborMapper.readTree(cborMapper.writeValueAsBytes(view)))
+                .isEqualTo(cborMapper.readTree(cborMapper.writeValueAsBytes(CustomerDetailsDto.of(customerDto, loansDto, null))));
+    }
+}
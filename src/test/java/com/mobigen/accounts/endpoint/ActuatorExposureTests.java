@@ -0,0 +1,30 @@
+package com.mobigen.accounts.endpoint;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+// 기본 설정에서 /actuator/jfr 는 web 으로 노출되지 않고, fault-injection profile 이 아니면 /actuator/faults 도 없다.
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "accounts.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+class ActuatorExposureTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void flightRecorderIsNotExposedOverWeb() throws Exception {
+        mockMvc.perform(get("/actuator/jfr")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/faults")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/membership")).andExpect(status().isOk());
+    }
+}
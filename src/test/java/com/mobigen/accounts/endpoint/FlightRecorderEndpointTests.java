@@ -0,0 +1,82 @@
+package com.mobigen.accounts.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import com.mobigen.accounts.jfr.AccountFetchEvent;
+import com.mobigen.accounts.jfr.AccountsEvent;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecorderEndpointTests {
+
+    private static final String NAME = "endpoint-test";
+
+    private final FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint();
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop(NAME);
+    }
+
+    @Test
+    void sensitiveEventsAreDisabledForEverySettings() {
+        for (String settings : List.of("default", "profile")) {
+            endpoint.start(NAME, settings, null, null);
+            Recording recording = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                    .filter(r -> NAME.equals(r.getName())).findFirst().orElseThrow();
+
+            FlightRecorderEndpoint.SENSITIVE_EVENTS.forEach(event ->
+                    assertThat(recording.getSettings()).containsEntry(event + "#enabled", "false"));
+            endpoint.stop(NAME);
+        }
+    }
+
+    @Test
+    void dumpContainsAccountsEventsButNoEnvironment() throws Exception {
+        endpoint.start(NAME, null, null, null);
+        AccountFetchEvent event = new AccountFetchEvent();
+        event.begin();
+        event.finish(AccountsEvent.FOUND);
+
+        WebEndpointResponse<Resource> response = endpoint.dump(NAME);
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        List<RecordedEvent> events = read(response.getBody());
+
+        assertThat(events).anySatisfy(recorded -> {
+            assertThat(recorded.getEventType().getName()).isEqualTo("com.mobigen.accounts.AccountFetch");
+            assertThat(recorded.getString("outcome")).isEqualTo(AccountsEvent.FOUND);
+        });
+        assertThat(events).noneMatch(recorded ->
+                FlightRecorderEndpoint.SENSITIVE_EVENTS.contains(recorded.getEventType().getName()));
+    }
+
+    @Test
+    void unknownRecordingIsNotFound() {
+        assertThat(endpoint.dump("missing").getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.stop("missing").getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    private static List<RecordedEvent> read(Resource resource) throws Exception {
+        Path file = Files.createTempFile("endpoint-test-", ".jfr");
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.mobigen.accounts.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.mobigen.accounts.dto.ErrorResponseDto;
+
+class GlobalExceptionHandlerTests {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/fetch"));
+
+    @Test
+    void unexpectedExceptionDetailsAreNotReturned() {
+        ResponseEntity<ErrorResponseDto> response = handler.handleGlobalException(
+                new IllegalStateException("Connection to jdbc:mysql://10.0.0.5:3306/accounts refused"), webRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().errorMessage()).isEqualTo(GlobalExceptionHandler.INTERNAL_SERVER_ERROR_MESSAGE);
+    }
+
+    @Test
+    void domainNotFoundIsFixedResponse() {
+        ResponseEntity<Object> response = handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Customer", "mobileNumber", "9345432123"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"errorCode\":\"NOT_FOUND\",\"errorMessage\":\""
+                        + GlobalExceptionHandler.RESOURCE_NOT_FOUND_MESSAGE + "\"}");
+        // 다른 입력값이어도 같은 응답을 재사용
+        assertThat(handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Customer", "mobileNumber", "9000000000"))).isSameAs(response);
+    }
+
+    @Test
+    void customerAlreadyExistsIsFixedResponse() {
+        ResponseEntity<Object> response = handler.handleCustomerAlreadyExistsException(
+                new CustomerAlreadyExistsException("Customer already registered with given mobileNumber 9345432123"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8))
+                .contains(GlobalExceptionHandler.CUSTOMER_ALREADY_EXISTS_MESSAGE);
+    }
+}
@@ -0,0 +1,47 @@
+package com.mobigen.accounts.fault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FaultInjectorTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FaultInjector faultInjector = new FaultInjector(meterRegistry);
+
+    @Test
+    void noRuleMeansNoFault() {
+        assertThat(faultInjector.apply("feign:cards")).isEqualTo(Fault.NONE);
+        assertThat(faultInjector.apply(FaultInjector.DB)).isEqualTo(Fault.NONE);
+    }
+
+    @Test
+    void specificTargetOverridesGroup() {
+        faultInjector.put(FaultInjector.FEIGN, new FaultRule(0, 1.0, 0, 0));
+        faultInjector.put("feign:loans", new FaultRule(0, 0, 1.0, 0));
+
+        assertThat(faultInjector.apply("feign:cards")).isEqualTo(Fault.ERROR);
+        assertThat(faultInjector.apply("feign:loans")).isEqualTo(Fault.TIMEOUT);
+        assertThat(faultInjector.apply(FaultInjector.STREAM)).isEqualTo(Fault.NONE);
+        assertThat(meterRegistry.get("accounts.faults.injected").tag("target", "feign:cards").counter().count()).isEqualTo(1);
+
+        faultInjector.remove("feign:loans");
+        assertThat(faultInjector.apply("feign:loans")).isEqualTo(Fault.ERROR);
+    }
+
+    @Test
+    void latencyIsAddedToEveryCall() {
+        faultInjector.put(FaultInjector.DB, new FaultRule(50, 0, 0, 0));
+        long start = System.nanoTime();
+        assertThat(faultInjector.apply(FaultInjector.DB)).isEqualTo(Fault.NONE);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(50_000_000L);
+    }
+
+    @Test
+    void rejectsInvalidRates() {
+        assertThatThrownBy(() -> new FaultRule(0, 1.5, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.mobigen.accounts.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.mobigen.accounts.exception.GlobalExceptionHandler;
+import com.mobigen.accounts.exception.ResourceNotFoundException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+class GrpcExceptionTranslatorTests {
+
+    @Test
+    void unexpectedExceptionDetailsAreNotReturned() {
+        StatusRuntimeException exception = GrpcExceptionTranslator.toStatusException(
+                new IllegalStateException("Connection to jdbc:mysql://10.0.0.5:3306/accounts refused"));
+
+        assertThat(exception.getStatus().getCode()).isEqualTo(Status.Code.INTERNAL);
+        assertThat(exception.getStatus().getDescription()).isEqualTo(GlobalExceptionHandler.INTERNAL_SERVER_ERROR_MESSAGE);
+        assertThat(exception.getStatus().getCause()).isNull();
+    }
+
+    @Test
+    void dependencyUnavailableIsUnavailable() {
+        StatusRuntimeException exception = GrpcExceptionTranslator.toStatusException(
+                BulkheadFullException.createBulkheadFullException(Bulkhead.of("db", BulkheadConfig.ofDefaults())));
+
+        assertThat(exception.getStatus().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+        assertThat(exception.getStatus().getDescription()).isEqualTo(GlobalExceptionHandler.SERVICE_UNAVAILABLE_MESSAGE);
+    }
+
+    @Test
+    void notFoundUsesRestMessage() {
+        StatusRuntimeException exception = GrpcExceptionTranslator.toStatusException(
+                new ResourceNotFoundException("Customer", "mobileNumber", "9345432123"));
+
+        assertThat(exception.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+        assertThat(exception.getStatus().getDescription()).isEqualTo(GlobalExceptionHandler.RESOURCE_NOT_FOUND_MESSAGE);
+    }
+}
@@ -0,0 +1,46 @@
+package com.mobigen.accounts.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InFlightTrackerTests {
+
+    private final InFlightTracker tracker = new InFlightTracker(new SimpleMeterRegistry());
+
+    @Test
+    void idleTrackerReturnsImmediately() {
+        assertThat(tracker.awaitIdle(System.nanoTime())).isTrue();
+    }
+
+    @Test
+    void waitsUntilCallsFinish() {
+        tracker.feignStarted();
+        tracker.sendStarted();
+        CompletableFuture.runAsync(() -> {
+            tracker.feignFinished();
+            tracker.sendFinished();
+        }, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        assertThat(tracker.awaitIdle(start + TimeUnit.SECONDS.toNanos(5))).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(tracker.feignCalls()).isZero();
+        assertThat(tracker.streamSends()).isZero();
+    }
+
+    @Test
+    void givesUpAtDeadline() {
+        tracker.sendStarted();
+
+        long start = System.nanoTime();
+        assertThat(tracker.awaitIdle(start + TimeUnit.MILLISECONDS.toNanos(200))).isFalse();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(tracker.streamSends()).isEqualTo(1);
+    }
+}
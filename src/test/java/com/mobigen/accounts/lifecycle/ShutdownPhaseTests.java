@@ -0,0 +1,74 @@
+package com.mobigen.accounts.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.audit.AuditEventWriter;
+import com.mobigen.accounts.grpc.GrpcServerLifecycle;
+import com.mobigen.accounts.service.IAccountsBatchService;
+import com.mobigen.accounts.service.IAccountsService;
+import com.mobigen.accounts.service.ICustomersService;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+
+// 종료 순서: traffic drain → (stream consumer) → HTTP / gRPC drain → outbound drain → audit flush
+class ShutdownPhaseTests {
+
+    private final TuningRegistry tuningRegistry = mock(TuningRegistry.class);
+
+    @SuppressWarnings("unchecked")
+    private final TrafficDrainLifecycle trafficDrain = new TrafficDrainLifecycle(mock(ApplicationEventPublisher.class),
+            mock(ObjectProvider.class), tuningRegistry);
+    private final OutboundDrainLifecycle outboundDrain = new OutboundDrainLifecycle(
+            new InFlightTracker(new SimpleMeterRegistry()), tuningRegistry);
+    private final AuditEventWriter auditEventWriter = new AuditEventWriter(mock(DataSource.class), new ObjectMapper(),
+            new SimpleMeterRegistry(), tuningRegistry, 10, 10, 200, 1000);
+    private final GrpcServerLifecycle grpcServer = new GrpcServerLifecycle(mock(IAccountsService.class),
+            mock(ICustomersService.class), mock(IAccountsBatchService.class), mock(Validator.class), 0, 4194304, 1000);
+
+    @Test
+    void phases() {
+        assertThat(trafficDrain.getPhase()).isEqualTo(SmartLifecycle.DEFAULT_PHASE);
+        assertThat(grpcServer.getPhase()).isEqualTo(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE);
+        assertThat(outboundDrain.getPhase()).isEqualTo(SmartLifecycle.DEFAULT_PHASE - 3072);
+        assertThat(auditEventWriter.getPhase()).isEqualTo(SmartLifecycle.DEFAULT_PHASE - 4096);
+    }
+
+    @Test
+    void stopOrder() {
+        // phase 가 큰 것부터 멈춘다.
+        List<SmartLifecycle> stopOrder = Stream.of(auditEventWriter, outboundDrain, grpcServer, trafficDrain)
+                .sorted(Comparator.comparingInt(SmartLifecycle::getPhase).reversed())
+                .toList();
+
+        assertThat(stopOrder).containsExactly(trafficDrain, grpcServer, outboundDrain, auditEventWriter);
+    }
+
+    @Test
+    void grpcStopDoesNotBlockWebServerDrain() throws Exception {
+        grpcServer.start();
+        CountDownLatch stopped = new CountDownLatch(1);
+
+        grpcServer.stop(stopped::countDown);
+
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(grpcServer.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,92 @@
+package com.mobigen.accounts.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import com.github.fppt.jedismock.RedisServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// jedis-mock (in-process Redis) 로 두개의 replica 가 하나의 bucket 을 공유하는지 확인
+class DistributedRateLimiterTests {
+
+    private RedisServer redisServer;
+    private boolean redisRunning;
+    private LettuceConnectionFactory connectionFactory;
+    private RateLimitProperties properties;
+    private RateLimitProperties.Policy policy;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        redisRunning = true;
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        properties = new RateLimitProperties();
+        properties.setRedisTimeoutMs(1000);
+        properties.setFallbackReplicas(2);
+        policy = new RateLimitProperties.Policy();
+        policy.setName("read");
+        policy.setCapacity(4);
+        policy.setRefillPerSecond(0.001);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        if (redisRunning) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void bucketIsSharedAcrossReplicas() {
+        DistributedRateLimiter replica1 = limiter();
+        DistributedRateLimiter replica2 = limiter();
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(replica1.tryAcquire("ip:10.0.0.1", policy).allowed()).isTrue();
+            assertThat(replica2.tryAcquire("ip:10.0.0.1", policy).allowed()).isTrue();
+        }
+        RateLimitDecision rejected = replica1.tryAcquire("ip:10.0.0.1", policy);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.source()).isEqualTo(RateLimitDecision.SOURCE_REDIS);
+        assertThat(rejected.retryAfterMs()).isPositive();
+
+        // 다른 client 는 별도 bucket
+        assertThat(replica2.tryAcquire("ip:10.0.0.2", policy).allowed()).isTrue();
+    }
+
+    @Test
+    void fallsBackToLocalLimiterWhenRedisIsDown() throws IOException {
+        DistributedRateLimiter limiter = limiter();
+        redisServer.stop();
+        redisRunning = false;
+
+        // local limiter 는 capacity / fallbackReplicas 만큼 허용
+        RateLimitDecision first = limiter.tryAcquire("ip:10.0.0.1", policy);
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.source()).isEqualTo(RateLimitDecision.SOURCE_LOCAL);
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", policy).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", policy).allowed()).isFalse();
+    }
+
+    private DistributedRateLimiter limiter() {
+        LocalRateLimiter localRateLimiter = new LocalRateLimiter(properties.getFallbackReplicas(),
+                properties.getLocalMaxBuckets());
+        return new DistributedRateLimiter(new ReactiveStringRedisTemplate(connectionFactory), localRateLimiter,
+                properties, new SimpleMeterRegistry());
+    }
+}
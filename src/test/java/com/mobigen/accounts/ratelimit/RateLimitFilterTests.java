@@ -0,0 +1,84 @@
+package com.mobigen.accounts.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobigen.accounts.tuning.Tuning;
+import com.mobigen.accounts.tuning.TuningRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTests {
+
+    // SHA-256("partner-secret")
+    private static final String PARTNER_KEY_SHA256 = "25386993910f585ef9789d1de56b13c385f18751de51daf6050d20bd4fd65623";
+
+    private final DistributedRateLimiter rateLimiter = mock(DistributedRateLimiter.class);
+    private final TuningRegistry tuningRegistry = mock(TuningRegistry.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName("read");
+        policy.setPaths(List.of("/api/**"));
+        when(tuningRegistry.current()).thenReturn(new Tuning(0, 0, 1, 0, 0, 0, 0, 0, 0, List.of(policy)));
+        when(rateLimiter.tryAcquire(anyString(), any()))
+                .thenReturn(new RateLimitDecision(true, 10, 0, RateLimitDecision.SOURCE_REDIS));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setApiKeys(Map.of("partner", PARTNER_KEY_SHA256));
+        filter = new RateLimitFilter(rateLimiter, properties, tuningRegistry, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void registeredApiKeyIsClient() {
+        MockHttpServletRequest request = request("10.0.0.1");
+        request.addHeader("X-API-Key", "partner-secret");
+
+        assertThat(filter.client(request)).isEqualTo("key:partner");
+    }
+
+    @Test
+    void unknownApiKeyAndForwardedForAreIgnored() {
+        MockHttpServletRequest request = request("203.0.113.7");
+        request.addHeader("X-API-Key", "random-" + System.nanoTime());
+        request.addHeader("X-Forwarded-For", "198.51.100.1, 203.0.113.7");
+
+        assertThat(filter.client(request)).isEqualTo("ip:203.0.113.7");
+    }
+
+    @Test
+    void counterIsRegisteredOncePerPolicyAndOutcome() throws Exception {
+        int meters = meterRegistry.getMeters().size();
+
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(request("10.0.0." + i), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(meterRegistry.get("accounts.rate-limit.requests")
+                .tags("policy", "read", "result", "allowed", "source", RateLimitDecision.SOURCE_REDIS)
+                .counter().count()).isEqualTo(3);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/fetch");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
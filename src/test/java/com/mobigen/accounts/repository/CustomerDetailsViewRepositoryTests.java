@@ -0,0 +1,109 @@
+package com.mobigen.accounts.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mobigen.accounts.repository.CustomerDetailsViewRepository.Row;
+
+class CustomerDetailsViewRepositoryTests {
+
+    private static final String MOBILE_NUMBER = "9345432123";
+
+    private CustomerDetailsViewRepository repository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:view;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/h2/schema.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM customer_details_view");
+        repository = new CustomerDetailsViewRepository(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void fillKeepsExistingPartsInOneTransaction() {
+        repository.upsert(MOBILE_NUMBER, CustomerDetailsViewRepository.CUSTOMER, "{\"name\":\"saved\"}");
+
+        // createAccount 가 customer 를 저장한 뒤의 read-through: customer 는 그대로, cards / loans 는 추가
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.insertIfAbsent(MOBILE_NUMBER, CustomerDetailsViewRepository.CUSTOMER, "{\"name\":\"composed\"}", null);
+            repository.insertIfAbsent(MOBILE_NUMBER, CustomerDetailsViewRepository.CARDS, "{\"card\":1}", hourAgo());
+            repository.insertIfAbsent(MOBILE_NUMBER, CustomerDetailsViewRepository.LOANS, "{\"loan\":1}", hourAgo());
+        });
+
+        assertThat(repository.find(MOBILE_NUMBER, hourAgo()))
+                .contains(new Row("{\"name\":\"saved\"}", "{\"card\":1}", "{\"loan\":1}", null));
+    }
+
+    @Test
+    void insertIfAbsentCreatesRowInTransaction() {
+        transactionTemplate.executeWithoutResult(status ->
+                repository.insertIfAbsent(MOBILE_NUMBER, CustomerDetailsViewRepository.CARDS, "{\"card\":1}", hourAgo()));
+
+        assertThat(repository.find(MOBILE_NUMBER, hourAgo())).contains(new Row(null, "{\"card\":1}", null, null));
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void customerVersionIsWrittenWithCustomer() {
+        repository.insertCustomerIfAbsent(MOBILE_NUMBER, "{\"name\":\"composed\"}", "\"1-0-0\"");
+        assertThat(repository.find(MOBILE_NUMBER, hourAgo()).map(Row::customerVersion)).contains("\"1-0-0\"");
+
+        repository.upsertCustomer(MOBILE_NUMBER, "{\"name\":\"updated\"}", "\"1-1-0\"");
+        assertThat(repository.find(MOBILE_NUMBER, hourAgo()))
+                .contains(new Row("{\"name\":\"updated\"}", null, null, "\"1-1-0\""));
+
+        // version 을 모르는 기록은 이전 version 을 남기지 않는다.
+        repository.upsert(MOBILE_NUMBER, CustomerDetailsViewRepository.CUSTOMER, "{\"name\":\"unknown\"}");
+        assertThat(repository.find(MOBILE_NUMBER, hourAgo()).map(Row::customerVersion)).isEmpty();
+    }
+
+    @Test
+    void eventValueIsKeptUntilStale() {
+        repository.upsert(MOBILE_NUMBER, CustomerDetailsViewRepository.CARDS, "{\"card\":\"event\"}");
+
+        repository.insertIfAbsent(MOBILE_NUMBER, CustomerDetailsViewRepository.CARDS, "{\"card\":\"fill\"}", hourAgo());
+        assertThat(repository.find(MOBILE_NUMBER, hourAgo()).map(Row::cards)).contains("{\"card\":\"event\"}");
+
+        repository.insertIfAbsent(MOBILE_NUMBER, CustomerDetailsViewRepository.CARDS, "{\"card\":\"fill\"}", hourLater());
+        assertThat(repository.find(MOBILE_NUMBER, hourAgo()).map(Row::cards)).contains("{\"card\":\"fill\"}");
+    }
+
+    @Test
+    void staleDownstreamIsReadAsMissing() {
+        repository.upsert(MOBILE_NUMBER, CustomerDetailsViewRepository.CUSTOMER, "{\"name\":\"saved\"}");
+        repository.upsert(MOBILE_NUMBER, CustomerDetailsViewRepository.CARDS, "{\"card\":1}");
+        repository.upsert(MOBILE_NUMBER, CustomerDetailsViewRepository.LOANS, "{\"loan\":1}");
+
+        assertThat(repository.find(MOBILE_NUMBER, hourLater()))
+                .contains(new Row("{\"name\":\"saved\"}", null, null, null));
+    }
+
+    @Test
+    void upsertNullRemovesPart() {
+        repository.upsert(MOBILE_NUMBER, CustomerDetailsViewRepository.LOANS, "{\"loan\":1}");
+        repository.upsert(MOBILE_NUMBER, CustomerDetailsViewRepository.LOANS, null);
+
+        assertThat(repository.find(MOBILE_NUMBER, hourAgo())).contains(new Row(null, null, null, null));
+    }
+
+    private static Timestamp hourAgo() {
+        return new Timestamp(System.currentTimeMillis() - 3600_000);
+    }
+
+    private static Timestamp hourLater() {
+        return new Timestamp(System.currentTimeMillis() + 3600_000);
+    }
+}
@@ -0,0 +1,40 @@
+package com.mobigen.accounts.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTests {
+
+    @Test
+    void retriesAreLimitedByMaxTokens() {
+        RetryBudget budget = new RetryBudget(0.1, 2);
+
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).isFalse();
+    }
+
+    @Test
+    void callsRefillBudgetByRatio() {
+        RetryBudget budget = new RetryBudget(0.1, 1);
+        assertThat(budget.tryRetry()).isTrue();
+
+        for (int i = 0; i < 9; i++) {
+            budget.onCall();
+        }
+        assertThat(budget.tryRetry()).isFalse();
+
+        budget.onCall();
+        assertThat(budget.tryRetry()).isTrue();
+    }
+
+    @Test
+    void tokensNeverExceedMax() {
+        RetryBudget budget = new RetryBudget(0.5, 3);
+        for (int i = 0; i < 100; i++) {
+            budget.onCall();
+        }
+        assertThat(budget.tokens()).isEqualTo(3.0);
+    }
+}
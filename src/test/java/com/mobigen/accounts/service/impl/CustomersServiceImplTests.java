@@ -0,0 +1,70 @@
+package com.mobigen.accounts.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.mobigen.accounts.cache.MobileNumberMembership;
+import com.mobigen.accounts.config.ShardRouter;
+import com.mobigen.accounts.dto.CardsDto;
+import com.mobigen.accounts.dto.CustomerDetailsViewDto;
+import com.mobigen.accounts.dto.LoansDto;
+import com.mobigen.accounts.entity.Accounts;
+import com.mobigen.accounts.entity.Customer;
+import com.mobigen.accounts.repository.AccountsRepository;
+import com.mobigen.accounts.repository.CustomerRepository;
+import com.mobigen.accounts.service.ICustomerDetailsViewService;
+import com.mobigen.accounts.service.client.CardsFeignClient;
+import com.mobigen.accounts.service.client.LoansFeignClient;
+
+class CustomersServiceImplTests {
+
+    private static final String MOBILE_NUMBER = "9345432123";
+    private static final String CORRELATION_ID = "test-correlation-id";
+
+    private final AccountsRepository accountsRepository = mock(AccountsRepository.class);
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CardsFeignClient cardsFeignClient = mock(CardsFeignClient.class);
+    private final LoansFeignClient loansFeignClient = mock(LoansFeignClient.class);
+    private final ICustomerDetailsViewService customerDetailsViewService = mock(ICustomerDetailsViewService.class);
+
+    private CustomersServiceImpl customersService;
+
+    @BeforeEach
+    void setUp() {
+        customersService = new CustomersServiceImpl(accountsRepository, customerRepository, cardsFeignClient,
+                loansFeignClient, mock(MobileNumberMembership.class), customerDetailsViewService,
+                new ShardRouter(1, mock(PlatformTransactionManager.class)));
+        when(customerRepository.findByMobileNumber(MOBILE_NUMBER))
+                .thenReturn(Optional.of(new Customer(1L, "Eazy Bytes", "tutor@eazybytes.com", MOBILE_NUMBER)));
+        when(accountsRepository.findByCustomerId(1L))
+                .thenReturn(Optional.of(new Accounts(1234567890L, "Savings", "123 Main Street, New York", 1L)));
+        when(loansFeignClient.fetchLoanDetails(CORRELATION_ID, MOBILE_NUMBER)).thenReturn(ResponseEntity.ok(
+                new LoansDto(MOBILE_NUMBER, "548732457654", "Home Loan", 100000, 1000, 99000)));
+        when(cardsFeignClient.fetchCardDetails(CORRELATION_ID, MOBILE_NUMBER)).thenReturn(ResponseEntity.ok(
+                new CardsDto(MOBILE_NUMBER, "100646930341", "Credit Card", 100000, 1000, 99000)));
+    }
+
+    @Test
+    void respondsWithComposedDetailsWhenReadModelFillFails() {
+        CustomerDetailsViewDto composed = new CustomerDetailsViewDto("{\"name\":\"Eazy Bytes\"}", "{}", "{}");
+        when(customerDetailsViewService.findView(MOBILE_NUMBER)).thenReturn(Optional.empty());
+        when(customerDetailsViewService.toView(any(), any())).thenReturn(composed);
+        doThrow(new DataAccessResourceFailureException("read model unavailable"))
+                .when(customerDetailsViewService).fill(MOBILE_NUMBER, composed);
+
+        assertThat(customersService.fetchCustomerDetailsView(MOBILE_NUMBER, CORRELATION_ID)).isSameAs(composed);
+        verify(customerDetailsViewService).fill(MOBILE_NUMBER, composed);
+    }
+}
@@ -0,0 +1,63 @@
+package com.mobigen.accounts.tuning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class TuningRegistryTests {
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("accounts.etag.downstream-ttl-ms", "30000")
+            .withProperty("accounts.rate-limit.policies[0].name", "read")
+            .withProperty("accounts.rate-limit.policies[0].paths", "/api/**")
+            .withProperty("accounts.rate-limit.policies[0].capacity", "200");
+    private final List<Object> events = new ArrayList<>();
+    private final TuningRegistry registry = new TuningRegistry(environment, events::add);
+
+    @Test
+    void reloadReplacesSnapshotAndRecordsChanges() {
+        Tuning before = registry.current();
+        environment.setProperty("accounts.etag.downstream-ttl-ms", "1000");
+        environment.setProperty("accounts.rate-limit.policies[0].capacity", "50");
+
+        registry.reload();
+
+        Tuning after = registry.current();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.etagDownstreamTtlMs()).isEqualTo(1000);
+        assertThat(after.rateLimitPolicies().get(0).getCapacity()).isEqualTo(50);
+        assertThat(before.etagDownstreamTtlMs()).isEqualTo(30000);
+        assertThat(registry.version()).isEqualTo(2);
+        assertThat(registry.history()).extracting(TuningChange::key)
+                .containsExactly("accounts.etag.downstream-ttl-ms", "accounts.rate-limit.policies[0].capacity");
+        assertThat(events).singleElement().isInstanceOf(TuningChangedEvent.class);
+    }
+
+    @Test
+    void invalidValueKeepsPreviousSnapshot() {
+        Tuning before = registry.current();
+        environment.setProperty("accounts.etag.downstream-ttl-ms", "1000");
+        environment.setProperty("accounts.sql.timing.sample-rate", "1.5");
+
+        registry.reload();
+
+        assertThat(registry.current()).isSameAs(before);
+        assertThat(registry.version()).isEqualTo(1);
+        assertThat(registry.history()).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void unchangedEnvironmentDoesNotCreateVersion() {
+        Tuning before = registry.current();
+
+        registry.reload();
+
+        assertThat(registry.current()).isSameAs(before);
+        assertThat(registry.version()).isEqualTo(1);
+    }
+}
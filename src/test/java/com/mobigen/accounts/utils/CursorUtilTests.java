@@ -0,0 +1,40 @@
+package com.mobigen.accounts.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.mobigen.accounts.exception.InvalidCursorException;
+
+class CursorUtilTests {
+
+    @Test
+    void keysContainingSeparatorsKeepTheirBoundaries() {
+        String cursor = CursorUtil.encode("name", "Kim|0|42", "", "a.b");
+
+        assertThat(CursorUtil.decode(cursor, 4)).containsExactly("name", "Kim|0|42", "", "a.b");
+    }
+
+    @Test
+    void sortValueCannotAddKeys() {
+        // 이름에 구분자가 있어도 key 개수가 바뀌지 않는다.
+        String cursor = CursorUtil.encode("name", "Kim|7", "42");
+
+        assertThat(CursorUtil.decode(cursor, 3, 4)).containsExactly("name", "Kim|7", "42");
+    }
+
+    @Test
+    void longsRoundTrip() {
+        assertThat(CursorUtil.decodeLongs(CursorUtil.encode("1", "42"), 1, 2)).containsExactly(1L, 42L);
+        assertThat(CursorUtil.decodeLong(CursorUtil.encode("42"))).isEqualTo(42L);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> CursorUtil.decode("not base64!", 1)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorUtil.decode(CursorUtil.encode("a", "b", "c"), 1, 2))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorUtil.decodeLong(CursorUtil.encode("x"))).isInstanceOf(InvalidCursorException.class);
+    }
+}